@@ -0,0 +1,77 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@code JCompilationUnit.analyze}: analyzing freshly parsed and
+ * pre-analyzed compilation units.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnalysisBenchmark {
+
+    /** The input (see {@code BenchmarkCorpus}). */
+    @Param({ "pass", "spim", "nestedExpressions:100", "statements:5000",
+            "methods:500" })
+    public String input;
+
+    /** The sources of the input. */
+    private LinkedHashMap<String, String> sources;
+
+    /** The compilation units to analyze. */
+    private ArrayList<JCompilationUnit> units;
+
+    /**
+     * Reads (or generates) the input.
+     *
+     * @exception IOException
+     *                if the input cannot be read.
+     */
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        sources = BenchmarkCorpus.sources(input);
+    }
+
+    /**
+     * Parses and pre-analyzes the input afresh, as analysis changes the ASTs.
+     */
+
+    @Setup(Level.Invocation)
+    public void preAnalyze() {
+        Type.removeCompiledTypes();
+        units = BenchmarkCorpus.parse(sources);
+        JCompilationUnit.preAnalyze(units);
+    }
+
+    /**
+     * Analyzes the input.
+     *
+     * @return the compilation units.
+     */
+
+    @Benchmark
+    public Object analyze() {
+        JCompilationUnit.analyze(units, 1);
+        return units;
+    }
+
+}
@@ -0,0 +1,196 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The inputs for the benchmarks. An input is named by a {@code @Param} string,
+ * which is either the name of a directory of j-- programs under {@code tests}
+ * ({@code pass} or {@code spim}), or a synthetic program given as
+ * {@code shape:size}, where shape is one of
+ * <ul>
+ * <li>{@code nestedExpressions}: a method returning an expression nested
+ * {@code size} parentheses deep,</li>
+ * <li>{@code statements}: a method with {@code size} statements, and</li>
+ * <li>{@code methods}: a class with {@code size} methods.</li>
+ * </ul>
+ * The synthetic programs use only static int methods, so that they can be
+ * compiled to SPIM as well as to the JVM.
+ */
+
+class BenchmarkCorpus {
+
+    /** Directory with the test programs (the benchmarks run from the root). */
+    private static final String TESTS_DIR = "tests";
+
+    /** Number of local variables in the synthetic {@code statements}. */
+    private static final int LOCALS = 8;
+
+    /**
+     * Returns the sources of the specified input, mapping their file names to
+     * their text.
+     *
+     * @param input
+     *            the input, as named by a benchmark parameter.
+     * @return the sources.
+     * @exception IOException
+     *                if the sources cannot be read.
+     */
+
+    public static LinkedHashMap<String, String> sources(String input)
+            throws IOException {
+        LinkedHashMap<String, String> sources =
+            new LinkedHashMap<String, String>();
+        int colon = input.indexOf(':');
+        if (colon < 0) {
+            File[] files = new File(TESTS_DIR, input).listFiles();
+            if (files == null) {
+                throw new IOException("no such corpus: " + TESTS_DIR
+                        + File.separator + input);
+            }
+            Arrays.sort(files);
+            for (File file : files) {
+                if (file.getName().endsWith(".java")) {
+                    sources.put(file.getPath(), new String(Files
+                            .readAllBytes(file.toPath()),
+                            StandardCharsets.UTF_8));
+                }
+            }
+        } else {
+            String shape = input.substring(0, colon);
+            int size = Integer.parseInt(input.substring(colon + 1));
+            String className = Character.toUpperCase(shape.charAt(0))
+                    + shape.substring(1);
+            sources.put(className + ".java", synthetic(className, shape, size));
+        }
+        return sources;
+    }
+
+    /**
+     * Parses the specified sources.
+     *
+     * @param sources
+     *            the sources, by file name.
+     * @return the compilation units.
+     */
+
+    public static ArrayList<JCompilationUnit> parse(Map<String, String> sources) {
+        ArrayList<JCompilationUnit> units = new ArrayList<JCompilationUnit>();
+        for (String fileName : sources.keySet()) {
+            Parser parser = new Parser(new LookaheadScanner(fileName,
+                    new StringReader(sources.get(fileName))));
+            units.add(parser.compilationUnit());
+        }
+        return units;
+    }
+
+    /**
+     * Parses, pre-analyzes, and analyzes the specified sources, forgetting any
+     * types compiled earlier.
+     *
+     * @param sources
+     *            the sources, by file name.
+     * @return the analyzed compilation units.
+     */
+
+    public static ArrayList<JCompilationUnit> analyze(
+            Map<String, String> sources) {
+        Type.removeCompiledTypes();
+        ArrayList<JCompilationUnit> units = parse(sources);
+        JCompilationUnit.preAnalyze(units);
+        JCompilationUnit.analyze(units, 1);
+        return units;
+    }
+
+    /**
+     * Compiles the specified sources to (in memory) class files.
+     *
+     * @param sources
+     *            the sources, by file name.
+     * @return the class files.
+     */
+
+    public static ArrayList<CLFile> compile(Map<String, String> sources) {
+        ArrayList<JCompilationUnit> units = analyze(sources);
+        JCompilationUnit.codegen(units, 1, false,
+                CLConstants.MAJOR_VERSION);
+        ArrayList<CLFile> clFiles = new ArrayList<CLFile>();
+        for (JCompilationUnit unit : units) {
+            clFiles.addAll(unit.clFiles());
+        }
+        return clFiles;
+    }
+
+    /**
+     * Returns a synthetic program of the specified shape and size.
+     *
+     * @param className
+     *            name of the (only) class in the program.
+     * @param shape
+     *            the shape.
+     * @param size
+     *            the size.
+     * @return the program.
+     */
+
+    private static String synthetic(String className, String shape, int size) {
+        StringBuilder s = new StringBuilder();
+        s.append("public class ").append(className).append(" {\n");
+        if (shape.equals("nestedExpressions")) {
+            String[] operators = { " + ", " - ", " * " };
+            String e = "x";
+            for (int i = 0; i < size; i++) {
+                e = "(" + e + operators[i % operators.length] + i + ")";
+            }
+            s.append("    public static int compute(int x) {\n");
+            s.append("        return ").append(e).append(";\n");
+            s.append("    }\n");
+        } else if (shape.equals("statements")) {
+            // A few locals only, as the SPIM back-end does not handle wide
+            // local variable indices
+            s.append("    public static int compute(int x) {\n");
+            for (int i = 0; i < LOCALS; i++) {
+                s.append("        int v").append(i).append(" = x;\n");
+            }
+            for (int i = 1; i < size; i++) {
+                int v = i % LOCALS, u = (i - 1) % LOCALS;
+                if (i % 10 == 0) {
+                    s.append("        if (v").append(u).append(" > 1000) {\n");
+                    s.append("            v").append(u).append(" = v")
+                            .append(u).append(" - 1000;\n");
+                    s.append("        }\n");
+                }
+                s.append("        v").append(v).append(" = v").append(u)
+                        .append(" * 3 + ").append(i).append(";\n");
+            }
+            s.append("        return v").append((size - 1) % LOCALS)
+                    .append(";\n");
+            s.append("    }\n");
+        } else if (shape.equals("methods")) {
+            for (int i = 0; i < size; i++) {
+                s.append("    public static int m").append(i)
+                        .append("(int x) {\n");
+                s.append("        return ").append(i == 0 ? "x" : "m"
+                        + (i - 1) + "(x)").append(" + ").append(i)
+                        .append(";\n");
+                s.append("    }\n");
+            }
+        } else {
+            throw new IllegalArgumentException("no such shape: " + shape);
+        }
+        s.append("}\n");
+        return s.toString();
+    }
+
+}
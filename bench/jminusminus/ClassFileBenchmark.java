@@ -0,0 +1,65 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@code CLFile.write}: serializing the class files compiled from
+ * an input to bytes.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClassFileBenchmark {
+
+    /** The input (see {@code BenchmarkCorpus}). */
+    @Param({ "pass", "spim", "statements:5000", "methods:500" })
+    public String input;
+
+    /** The class files compiled from the input. */
+    private ArrayList<CLFile> clFiles;
+
+    /**
+     * Compiles the input.
+     *
+     * @exception IOException
+     *                if the input cannot be read.
+     */
+
+    @Setup
+    public void setup() throws IOException {
+        clFiles = BenchmarkCorpus.compile(BenchmarkCorpus.sources(input));
+    }
+
+    /**
+     * Serializes the class files.
+     *
+     * @return the number of bytes written.
+     * @exception IOException
+     *                if a class file cannot be written.
+     */
+
+    @Benchmark
+    public int write() throws IOException {
+        int bytes = 0;
+        for (CLFile clFile : clFiles) {
+            bytes += clFile.toBytes().length;
+        }
+        return bytes;
+    }
+
+}
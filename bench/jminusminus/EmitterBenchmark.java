@@ -0,0 +1,80 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import static jminusminus.CLConstants.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@code CLEmitter}'s method finalization: resolving the labels of
+ * an open method, computing its maximum stack depth, and converting its
+ * instructions to bytes. The method is a run of {@code blocks} blocks of the
+ * form
+ * <pre>
+ *   iload_0
+ *   ifle L
+ *   iinc 0, -1
+ * L:
+ * </pre>
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmitterBenchmark {
+
+    /** Number of blocks in the method. */
+    @Param({ "10", "100", "1000" })
+    public int blocks;
+
+    /** The emitter, with the method open. */
+    private CLEmitter output;
+
+    /**
+     * Emits the method, leaving it open.
+     */
+
+    @Setup(Level.Invocation)
+    public void emit() {
+        output = new CLEmitter(false);
+        ArrayList<String> mods = new ArrayList<String>();
+        mods.add("public");
+        output.addClass(mods, "Emitted", "java/lang/Object", null, false);
+        mods.add("static");
+        output.addMethod(mods, "count", "(I)I", null, false);
+        for (int i = 0; i < blocks; i++) {
+            String label = output.createLabel();
+            output.addNoArgInstruction(ILOAD_0);
+            output.addBranchInstruction(IFLE, label);
+            output.addIINCInstruction(0, -1);
+            output.addLabel(label);
+        }
+        output.addNoArgInstruction(ILOAD_0);
+        output.addNoArgInstruction(IRETURN);
+    }
+
+    /**
+     * Finalizes the method.
+     *
+     * @return the class file.
+     */
+
+    @Benchmark
+    public Object endMethod() {
+        output.write();
+        return output.clFile();
+    }
+
+}
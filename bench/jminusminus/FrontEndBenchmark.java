@@ -0,0 +1,220 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import static jminusminus.TokenKind.EOF;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the two front ends against each other: the hand-written
+ * {@code Parser} (over a {@code LookaheadScanner}), and the JavaCC-generated
+ * {@code JavaCCParser}, parsing the same input into ASTs. Besides inputs
+ * parsed per second, the benchmark reports the tokens and AST nodes parsed per
+ * second (the {@code tokens} and {@code nodes} counters); run it with
+ * {@code -prof gc} for the bytes allocated per parse
+ * ({@code gc.alloc.rate.norm}).
+ * <p>
+ * Before measuring, the setup checks that the front ends agree: that the ASTs
+ * they build for the input pretty print the same.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FrontEndBenchmark {
+
+    /** The input (see {@code BenchmarkCorpus}). */
+    @Param({ "pass", "spim", "nestedExpressions:100", "statements:5000",
+            "methods:500" })
+    public String input;
+
+    /** The front end: {@code handwritten} or {@code javacc}. */
+    @Param({ "handwritten", "javacc" })
+    public String frontEnd;
+
+    /** The sources of the input. */
+    private LinkedHashMap<String, String> sources;
+
+    /** Number of tokens in the input. */
+    private int tokens;
+
+    /** Number of AST nodes for the input. */
+    private int nodes;
+
+    /**
+     * The tokens and AST nodes parsed, which JMH reports per second.
+     */
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+
+        /** Tokens parsed. */
+        public long tokens;
+
+        /** AST nodes built. */
+        public long nodes;
+
+    }
+
+    /**
+     * Reads (or generates) the input, checks that the front ends build the
+     * same ASTs for it, and counts its tokens and AST nodes.
+     *
+     * @exception IOException
+     *                if the input cannot be read.
+     * @exception IllegalStateException
+     *                if the front ends disagree.
+     */
+
+    @Setup
+    public void setup() throws IOException {
+        sources = BenchmarkCorpus.sources(input);
+        ArrayList<JCompilationUnit> units = BenchmarkCorpus.parse(sources);
+        if (!prettyPrint(units).equals(prettyPrint(parseJavaCC(sources)))) {
+            throw new IllegalStateException("The front ends build different "
+                    + "ASTs for " + input);
+        }
+        tokens = 0;
+        for (String fileName : sources.keySet()) {
+            Scanner scanner = new Scanner(fileName, new StringReader(sources
+                    .get(fileName)));
+            while (scanner.getNextToken().kind() != EOF) {
+                tokens++;
+            }
+        }
+        IdentityHashMap<Object, Boolean> seen =
+            new IdentityHashMap<Object, Boolean>();
+        for (JCompilationUnit unit : units) {
+            countNodes(unit, seen);
+        }
+        nodes = seen.size();
+    }
+
+    /**
+     * Parses the input with the front end.
+     *
+     * @param counters
+     *            the tokens and AST nodes parsed.
+     * @return the compilation units.
+     */
+
+    @Benchmark
+    public Object parse(Counters counters) {
+        counters.tokens += tokens;
+        counters.nodes += nodes;
+        return frontEnd.equals("javacc") ? parseJavaCC(sources)
+                : BenchmarkCorpus.parse(sources);
+    }
+
+    /**
+     * Parses the specified sources with the JavaCC front end.
+     *
+     * @param sources
+     *            the sources, by file name.
+     * @return the compilation units.
+     * @exception IllegalStateException
+     *                if a source does not parse.
+     */
+
+    private static ArrayList<JCompilationUnit> parseJavaCC(
+            LinkedHashMap<String, String> sources) {
+        ArrayList<JCompilationUnit> units = new ArrayList<JCompilationUnit>();
+        for (String fileName : sources.keySet()) {
+            JavaCCParser parser = new JavaCCParser(new StringReader(sources
+                    .get(fileName)));
+            parser.fileName(fileName);
+            try {
+                units.add(parser.compilationUnit());
+            } catch (ParseException e) {
+                throw new IllegalStateException(e.getMessage());
+            }
+        }
+        return units;
+    }
+
+    /**
+     * Returns the ASTs of the specified compilation units, pretty printed.
+     *
+     * @param units
+     *            the compilation units.
+     * @return the pretty printed ASTs.
+     */
+
+    private static String prettyPrint(ArrayList<JCompilationUnit> units) {
+        // PrettyPrinter prints to STDOUT only
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream stdout = System.out;
+        System.setOut(new PrintStream(bytes, true));
+        try {
+            for (JCompilationUnit unit : units) {
+                unit.writeToStdOut(new PrettyPrinter());
+            }
+        } finally {
+            System.setOut(stdout);
+        }
+        return bytes.toString();
+    }
+
+    /**
+     * Adds the AST nodes reachable from the specified value (through fields,
+     * lists, and arrays) to the specified set.
+     *
+     * @param value
+     *            the value.
+     * @param seen
+     *            the AST nodes found so far.
+     */
+
+    private static void countNodes(Object value,
+            IdentityHashMap<Object, Boolean> seen) {
+        if (value instanceof Iterable) {
+            for (Object element : (Iterable<?>) value) {
+                countNodes(element, seen);
+            }
+        } else if (value instanceof Object[]) {
+            for (Object element : (Object[]) value) {
+                countNodes(element, seen);
+            }
+        } else if (value instanceof JAST && seen.put(value, true) == null) {
+            for (Class<?> c = value.getClass(); c != Object.class; c = c
+                    .getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())
+                            || field.getType().isPrimitive()) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    try {
+                        countNodes(field.get(value), seen);
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.IOException;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@code Parser.compilationUnit}: scanning and parsing an input
+ * into ASTs.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParserBenchmark {
+
+    /** The input (see {@code BenchmarkCorpus}). */
+    @Param({ "pass", "spim", "nestedExpressions:100", "statements:5000",
+            "methods:500" })
+    public String input;
+
+    /** The sources of the input. */
+    private LinkedHashMap<String, String> sources;
+
+    /**
+     * Reads (or generates) the input.
+     *
+     * @exception IOException
+     *                if the input cannot be read.
+     */
+
+    @Setup
+    public void setup() throws IOException {
+        sources = BenchmarkCorpus.sources(input);
+    }
+
+    /**
+     * Parses the input.
+     *
+     * @return the compilation units.
+     */
+
+    @Benchmark
+    public Object parse() {
+        return BenchmarkCorpus.parse(sources);
+    }
+
+}
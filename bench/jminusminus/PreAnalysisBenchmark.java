@@ -0,0 +1,75 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@code JCompilationUnit.preAnalyze}: declaring the types and
+ * members of freshly parsed compilation units.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PreAnalysisBenchmark {
+
+    /** The input (see {@code BenchmarkCorpus}). */
+    @Param({ "pass", "spim", "methods:500" })
+    public String input;
+
+    /** The sources of the input. */
+    private LinkedHashMap<String, String> sources;
+
+    /** The compilation units to pre-analyze. */
+    private ArrayList<JCompilationUnit> units;
+
+    /**
+     * Reads (or generates) the input.
+     *
+     * @exception IOException
+     *                if the input cannot be read.
+     */
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        sources = BenchmarkCorpus.sources(input);
+    }
+
+    /**
+     * Parses the input afresh, as pre-analysis changes the ASTs.
+     */
+
+    @Setup(Level.Invocation)
+    public void parse() {
+        Type.removeCompiledTypes();
+        units = BenchmarkCorpus.parse(sources);
+    }
+
+    /**
+     * Pre-analyzes the input.
+     *
+     * @return the compilation units.
+     */
+
+    @Benchmark
+    public Object preAnalyze() {
+        JCompilationUnit.preAnalyze(units);
+        return units;
+    }
+
+}
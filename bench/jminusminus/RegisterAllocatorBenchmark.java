@@ -0,0 +1,96 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@code NLinearRegisterAllocator}: linear scan register allocation
+ * for the methods compiled from an input, which are taken (as by
+ * {@code NEmitter}) through to LIR beforehand.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RegisterAllocatorBenchmark {
+
+    /** The input (see {@code BenchmarkCorpus}); it must compile to SPIM. */
+    @Param({ "spim", "nestedExpressions:100", "statements:1000",
+            "methods:500" })
+    public String input;
+
+    /** The class files compiled from the input. */
+    private ArrayList<CLFile> clFiles;
+
+    /** The control flow graphs (in LIR) of the methods to allocate. */
+    private ArrayList<NControlFlowGraph> cfgs;
+
+    /**
+     * Compiles the input.
+     *
+     * @exception IOException
+     *                if the input cannot be read.
+     */
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        LinkedHashMap<String, String> sources = BenchmarkCorpus.sources(input);
+        clFiles = BenchmarkCorpus.compile(sources);
+    }
+
+    /**
+     * Builds the control flow graphs afresh, as allocation changes them.
+     */
+
+    @Setup(Level.Invocation)
+    public void toLir() {
+        cfgs = new ArrayList<NControlFlowGraph>();
+        for (CLFile clFile : clFiles) {
+            for (CLMethodInfo m : clFile.methods) {
+                NControlFlowGraph cfg = new NControlFlowGraph(
+                        clFile.constantPool, m);
+                cfg.detectLoops(cfg.basicBlocks.get(0), null);
+                cfg.removeUnreachableBlocks();
+                cfg.computeDominators(cfg.basicBlocks.get(0), null);
+                cfg.tuplesToHir();
+                cfg.eliminateRedundantPhiFunctions();
+                cfg.optimize();
+                cfg.hirToLir();
+                cfg.resolvePhiFunctions();
+                cfg.orderBlocks();
+                cfg.renumberLirInstructions();
+                cfgs.add(cfg);
+            }
+        }
+    }
+
+    /**
+     * Allocates registers for the methods.
+     *
+     * @return the control flow graphs.
+     */
+
+    @Benchmark
+    public Object allocate() {
+        for (NControlFlowGraph cfg : cfgs) {
+            new NLinearRegisterAllocator(cfg).allocation();
+        }
+        return cfgs;
+    }
+
+}
@@ -0,0 +1,71 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import static jminusminus.TokenKind.EOF;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@code Scanner.getNextToken}: scanning all the tokens of an
+ * input.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScannerBenchmark {
+
+    /** The input (see {@code BenchmarkCorpus}). */
+    @Param({ "pass", "spim", "nestedExpressions:500", "statements:5000",
+            "methods:500" })
+    public String input;
+
+    /** The sources of the input. */
+    private LinkedHashMap<String, String> sources;
+
+    /**
+     * Reads (or generates) the input.
+     *
+     * @exception IOException
+     *                if the input cannot be read.
+     */
+
+    @Setup
+    public void setup() throws IOException {
+        sources = BenchmarkCorpus.sources(input);
+    }
+
+    /**
+     * Scans the input.
+     *
+     * @return the number of tokens scanned.
+     */
+
+    @Benchmark
+    public int scan() {
+        int tokens = 0;
+        for (String fileName : sources.keySet()) {
+            Scanner scanner = new Scanner(fileName, new StringReader(sources
+                    .get(fileName)));
+            while (scanner.getNextToken().kind() != EOF) {
+                tokens++;
+            }
+        }
+        return tokens;
+    }
+
+}
@@ -0,0 +1,155 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import java.util.ArrayList;
+
+/**
+ * A driver for stress testing the compiler: it generates a program with
+ * {@code WorkloadGenerator}, compiles it through {@code Main} a number of
+ * times in this JVM, and reports the throughput (in source lines per second)
+ * and peak heap usage of each compilation to STDOUT, one JSON object per
+ * compilation and line, for example,
+ * <pre>
+ *   {"run":1,"files":10,"lines":4630,"wallTimeNanos":412093811,
+ *    "linesPerSecond":11235,"peakHeapBytes":48234496}
+ * </pre>
+ * The first runs include JIT compilation of the compiler; later runs show its
+ * steady state.
+ * <p>
+ * Usage:
+ * <pre>
+ *   java jminusminus.WorkloadDriver [options]
+ * </pre>
+ * where the options are the generator's, and
+ * <pre>
+ *   -runs &lt;num&gt;   Number of compilations (default 5)
+ *   -j &lt;num&gt;      Threads for Main (default 1)
+ *   -dir &lt;dir&gt;    Directory for the program and its classes
+ * </pre>
+ */
+
+class WorkloadDriver {
+
+    /**
+     * Entry point.
+     *
+     * @param args
+     *            the command-line arguments.
+     */
+
+    public static void main(String[] args) {
+        WorkloadGenerator generator = new WorkloadGenerator();
+        int runs = 5;
+        String threads = "1";
+        File dir = null;
+        try {
+            ArrayList<String> rest = generator.options(args);
+            for (int i = 0; i < rest.size(); i++) {
+                if (rest.get(i).equals("-runs") && (i + 1) < rest.size()) {
+                    runs = Integer.parseInt(rest.get(++i));
+                } else if (rest.get(i).equals("-j") && (i + 1) < rest.size()) {
+                    threads = rest.get(++i);
+                } else if (rest.get(i).equals("-dir")
+                        && (i + 1) < rest.size()) {
+                    dir = new File(rest.get(++i));
+                } else {
+                    System.err.println("Usage: java jminusminus.WorkloadDriver "
+                            + "[options]\nwhere possible options include:\n"
+                            + WorkloadGenerator.usage()
+                            + "  -runs <num>        Number of compilations "
+                            + "(default 5)\n"
+                            + "  -j <num>           Threads for Main "
+                            + "(default 1)\n"
+                            + "  -dir <dir>         Directory for the "
+                            + "program and its classes\n");
+                    System.exit(1);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+
+        try {
+            if (dir == null) {
+                dir = Files.createTempDirectory("j--stress").toFile();
+            }
+            ArrayList<String> files = generator.write(new File(dir, "src"));
+            long lines = 0;
+            for (String file : files) {
+                lines += Files.readAllLines(Paths.get(file)).size();
+            }
+            ArrayList<String> mainArgs = new ArrayList<String>();
+            mainArgs.add("-d");
+            mainArgs.add(new File(dir, "classes").getPath());
+            mainArgs.add("-j");
+            mainArgs.add(threads);
+            mainArgs.addAll(files);
+            for (int run = 1; run <= runs; run++) {
+                if (!compile(mainArgs, run, files.size(), lines)) {
+                    System.exit(1);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Compiles the program once, and reports the statistics for the
+     * compilation.
+     *
+     * @param mainArgs
+     *            the command-line arguments for {@code Main}.
+     * @param run
+     *            number of the compilation.
+     * @param files
+     *            number of source files.
+     * @param lines
+     *            number of source lines.
+     * @return {@code true} if the compilation succeeded; {@code false}
+     *         otherwise.
+     */
+
+    private static boolean compile(ArrayList<String> mainArgs, int run,
+            int files, long lines) {
+        // Forget the types compiled by the previous run, and start from a
+        // collected heap
+        Type.removeCompiledTypes();
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            pool.resetPeakUsage();
+        }
+        long start = System.nanoTime();
+        Main.main(mainArgs.toArray(new String[mainArgs.size()]));
+        long wallTime = System.nanoTime() - start;
+        if (Main.errorHasOccurred()) {
+            System.err.println("Error: compilation failed");
+            return false;
+        }
+        long peakHeap = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peakHeap += pool.getPeakUsage().getUsed();
+            }
+        }
+        System.out.printf("{\"run\":%d,\"files\":%d,\"lines\":%d,"
+                + "\"wallTimeNanos\":%d,\"linesPerSecond\":%d,"
+                + "\"peakHeapBytes\":%d}\n", run, files, lines, wallTime,
+                lines * 1000000000L / Math.max(wallTime, 1), peakHeap);
+        return true;
+    }
+
+}
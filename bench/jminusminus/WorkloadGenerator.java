@@ -0,0 +1,364 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import java.util.ArrayList;
+
+/**
+ * A generator of (valid) j-- programs of configurable size and shape, for
+ * stress testing the compiler. A program is a package ({@code stress}) of
+ * classes {@code Class0}, {@code Class1}, ..., one per file, each with static
+ * int methods {@code m0}, {@code m1}, .... The statements of a method are, in
+ * turn,
+ * <ul>
+ * <li>an assignment of an expression nested {@code depth} parentheses
+ * deep,</li>
+ * <li>a nest of {@code nesting} for loops,</li>
+ * <li>an if-else statement,</li>
+ * <li>a call to the previous method of the class, or to a method of the
+ * previous class,</li>
+ * <li>a for-each loop over an array (with {@code forEach}),</li>
+ * <li>a try-catch statement (with {@code tryCatch}), and</li>
+ * <li>a call to the method the class implements for its interface (with
+ * {@code interfaces}).</li>
+ * </ul>
+ * The generator only uses features the hand-written parser supports.
+ * <p>
+ * Usage:
+ * <pre>
+ *   java jminusminus.WorkloadGenerator [options] &lt;dir&gt;
+ * </pre>
+ * writes the program's source files to dir (see {@code usage()} for the
+ * options).
+ */
+
+class WorkloadGenerator {
+
+    /** Package of the generated classes. */
+    public static final String PACKAGE = "stress";
+
+    /** Number of classes. */
+    private int classes = 10;
+
+    /** Number of methods per class. */
+    private int methods = 10;
+
+    /** Number of statements per method. */
+    private int statements = 20;
+
+    /** Depth of the nested expressions. */
+    private int depth = 5;
+
+    /** Depth of the loop nests. */
+    private int nesting = 2;
+
+    /** Whether to use interfaces. */
+    private boolean interfaces = false;
+
+    /** Whether to use try-catch statements. */
+    private boolean tryCatch = false;
+
+    /** Whether to use for-each statements. */
+    private boolean forEach = false;
+
+    /**
+     * Constructs a generator of programs of the default size and shape.
+     */
+
+    public WorkloadGenerator() {
+    }
+
+    /**
+     * Sets the size and shape of the programs from the specified
+     * command-line arguments, and returns the arguments that are not
+     * generator options.
+     *
+     * @param args
+     *            the command-line arguments.
+     * @return the other arguments.
+     * @exception IllegalArgumentException
+     *                if an option is malformed.
+     */
+
+    public ArrayList<String> options(String[] args) {
+        ArrayList<String> rest = new ArrayList<String>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-classes") && (i + 1) < args.length) {
+                classes = count(args[i], args[++i], 1);
+            } else if (args[i].equals("-methods") && (i + 1) < args.length) {
+                methods = count(args[i], args[++i], 1);
+            } else if (args[i].equals("-statements")
+                    && (i + 1) < args.length) {
+                statements = count(args[i], args[++i], 1);
+            } else if (args[i].equals("-depth") && (i + 1) < args.length) {
+                depth = count(args[i], args[++i], 0);
+            } else if (args[i].equals("-nesting") && (i + 1) < args.length) {
+                nesting = count(args[i], args[++i], 0);
+            } else if (args[i].equals("-interfaces")) {
+                interfaces = true;
+            } else if (args[i].equals("-tryCatch")) {
+                tryCatch = true;
+            } else if (args[i].equals("-forEach")) {
+                forEach = true;
+            } else {
+                rest.add(args[i]);
+            }
+        }
+        return rest;
+    }
+
+    /**
+     * Returns a description of the generator options, for usage messages.
+     *
+     * @return the description.
+     */
+
+    public static String usage() {
+        return "  -classes <num>     Number of classes (default 10)\n"
+                + "  -methods <num>     Methods per class (default 10)\n"
+                + "  -statements <num>  Statements per method (default 20)\n"
+                + "  -depth <num>       Expression depth (default 5)\n"
+                + "  -nesting <num>     Loop nesting (default 2)\n"
+                + "  -interfaces        Use interfaces\n"
+                + "  -tryCatch          Use try-catch statements\n"
+                + "  -forEach           Use for-each statements\n";
+    }
+
+    /**
+     * Writes the program's source files to the specified directory, and
+     * returns their names.
+     *
+     * @param dir
+     *            the directory.
+     * @return the names of the source files.
+     * @exception IOException
+     *                if a source file cannot be written.
+     */
+
+    public ArrayList<String> write(File dir) throws IOException {
+        dir.mkdirs();
+        ArrayList<String> files = new ArrayList<String>();
+        for (int c = 0; c < classes; c++) {
+            File file = new File(dir, "Class" + c + ".java");
+            Files.write(file.toPath(), generate(c).getBytes(
+                    StandardCharsets.UTF_8));
+            files.add(file.getPath());
+        }
+        return files;
+    }
+
+    /**
+     * Returns the source of the compilation unit declaring the specified
+     * class (and its interface).
+     *
+     * @param c
+     *            number of the class.
+     * @return the source.
+     */
+
+    public String generate(int c) {
+        StringBuilder s = new StringBuilder();
+        s.append("package ").append(PACKAGE).append(";\n\n");
+        if (tryCatch) {
+            s.append("import java.lang.IllegalArgumentException;\n\n");
+        }
+        if (interfaces) {
+            s.append("interface Shape").append(c).append(" {\n");
+            s.append("    int apply").append(c).append("(int x);\n");
+            s.append("}\n\n");
+        }
+        s.append("public class Class").append(c);
+        if (interfaces) {
+            s.append(" implements Shape").append(c);
+        }
+        s.append(" {\n\n");
+        if (interfaces) {
+            s.append("    public int apply").append(c).append("(int x) {\n");
+            s.append("        return x + ").append(c).append(";\n");
+            s.append("    }\n\n");
+        }
+        for (int m = 0; m < methods; m++) {
+            method(s, c, m);
+        }
+        s.append("}\n");
+        return s.toString();
+    }
+
+    /**
+     * Appends the specified method to the specified source.
+     *
+     * @param s
+     *            the source.
+     * @param c
+     *            number of the class.
+     * @param m
+     *            number of the method.
+     */
+
+    private void method(StringBuilder s, int c, int m) {
+        s.append("    public static int m").append(m).append("(int x) {\n");
+        s.append("        int a = x;\n");
+        s.append("        int b = ").append(m).append(";\n");
+        if (forEach) {
+            s.append("        int[] values = { 1, 2, 3 };\n");
+        }
+        if (interfaces) {
+            // j-- does not widen a class to its interfaces in assignments
+            s.append("        Class").append(c).append(" shape = new Class")
+                    .append(c).append("();\n");
+        }
+        int kinds = 4 + (forEach ? 1 : 0) + (tryCatch ? 1 : 0)
+                + (interfaces ? 1 : 0);
+        for (int i = 0; i < statements; i++) {
+            int kind = i % kinds;
+            if (kind == 0) {
+                s.append("        a = ").append(expression(i)).append(";\n");
+            } else if (kind == 1) {
+                loop(s, 0, "        ");
+            } else if (kind == 2) {
+                s.append("        if (a > b) {\n");
+                s.append("            b = b + a % ").append(i + 1)
+                        .append(";\n");
+                s.append("        } else {\n");
+                s.append("            a = a - b;\n");
+                s.append("        }\n");
+            } else if (kind == 3) {
+                if (m > 0) {
+                    s.append("        a = m").append(m - 1).append("(a);\n");
+                } else if (c > 0) {
+                    s.append("        a = Class").append(c - 1)
+                            .append(".m0(a);\n");
+                } else {
+                    s.append("        a = a + 1;\n");
+                }
+            } else if (forEach && kind == 4) {
+                s.append("        for (int v : values) {\n");
+                s.append("            b = b + v;\n");
+                s.append("        }\n");
+            } else if (tryCatch && kind == (forEach ? 5 : 4)) {
+                s.append("        try {\n");
+                s.append("            if (a < 0) {\n");
+                s.append("                throw new "
+                        + "IllegalArgumentException();\n");
+                s.append("            }\n");
+                s.append("            a = a + 1;\n");
+                s.append("        } catch (IllegalArgumentException e) {\n");
+                s.append("            a = 0;\n");
+                s.append("        }\n");
+            } else {
+                s.append("        a = shape.apply").append(c)
+                        .append("(a);\n");
+            }
+        }
+        s.append("        return a + b;\n");
+        s.append("    }\n\n");
+    }
+
+    /**
+     * Appends a loop nest of depth {@code nesting - level} to the specified
+     * source.
+     *
+     * @param s
+     *            the source.
+     * @param level
+     *            nesting level of the outermost loop.
+     * @param indent
+     *            indentation of the outermost loop.
+     */
+
+    private void loop(StringBuilder s, int level, String indent) {
+        if (level == nesting) {
+            s.append(indent).append("b = b + a;\n");
+            return;
+        }
+        String i = "i" + level;
+        s.append(indent).append("for (int ").append(i).append(" = 0; ")
+                .append(i).append(" < 10; ").append(i).append("++) {\n");
+        loop(s, level + 1, indent + "    ");
+        s.append(indent).append("}\n");
+    }
+
+    /**
+     * Returns an expression nested {@code depth} parentheses deep.
+     *
+     * @param seed
+     *            varies the operators used.
+     * @return the expression.
+     */
+
+    private String expression(int seed) {
+        String[] operators = { " + ", " * ", " - ", " / ", " % " };
+        String e = "a";
+        for (int i = 0; i < depth; i++) {
+            String operator = operators[(seed + i) % operators.length];
+            String operand = operator.equals(" / ")
+                || operator.equals(" % ") ? String.valueOf(i + 1) : "b";
+            e = "(" + e + operator + operand + ")";
+        }
+        return e;
+    }
+
+    /**
+     * Parses the count given for the specified option.
+     *
+     * @param option
+     *            the option.
+     * @param value
+     *            the count.
+     * @param min
+     *            the least count allowed.
+     * @return the count.
+     * @exception IllegalArgumentException
+     *                if the count is malformed.
+     */
+
+    private static int count(String option, String value, int min) {
+        try {
+            int n = Integer.parseInt(value);
+            if (n >= min) {
+                return n;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through
+        }
+        throw new IllegalArgumentException("Illegal count for " + option
+                + ": " + value);
+    }
+
+    /**
+     * Entry point; writes a program to the directory given on the command
+     * line.
+     *
+     * @param args
+     *            the command-line arguments.
+     */
+
+    public static void main(String[] args) {
+        WorkloadGenerator generator = new WorkloadGenerator();
+        try {
+            ArrayList<String> rest = generator.options(args);
+            if (rest.size() != 1) {
+                System.err.println("Usage: java jminusminus.WorkloadGenerator "
+                        + "[options] <dir>\nwhere possible options "
+                        + "include:\n" + usage());
+                System.exit(1);
+            }
+            for (String file : generator.write(new File(rest.get(0)))) {
+                System.out.println(file);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+}
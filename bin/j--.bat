@@ -11,9 +11,14 @@ set CPATH="%BASE_DIR%\..\lib\j--.jar;%BASE_DIR%\..\lib\spim.jar"
 if "%CLASSPATH%" == "" goto runApp
 set CPATH=%CPATH%;"%CLASSPATH%"
 
+REM Map in the classes archived by "ant cds", if any; the JVM ignores an
+REM archive made by another JDK or from other jars
 :runApp
-%JAVA% -classpath %CPATH% jminusminus.Main "j--" %*
+set CDS=
+if exist "%BASE_DIR%\..\lib\j--.jsa" set CDS=-XX:SharedArchiveFile="%BASE_DIR%\..\lib\j--.jsa" -Xlog:cds=off -Xlog:cds+dynamic=off
+%JAVA% %CDS% -classpath %CPATH% jminusminus.Main "j--" %*
 
 set JAVA=
+set CDS=
 set BASE_DIR=
 set CPATH=
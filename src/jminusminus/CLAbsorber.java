@@ -239,6 +239,9 @@ public class CLAbsorber {
                 } else if (attributeName.equals(ATT_LINE_NUMBER_TABLE)) {
                     attributeInfo = readLineNumberTableAttribute(in,
                             attributeNameIndex, attributeLength);
+                } else if (attributeName.equals(ATT_STACK_MAP_TABLE)) {
+                    attributeInfo = readStackMapTableAttribute(in,
+                            attributeNameIndex, attributeLength);
                 } else if (attributeName.equals(ATT_LOCAL_VARIABLE_TABLE)) {
                     attributeInfo = readLocalVariableTableAttribute(in,
                             attributeNameIndex, attributeLength);
@@ -392,6 +395,87 @@ public class CLAbsorber {
         return attribute;
     }
 
+    /**
+     * Read a StackMapTable attribute from the specified input stream, and
+     * return it.
+     * 
+     * @param in
+     *            input stream.
+     * @param attributeNameIndex
+     *            constant pool index of the attribute name.
+     * @param attributeLength
+     *            length of attribute.
+     * @return a StackMapTable attribute.
+     */
+
+    private CLStackMapTableAttribute readStackMapTableAttribute(
+            CLInputStream in, int attributeNameIndex, long attributeLength) {
+        CLStackMapTableAttribute attribute = null;
+        try {
+            int numberOfEntries = in.readUnsignedShort();
+            ArrayList<CLStackMapFrame> entries = new ArrayList<CLStackMapFrame>();
+            for (int m = 0; m < numberOfEntries; m++) {
+                int frameType = in.readUnsignedByte();
+                int offsetDelta = frameType;
+                ArrayList<CLVerificationTypeInfo> locals = 
+                    new ArrayList<CLVerificationTypeInfo>();
+                ArrayList<CLVerificationTypeInfo> stack = 
+                    new ArrayList<CLVerificationTypeInfo>();
+                if (frameType >= SAME_LOCALS_1_STACK_ITEM_EXTENDED) {
+                    offsetDelta = in.readUnsignedShort();
+                } else if (frameType >= SAME_LOCALS_1_STACK_ITEM) {
+                    offsetDelta = frameType - SAME_LOCALS_1_STACK_ITEM;
+                }
+                if (frameType == FULL_FRAME) {
+                    int numberOfLocals = in.readUnsignedShort();
+                    for (int n = 0; n < numberOfLocals; n++) {
+                        locals.add(readVerificationTypeInfo(in));
+                    }
+                    int numberOfStackItems = in.readUnsignedShort();
+                    for (int n = 0; n < numberOfStackItems; n++) {
+                        stack.add(readVerificationTypeInfo(in));
+                    }
+                } else if (frameType >= APPEND_FRAME) {
+                    for (int n = SAME_FRAME_EXTENDED; n < frameType; n++) {
+                        locals.add(readVerificationTypeInfo(in));
+                    }
+                } else if (frameType >= SAME_LOCALS_1_STACK_ITEM
+                        && frameType <= SAME_LOCALS_1_STACK_ITEM_EXTENDED) {
+                    stack.add(readVerificationTypeInfo(in));
+                }
+                entries.add(new CLStackMapFrame(frameType, offsetDelta,
+                        locals, stack));
+            }
+            attribute = new CLStackMapTableAttribute(attributeNameIndex,
+                                                     attributeLength,
+                                                     numberOfEntries,
+                                                     entries);
+        } catch (IOException e) {
+            reportError("Error reading StackMapTable_attribute from file %s",
+                    className);
+        }
+        return attribute;
+    }
+
+    /**
+     * Read a verification_type_info structure from the specified input
+     * stream, and return it.
+     * 
+     * @param in
+     *            input stream.
+     * @return a verification_type_info structure.
+     * @throws IOException
+     *             if an error occurs while reading.
+     */
+
+    private CLVerificationTypeInfo readVerificationTypeInfo(CLInputStream in)
+            throws IOException {
+        short tag = (short) in.readUnsignedByte();
+        int index = (tag == ITEM_Object || tag == ITEM_Uninitialized) ? in
+                .readUnsignedShort() : 0;
+        return new CLVerificationTypeInfo(tag, index);
+    }
+
     /**
      * Read an InnerClasses attribute from the specified input stream, and
      * return it.
@@ -945,8 +1029,7 @@ public class CLAbsorber {
     public CLAbsorber(String className) {
         try {
             this.className = className;
-            CLPath classPath = new CLPath();
-            CLInputStream in = classPath.loadClass(className);
+            CLInputStream in = CLPath.defaultPath().loadClass(className);
             errorHasOccurred = false;
             if (in == null) {
                 reportError("Error loading %s", className);
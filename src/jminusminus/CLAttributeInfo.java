@@ -11,7 +11,8 @@ import static jminusminus.CLConstants.*;
  * The abstract base class for the representation of attribute_info structure 
  * (JVM Spec Section 4.8). Classes representing individual attributes inherit
  * this class. This file has representations for all attributes specified in
- * JVM Spec Second Edition, including the ones that were added for JDK 1.5.
+ * JVM Spec Second Edition, including the ones that were added for JDK 1.5,
+ * and the StackMapTable attribute that was added for JDK 1.6.
  * <p>
  * Attributes are used in the ClassFile ({@link CLFile}), field_info (
  * {@link CLFieldInfo}), method_info ({@link CLMethodInfo}), and Code_attribute 
@@ -23,6 +24,8 @@ import static jminusminus.CLConstants.*;
  *   <li>Synthetic_attribute (class, field, and method attribute)</li>
  *   <li>Code_attribute (method attribute)</li>
  *   <li>Exceptions_attribute (method attribute)</li>
+ *   <li>StackMapTable_attribute (code attribute, in class files of version 50
+ *   and later)</li>
  * </ul>
  * <br>
  * {@link CLAbsorber} is capable of reading all attributes listed in this file. 
@@ -2095,3 +2098,304 @@ class CLAnnotationDefaultAttribute extends CLAttributeInfo {
     }
 
 }
+
+/**
+ * Representation of verification_type_info structure (JVM Spec Section
+ * 4.7.4).
+ */
+
+class CLVerificationTypeInfo {
+
+    /** verification_type_info.tag item. */
+    public short tag;
+
+    /**
+     * Object_variable_info.cpool_index item, or
+     * Uninitialized_variable_info.offset item; 0 for the other types.
+     */
+    public int index;
+
+    /**
+     * Construct a CLVerificationTypeInfo object.
+     * 
+     * @param tag
+     *            verification_type_info.tag item.
+     * @param index
+     *            Object_variable_info.cpool_index item, or
+     *            Uninitialized_variable_info.offset item; 0 for the other
+     *            types.
+     */
+
+    public CLVerificationTypeInfo(short tag, int index) {
+        this.tag = tag;
+        this.index = index;
+    }
+
+    /**
+     * Return the number of bytes this object takes up in the class file.
+     * 
+     * @return the number of bytes.
+     */
+
+    public int length() {
+        return (tag == ITEM_Object || tag == ITEM_Uninitialized) ? 3 : 1;
+    }
+
+    /**
+     * Write the contents of this object to the specified output stream.
+     * 
+     * @param out
+     *            output stream.
+     * @throws IOException
+     *             if an error occurs while writing.
+     */
+
+    public void write(CLOutputStream out) throws IOException {
+        out.writeByte(tag);
+        if (length() == 3) {
+            out.writeShort(index);
+        }
+    }
+
+    /**
+     * Return true if this verification_type_info object is "equal to" the
+     * specified verification_type_info object, false otherwise.
+     * 
+     * @param obj
+     *            the reference verification_type_info object with which to
+     *            compare.
+     * @return true if this verification_type_info object is "equal to" the
+     *         specified verification_type_info object, false otherwise.
+     */
+
+    public boolean equals(Object obj) {
+        if (obj instanceof CLVerificationTypeInfo) {
+            CLVerificationTypeInfo c = (CLVerificationTypeInfo) obj;
+            return c.tag == tag && c.index == index;
+        }
+        return false;
+    }
+
+    /**
+     * Return the hash code for this object.
+     * 
+     * @return the hash code.
+     */
+
+    public int hashCode() {
+        return 31 * tag + index;
+    }
+
+    /**
+     * Return this object in a format similar to that of javap.
+     * 
+     * @return the string.
+     */
+
+    public String toString() {
+        switch (tag) {
+        case ITEM_Top:
+            return "top";
+        case ITEM_Integer:
+            return "int";
+        case ITEM_Float:
+            return "float";
+        case ITEM_Double:
+            return "double";
+        case ITEM_Long:
+            return "long";
+        case ITEM_Null:
+            return "null";
+        case ITEM_UninitializedThis:
+            return "this";
+        case ITEM_Object:
+            return "#" + index;
+        default:
+            return "uninitialized " + index;
+        }
+    }
+
+}
+
+/**
+ * Representation of stack_map_frame structure (JVM Spec Section 4.7.4). The
+ * frame type determines which of the locals and the stack are written: the
+ * locals that an append_frame adds, and the locals of a full_frame; the item
+ * on the stack of a same_locals_1_stack_item_frame (extended or not), and the
+ * stack of a full_frame.
+ */
+
+class CLStackMapFrame {
+
+    /** stack_map_frame.frame_type item. */
+    public int frameType;
+
+    /**
+     * stack_map_frame.offset_delta item; implicit in the frame type for
+     * same_frame and same_locals_1_stack_item_frame frames.
+     */
+    public int offsetDelta;
+
+    /** stack_map_frame.locals item. */
+    public ArrayList<CLVerificationTypeInfo> locals;
+
+    /** stack_map_frame.stack item. */
+    public ArrayList<CLVerificationTypeInfo> stack;
+
+    /**
+     * Construct a CLStackMapFrame object.
+     * 
+     * @param frameType
+     *            stack_map_frame.frame_type item.
+     * @param offsetDelta
+     *            stack_map_frame.offset_delta item.
+     * @param locals
+     *            stack_map_frame.locals item.
+     * @param stack
+     *            stack_map_frame.stack item.
+     */
+
+    public CLStackMapFrame(int frameType, int offsetDelta,
+            ArrayList<CLVerificationTypeInfo> locals,
+            ArrayList<CLVerificationTypeInfo> stack) {
+        this.frameType = frameType;
+        this.offsetDelta = offsetDelta;
+        this.locals = locals;
+        this.stack = stack;
+    }
+
+    /**
+     * Return the number of bytes this object takes up in the class file.
+     * 
+     * @return the number of bytes.
+     */
+
+    public int length() {
+        int length = 1;
+        if (frameType >= SAME_LOCALS_1_STACK_ITEM_EXTENDED) {
+            length += 2;
+        }
+        if (frameType == FULL_FRAME) {
+            length += 4;
+        }
+        for (CLVerificationTypeInfo type : locals) {
+            length += type.length();
+        }
+        for (CLVerificationTypeInfo type : stack) {
+            length += type.length();
+        }
+        return length;
+    }
+
+    /**
+     * Write the contents of this object to the specified output stream.
+     * 
+     * @param out
+     *            output stream.
+     * @throws IOException
+     *             if an error occurs while writing.
+     */
+
+    public void write(CLOutputStream out) throws IOException {
+        out.writeByte(frameType);
+        if (frameType >= SAME_LOCALS_1_STACK_ITEM_EXTENDED) {
+            out.writeShort(offsetDelta);
+        }
+        if (frameType == FULL_FRAME) {
+            out.writeShort(locals.size());
+        }
+        for (CLVerificationTypeInfo type : locals) {
+            type.write(out);
+        }
+        if (frameType == FULL_FRAME) {
+            out.writeShort(stack.size());
+        }
+        for (CLVerificationTypeInfo type : stack) {
+            type.write(out);
+        }
+    }
+
+    /**
+     * Write the contents of this object to STDOUT in a format similar to that
+     * of javap.
+     * 
+     * @param p
+     *            for pretty printing with indentation.
+     */
+
+    public void writeToStdOut(PrettyPrinter p) {
+        p.printf("%-10s    %-12s    %s    %s\n", frameType, offsetDelta,
+                locals, stack);
+    }
+
+}
+
+/**
+ * Representation of StackMapTable_attribute structure (JVM Spec Section
+ * 4.7.4). This is a required code attribute in class files of version 50 and
+ * later (see {@code CLEmitter.target()}), which CLEmitter computes and adds
+ * itself.
+ */
+
+class CLStackMapTableAttribute extends CLAttributeInfo {
+
+    /** StackMapTable_attribute.number_of_entries item. */
+    public int numberOfEntries;
+
+    /** StackMapTable_attribute.entries item. */
+    public ArrayList<CLStackMapFrame> entries;
+
+    /**
+     * Construct a CLStackMapTableAttribute object.
+     * 
+     * @param attributeNameIndex
+     *            StackMapTable_attribute.attribute_name_index item.
+     * @param attributeLength
+     *            StackMapTable_attribute.attribute_length item.
+     * @param numberOfEntries
+     *            StackMapTable_attribute.number_of_entries item.
+     * @param entries
+     *            StackMapTable_attribute.entries item.
+     */
+
+    public CLStackMapTableAttribute(int attributeNameIndex,
+            long attributeLength, int numberOfEntries,
+            ArrayList<CLStackMapFrame> entries) {
+        super(attributeNameIndex, attributeLength);
+        this.numberOfEntries = numberOfEntries;
+        this.entries = entries;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public void write(CLOutputStream out) throws IOException {
+        super.write(out);
+        out.writeShort(numberOfEntries);
+        for (int i = 0; i < entries.size(); i++) {
+            entries.get(i).write(out);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public void writeToStdOut(PrettyPrinter p) {
+        p.printf("StackMapTable {\n");
+        p.indentRight();
+        super.writeToStdOut(p);
+        p.printf("Number of Entries: %s\n", numberOfEntries);
+        p.printf("%s    %s    %s    %s\n", "Frame Type", "Offset Delta",
+                "Locals", "Stack");
+        p.printf("%s    %s    %s    %s\n", "----------", "------------",
+                "------", "-----");
+        for (int i = 0; i < entries.size(); i++) {
+            entries.get(i).writeToStdOut(p);
+        }
+        p.indentLeft();
+        p.printf("}\n");
+    }
+
+}
@@ -13,8 +13,23 @@ public class CLConstants {
      */
     public static final long MAGIC = 3405691582L;
 
-    /** Major version for the class files that j-- compiles. */
-    public static final int MAJOR_VERSION = 49;
+    /**
+     * Major version for the class files that j-- compiles, unless another is
+     * targeted (see {@code CLEmitter.target()}).
+     */
+    public static final int MAJOR_VERSION = 52;
+
+    /**
+     * Least major version for the class files that j-- compiles; that of Java
+     * 5.
+     */
+    public static final int MIN_MAJOR_VERSION = 49;
+
+    /**
+     * Least major version whose class files carry StackMapTable attributes;
+     * that of Java 6.
+     */
+    public static final int STACK_MAP_MAJOR_VERSION = 50;
 
     /** Minor version for the class files that j-- compiles. */
     public static final int MINOR_VERSION = 0;
@@ -166,6 +181,57 @@ public class CLConstants {
     /** Identifies AnnotationDefault attribute. */
     public static final String ATT_ANNOTATION_DEFAULT = "AnnotationDefault";
 
+    /** Identifies StackMapTable attribute. */
+    public static final String ATT_STACK_MAP_TABLE = "StackMapTable";
+
+    /** Identifies Top verification type. */
+    public static final short ITEM_Top = 0;
+
+    /** Identifies Integer verification type. */
+    public static final short ITEM_Integer = 1;
+
+    /** Identifies Float verification type. */
+    public static final short ITEM_Float = 2;
+
+    /** Identifies Double verification type. */
+    public static final short ITEM_Double = 3;
+
+    /** Identifies Long verification type. */
+    public static final short ITEM_Long = 4;
+
+    /** Identifies Null verification type. */
+    public static final short ITEM_Null = 5;
+
+    /** Identifies UninitializedThis verification type. */
+    public static final short ITEM_UninitializedThis = 6;
+
+    /** Identifies Object verification type. */
+    public static final short ITEM_Object = 7;
+
+    /** Identifies Uninitialized verification type. */
+    public static final short ITEM_Uninitialized = 8;
+
+    /** Least frame type of same_frame stack map frames. */
+    public static final int SAME_FRAME = 0;
+
+    /** Least frame type of same_locals_1_stack_item stack map frames. */
+    public static final int SAME_LOCALS_1_STACK_ITEM = 64;
+
+    /** Frame type of same_locals_1_stack_item_extended stack map frames. */
+    public static final int SAME_LOCALS_1_STACK_ITEM_EXTENDED = 247;
+
+    /** Least frame type of chop stack map frames. */
+    public static final int CHOP_FRAME = 248;
+
+    /** Frame type of same_frame_extended stack map frames. */
+    public static final int SAME_FRAME_EXTENDED = 251;
+
+    /** Least frame type of append stack map frames. */
+    public static final int APPEND_FRAME = 252;
+
+    /** Frame type of full_frame stack map frames. */
+    public static final int FULL_FRAME = 255;
+
     /** Identifies boolean type of annotation element value. */
     public static final short ELT_B = 'B';
 
@@ -3,7 +3,6 @@
 package jminusminus;
 
 import java.io.BufferedOutputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -12,6 +11,8 @@ import java.io.IOException;
 import java.io.OutputStream;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.Stack;
 import java.util.StringTokenizer;
@@ -45,6 +46,19 @@ public class CLEmitter {
     /** Destination directory for the class. */
     private String destDir;
 
+    /**
+     * Whether to run the peephole optimizer over the code of each method (see
+     * {@code peephole()}).
+     */
+    private boolean optimize;
+
+    /**
+     * Major version of the class file (see {@code target()}); from
+     * STACK_MAP_MAJOR_VERSION on, the code of each method has a StackMapTable
+     * attribute.
+     */
+    private int majorVersion;
+
     /** In-memory representation of the class. */
     private CLFile clFile;
 
@@ -180,6 +194,9 @@ public class CLEmitter {
                 // Must jump to an instruction
                 addNoArgInstruction(NOP);
             }
+            if (optimize) {
+                peephole();
+            }
 
             // Resolve jump labels in exception handlers
             ArrayList<CLExceptionInfo> exceptionTable = new ArrayList<CLExceptionInfo>();
@@ -252,8 +269,28 @@ public class CLEmitter {
             // Code attribute; add only if method is neither native nor abstract
             if (!((mAccessFlags & ACC_NATIVE) == ACC_NATIVE ||
                   (mAccessFlags & ACC_ABSTRACT) == ACC_ABSTRACT)) {
+                int maxStack = stackDepth();
+                if (majorVersion >= STACK_MAP_MAJOR_VERSION) {
+                    // Stack map frames, for the type-checking verifier
+                    int paren = eCurrentMethod.indexOf('(');
+                    CLFrames frames = new CLFrames(constantPool, name,
+                            byteCode, exceptionTable, maxLocals);
+                    if (frames.compute(eCurrentMethod.substring(0, paren),
+                            eCurrentMethod.substring(paren),
+                            (mAccessFlags & ACC_STATIC) == ACC_STATIC)) {
+                        CLStackMapTableAttribute stackMapTable = frames
+                                .stackMapTableAttribute();
+                        if (stackMapTable != null) {
+                            mCodeAttributes.add(stackMapTable);
+                        }
+                        maxStack = Math.max(maxStack, frames.maxStack());
+                    }
+
+                    // Otherwise, the code does not verify, with frames or
+                    // without; the class loader reports it
+                }
                 addMethodAttribute(codeAttribute(byteCode, exceptionTable,
-                        stackDepth(), maxLocals));
+                        maxStack, maxLocals));
             }
 
             methods.add(new CLMethodInfo(mAccessFlags, mNameIndex,
@@ -706,6 +743,241 @@ public class CLEmitter {
         return maxStackDepth;
     }
 
+    /**
+     * Rewrites the code of the method last added, removing redundant
+     * instruction sequences, until there are none left:
+     * <ul>
+     * <li>a branch to a {@code goto} is made to branch to where the
+     * {@code goto} does,</li>
+     * <li>a {@code goto} to the next instruction is removed,</li>
+     * <li>{@code if<cond> L1; goto L2; L1:} becomes {@code if<!cond> L2},</li>
+     * <li>{@code xload n; xstore n} is removed, and
+     * {@code xstore n; xload n} becomes {@code dup; xstore n} (or
+     * {@code dup2}, for longs and doubles), and</li>
+     * <li>{@code iconst_0; iadd}, {@code iconst_0; isub}, {@code dup; pop},
+     * {@code dup2; pop2}, and double negations are removed.</li>
+     * </ul>
+     * A sequence is only rewritten if no label (and so no branch or exception
+     * handler) is in its middle. The labels are then moved along with the
+     * instructions, so the branches and the exception table are resolved
+     * against the new code, from which the stack depth is computed as usual.
+     * Code whose layout depends on the pcs (switches), or that has
+     * subroutines or widened instructions, is left as it is, as is code in
+     * which an exception range would become empty.
+     */
+
+    private void peephole() {
+        for (CLInstruction instr : mCode) {
+            switch (instr.opcode()) {
+            case TABLESWITCH:
+            case LOOKUPSWITCH:
+            case JSR:
+            case JSR_W:
+            case RET:
+            case GOTO_W:
+            case WIDE:
+                return;
+            }
+        }
+
+        // Index (in code) of the instruction at each pc, and so at each label
+        HashMap<Integer, Integer> indexAt = new HashMap<Integer, Integer>();
+        for (int i = 0; i < mCode.size(); i++) {
+            indexAt.put(mCode.get(i).pc(), i);
+        }
+        HashMap<String, Integer> labels = new HashMap<String, Integer>();
+        for (String label : mLabels.keySet()) {
+            Integer index = indexAt.get(mLabels.get(label));
+            if (index == null) {
+                return;
+            }
+            labels.put(label, index);
+        }
+
+        ArrayList<CLInstruction> code = mCode;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            boolean[] isTarget = new boolean[code.size() + 1];
+            for (int index : labels.values()) {
+                isTarget[index] = true;
+            }
+            ArrayList<CLInstruction> optimized = new ArrayList<CLInstruction>();
+            int[] newIndex = new int[code.size() + 1];
+            for (int i = 0; i < code.size(); i++) {
+                newIndex[i] = optimized.size();
+                CLInstruction instr = code.get(i);
+                int opcode = instr.opcode();
+                CLInstruction next = (i + 1 < code.size() && !isTarget[i + 1])
+                        ? code.get(i + 1) : null;
+                int nextOpcode = (next == null) ? -1 : next.opcode();
+                String label = (instr instanceof CLFlowControlInstruction)
+                        ? ((CLFlowControlInstruction) instr).jumpToLabel()
+                        : null;
+                if (label != null && labels.containsKey(label)) {
+                    // Follow the chain of gotos, minding cycles
+                    String target = label;
+                    for (int hops = 0; hops < code.size(); hops++) {
+                        int at = labels.get(target);
+                        if (at == code.size() || code.get(at).opcode() != GOTO) {
+                            break;
+                        }
+                        String further = ((CLFlowControlInstruction) code
+                                .get(at)).jumpToLabel();
+                        if (!labels.containsKey(further)) {
+                            break;
+                        }
+                        target = further;
+                    }
+                    if (opcode == GOTO && labels.get(target) == i + 1) {
+                        changed = true;
+                        continue;
+                    }
+                    if (inverse(opcode) != -1 && nextOpcode == GOTO
+                            && labels.get(target) == i + 2) {
+                        optimized.add(new CLFlowControlInstruction(
+                                inverse(opcode), 0,
+                                ((CLFlowControlInstruction) next)
+                                        .jumpToLabel()));
+                        newIndex[++i] = optimized.size();
+                        changed = true;
+                        continue;
+                    }
+                    if (!target.equals(label)) {
+                        instr = new CLFlowControlInstruction(opcode, 0,
+                                target);
+                        changed = true;
+                    }
+                } else if (opcode == ICONST_0
+                        && (nextOpcode == IADD || nextOpcode == ISUB)
+                        || opcode == DUP && nextOpcode == POP
+                        || opcode == DUP2 && nextOpcode == POP2
+                        || opcode == nextOpcode
+                        && (opcode == INEG || opcode == LNEG
+                                || opcode == FNEG || opcode == DNEG)
+                        || isLoad(opcode) && isStore(nextOpcode)
+                        && sameLocal(instr, next)) {
+                    newIndex[++i] = optimized.size();
+                    changed = true;
+                    continue;
+                } else if (isStore(opcode) && isLoad(nextOpcode)
+                        && sameLocal(instr, next)) {
+                    boolean isWide = localType(opcode) == 1
+                            || localType(opcode) == 3;
+                    optimized.add(new CLStackInstruction(isWide ? DUP2 : DUP,
+                            0));
+                    newIndex[++i] = optimized.size();
+                    changed = true;
+                }
+                optimized.add(instr);
+            }
+            newIndex[code.size()] = optimized.size();
+            for (String label : labels.keySet()) {
+                labels.put(label, newIndex[labels.get(label)]);
+            }
+            code = optimized;
+        }
+        for (CLException e : mExceptionHandlers) {
+            if (labels.containsKey(e.startLabel)
+                    && labels.get(e.startLabel).equals(labels.get(e.endLabel))) {
+                return;
+            }
+        }
+
+        // Lay the code out again
+        int pc = 0;
+        for (CLInstruction instr : code) {
+            instr.setPC(pc);
+            pc += 1 + instr.operandCount();
+        }
+        for (String label : labels.keySet()) {
+            int index = labels.get(label);
+            mLabels.put(label, index < code.size() ? code.get(index).pc() : pc);
+        }
+        mCode = code;
+        mPC = pc;
+    }
+
+    /**
+     * Returns the opcode of the branch taken exactly when the specified
+     * conditional branch is not, or -1 if the opcode is not that of a
+     * conditional branch.
+     * 
+     * @param opcode
+     *            the opcode.
+     * @return the opcode of the inverse branch, or -1.
+     */
+
+    private static int inverse(int opcode) {
+        // The conditions come in pairs of opposites: IFEQ (153) and IFNE,
+        // ..., IF_ACMPEQ and IF_ACMPNE (166), and IFNULL (198) and IFNONNULL
+        if (IFEQ <= opcode && opcode <= IF_ACMPNE) {
+            return IFEQ + ((opcode - IFEQ) ^ 1);
+        } else if (opcode == IFNULL || opcode == IFNONNULL) {
+            return IFNULL + ((opcode - IFNULL) ^ 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether the specified opcode is that of a load from a local
+     * variable.
+     * 
+     * @param opcode
+     *            the opcode.
+     * @return {@code true} if it is; {@code false} otherwise.
+     */
+
+    private static boolean isLoad(int opcode) {
+        return ILOAD <= opcode && opcode <= ALOAD_3;
+    }
+
+    /**
+     * Returns whether the specified opcode is that of a store to a local
+     * variable.
+     * 
+     * @param opcode
+     *            the opcode.
+     * @return {@code true} if it is; {@code false} otherwise.
+     */
+
+    private static boolean isStore(int opcode) {
+        return ISTORE <= opcode && opcode <= ASTORE_3;
+    }
+
+    /**
+     * Returns the type of the local variable the specified load or store
+     * accesses: 0 for int, 1 for long, 2 for float, 3 for double, and 4 for
+     * reference.
+     * 
+     * @param opcode
+     *            the opcode of the load or store.
+     * @return the type.
+     */
+
+    private static int localType(int opcode) {
+        int base = isLoad(opcode) ? ILOAD : ISTORE;
+        // xLOAD come in the order of the types, and then xLOAD_0 to xLOAD_3
+        // for each type in turn; likewise for xSTORE
+        return opcode < base + 5 ? opcode - base : (opcode - base - 5) / 4;
+    }
+
+    /**
+     * Returns whether the specified loads and stores access the same local
+     * variable (as the same type).
+     * 
+     * @param a
+     *            a load or store.
+     * @param b
+     *            another load or store.
+     * @return {@code true} if they do; {@code false} otherwise.
+     */
+
+    private static boolean sameLocal(CLInstruction a, CLInstruction b) {
+        return a.localVariableIndex() == b.localVariableIndex()
+                && localType(a.opcode()) == localType(b.opcode());
+    }
+
     /**
      * Add LDC (LDC_W if index is wide) instruction.
      * 
@@ -863,7 +1135,8 @@ public class CLEmitter {
     }
 
     /**
-     * Report any error that occurs while creating/writing the class, to STDERR.
+     * Report any error that occurs while creating/writing the class, to STDERR
+     * (or to the diagnostics of a {@link JMinusMinusCompiler}).
      * 
      * @param message
      *            message identifying the error.
@@ -872,8 +1145,7 @@ public class CLEmitter {
      */
 
     private void reportEmitterError(String message, Object... args) {
-        System.err.printf(message, args);
-        System.err.println();
+        JMinusMinusCompiler.report(null, 0, message, args);
         errorHasOccurred = true;
     }
 
@@ -894,6 +1166,7 @@ public class CLEmitter {
     public CLEmitter(boolean toFile) {
         destDir = ".";
         this.toFile = toFile;
+        majorVersion = MAJOR_VERSION;
     }
 
     /**
@@ -907,6 +1180,31 @@ public class CLEmitter {
         this.destDir = destDir;
     }
 
+    /**
+     * Sets whether to run the peephole optimizer over the code of the methods
+     * emitted; by default, the code is not optimized.
+     * 
+     * @param optimize
+     *            whether to optimize.
+     */
+
+    public void optimize(boolean optimize) {
+        this.optimize = optimize;
+    }
+
+    /**
+     * Sets the major version of the class file; class files from version
+     * STACK_MAP_MAJOR_VERSION (Java 6) on carry stack map frames. By default,
+     * the version is MAJOR_VERSION. It must be set before the class is added.
+     * 
+     * @param majorVersion
+     *            the major version, from MIN_MAJOR_VERSION on.
+     */
+
+    public void target(int majorVersion) {
+        this.majorVersion = majorVersion;
+    }
+
     /**
      * Has an emitter error occurred up to now?
      * 
@@ -951,7 +1249,7 @@ public class CLEmitter {
 
         errorHasOccurred = false;
         clFile.magic = MAGIC;
-        clFile.majorVersion = MAJOR_VERSION;
+        clFile.majorVersion = majorVersion;
         clFile.minorVersion = MINOR_VERSION;
         if (!validInternalForm(thisClass)) {
             reportEmitterError("'%s' is not in internal form", thisClass);
@@ -1886,6 +2184,30 @@ public class CLEmitter {
         return constantPool;
     }
 
+    /**
+     * Returns the major version of the class files for the specified Java
+     * release ("8", say, or "1.8").
+     * 
+     * @param release
+     *            the release.
+     * @return the major version, or -1 if the release is not one that class
+     *         files can be emitted for.
+     */
+
+    public static int majorVersion(String release) {
+        if (release.startsWith("1.")) {
+            release = release.substring(2);
+        }
+        try {
+            int majorVersion = 44 + Integer.parseInt(release);
+            int maxMajorVersion = 44 + Runtime.version().feature();
+            return MIN_MAJOR_VERSION <= majorVersion
+                    && majorVersion <= maxMajorVersion ? majorVersion : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
     /**
      * Sets a new ByteClassLoader for loading classes from byte streams.
      */
@@ -1894,6 +2216,22 @@ public class CLEmitter {
         byteClassLoader = new ByteClassLoader();
     }
 
+    /**
+     * Returns the (partial) class with the specified name that was loaded from
+     * a byte stream (see {@link #toClass()}) since the ByteClassLoader was last
+     * initialized, that is, in the current compilation.
+     * 
+     * @param name
+     *            name of the class, in internal form.
+     * @return the class, or {@code null} if there is none.
+     */
+
+    public static Class<?> compiledClass(String name) {
+        ByteClassLoader loader = byteClassLoader;
+        return loader == null ? null : loader.compiledClass(name.replace('/',
+                '.'));
+    }
+
     /**
      * Returns the {@code CLFile} instance corresponding to the class built by 
      * this emitter.
@@ -1916,18 +2254,14 @@ public class CLEmitter {
         try {
             // Extract the bytes from the class representation in
             // memory into an array of bytes
-            ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-            CLOutputStream out = new CLOutputStream(new BufferedOutputStream(
-                    byteStream));
-            clFile.write(out);
-            out.close();
-            byte[] classBytes = byteStream.toByteArray();
-            byteStream.close();
+            byte[] classBytes = clFile.toBytes();
 
             // Load a Java Class instance from its byte
-            // representation
-            byteClassLoader.setClassBytes(classBytes);
-            theClass = byteClassLoader.loadClass(name, true);
+            // representation; the loader holds one pending class at a time
+            synchronized (byteClassLoader) {
+                byteClassLoader.setClassBytes(classBytes);
+                theClass = byteClassLoader.loadClass(name, true);
+            }
         } catch (IOException e) {
             reportEmitterError("Cannot write class to byte stream");
         } catch (ClassNotFoundException e) {
@@ -1944,9 +2278,24 @@ public class CLEmitter {
 
     public void write() {
         endOpenMethodIfAny();
-        if (!toFile) {
-            return;
+        if (toFile && !write(clFile, destDir)) {
+            errorHasOccurred = true;
         }
+    }
+
+    /**
+     * Writes out the specified class to the file system as a .class file in
+     * the specified destination directory.
+     * 
+     * @param clFile
+     *            the class.
+     * @param destDir
+     *            destination directory.
+     * @return {@code true} if the class was written; {@code false} otherwise.
+     */
+
+    public static boolean write(CLFile clFile, String destDir) {
+        String name = clFile.className();
         String outFile = destDir + File.separator + name + ".class";
         try {
             File file = new File(destDir + File.separator
@@ -1956,11 +2305,14 @@ public class CLEmitter {
                     new FileOutputStream(outFile)));
             clFile.write(out);
             out.close();
+            return true;
         } catch (FileNotFoundException e) {
-            reportEmitterError("File %s not found", outFile);
+            JMinusMinusCompiler.report(null, 0, "File %s not found", outFile);
         } catch (IOException e) {
-            reportEmitterError("Cannot write to file %s", outFile);
+            JMinusMinusCompiler.report(null, 0, "Cannot write to file %s",
+                    outFile);
         }
+        return false;
     }
 }
 
@@ -2190,8 +2542,8 @@ class ByteClassLoader extends ClassLoader {
     /** Bytes representing the class. */
     private byte[] bytes;
 
-    /** Has a package been defined for this class loader? */
-    private boolean pkgDefined = false;
+    /** Packages that have been defined for this class loader. */
+    private HashSet<String> definedPackages = new HashSet<String>();
 
     /**
      * Sets the bytes representing the class.
@@ -2204,6 +2556,19 @@ class ByteClassLoader extends ClassLoader {
         this.bytes = bytes;
     }
 
+    /**
+     * Returns the class with the specified name, if this class loader has
+     * loaded it; no class is loaded (or defined).
+     * 
+     * @param name
+     *            the binary name of the class.
+     * @return the class, or {@code null} if it has not been loaded.
+     */
+
+    public Class<?> compiledClass(String name) {
+        return findLoadedClass(name);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -2227,14 +2592,14 @@ class ByteClassLoader extends ClassLoader {
             name = name.replace("/", ".");
             String pkg = name.lastIndexOf('.') == -1 ? "" : name.substring(0,
                     name.lastIndexOf('.'));
-            if (!pkgDefined) {
+            if (!definedPackages.contains(pkg)) {
                 // Packages must be created before the class is
                 // defined, and package names must be unique
                 // within
                 // a class loader and cannot be redefined or
                 // changed once created
                 definePackage(pkg, "", "", "", "", "", "", null);
-                pkgDefined = true;
+                definedPackages.add(pkg);
             }
             cls = defineClass(name, bytes, 0, bytes.length);
             if (resolve && cls != null) {
@@ -2,6 +2,8 @@
 
 package jminusminus;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import static jminusminus.CLConstants.*;
@@ -115,6 +117,38 @@ class CLFile {
         }
     }
 
+    /**
+     * Returns the contents of this class as an array of bytes, in the class
+     * file format.
+     * 
+     * @return the class file bytes.
+     * @throws IOException
+     *             if an error occurs while writing.
+     */
+
+    public byte[] toBytes() throws IOException {
+        ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        CLOutputStream out = new CLOutputStream(new BufferedOutputStream(
+                byteStream));
+        write(out);
+        out.close();
+        return byteStream.toByteArray();
+    }
+
+    /**
+     * Returns the fully qualified internal name (for example, 
+     * {@code java/lang/String}) of this class.
+     * 
+     * @return the class name.
+     */
+
+    public String className() {
+        int nameIndex = ((CLConstantClassInfo) constantPool
+                .cpItem(thisClass)).nameIndex;
+        return new String(((CLConstantUtf8Info) constantPool
+                .cpItem(nameIndex)).b);
+    }
+
     /**
      * Writes the contents of the class file to STDOUT in a format similar to
      * that of javap.
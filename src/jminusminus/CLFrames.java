@@ -0,0 +1,1366 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Stack;
+
+import static jminusminus.CLConstants.*;
+
+/**
+ * Computes the stack map frames of the code of a method, for its StackMapTable
+ * attribute (JVM Spec Section 4.7.4). Starting from the method's entry, the
+ * control flow of the code (and into its exception handlers) is followed, and
+ * the types of the local variables and of the operand stack before each
+ * instruction are inferred, as the verifier would, merging them where control
+ * flow joins. A frame is then kept for each instruction that is branched to,
+ * or that starts an exception handler.
+ * <p>
+ * Types are represented as strings: "I", "F", "J" and "D" for ints, floats,
+ * longs and doubles, descriptors ("Ljava/lang/String;", "[I") for references,
+ * "N" for null, "T" for top (values that cannot be used, such as the second
+ * words of longs and doubles), "U" for this in a constructor before the
+ * superclass constructor is invoked, and "U" followed by the pc of the NEW
+ * instruction for other uninitialized objects.
+ * <p>
+ * Merging two class types yields their least common superclass; the
+ * hierarchy is that of the (partial) classes of the current compilation (see
+ * {@code CLEmitter.compiledClass()}), and of the classes on the class path
+ * otherwise. As in the verifier, interfaces merge to Object.
+ * <p>
+ * The verifier wants a frame even for code that is not reachable, which
+ * cannot be typed; such code is overwritten with NOPs ending with an ATHROW,
+ * whose frame has no locals and a Throwable on the stack, and is taken out of
+ * the ranges of the exception table.
+ */
+
+class CLFrames {
+
+    /** Constant pool of the class. */
+    private CLConstantPool constantPool;
+
+    /** Name of the class, in internal form. */
+    private String className;
+
+    /** Bytes of the code. */
+    private ArrayList<Integer> code;
+
+    /** Exception table of the code. */
+    private ArrayList<CLExceptionInfo> exceptionTable;
+
+    /** Number of local variables. */
+    private int maxLocals;
+
+    /** Whether each pc starts an instruction. */
+    private boolean[] isInstruction;
+
+    /** Types before the first instruction, implied by the descriptor. */
+    private CLFrame entryFrame;
+
+    /** Types before the instruction at each pc; null if not reachable. */
+    private CLFrame[] frames;
+
+    /** Whether a stack map frame is needed at each pc. */
+    private boolean[] needsFrame;
+
+    /** Maximum depth of the operand stack. */
+    private int maxStack;
+
+    /**
+     * Constructs a CLFrames object for the specified code.
+     *
+     * @param constantPool
+     *            constant pool of the class.
+     * @param className
+     *            name of the class, in internal form.
+     * @param code
+     *            bytes of the code; unreachable code is overwritten.
+     * @param exceptionTable
+     *            exception table of the code; ranges of unreachable code are
+     *            removed.
+     * @param maxLocals
+     *            number of local variables.
+     */
+
+    public CLFrames(CLConstantPool constantPool, String className,
+            ArrayList<Integer> code, ArrayList<CLExceptionInfo> exceptionTable,
+            int maxLocals) {
+        this.constantPool = constantPool;
+        this.className = className;
+        this.code = code;
+        this.exceptionTable = exceptionTable;
+        this.maxLocals = maxLocals;
+    }
+
+    /**
+     * Computes the frames of the code of the specified method.
+     *
+     * @param name
+     *            name of the method.
+     * @param descriptor
+     *            descriptor of the method.
+     * @param isStatic
+     *            whether the method is static.
+     * @return {@code true} if the frames were computed; {@code false} if the
+     *         code cannot be typed (and so would not verify), or uses
+     *         subroutines (JSR and RET).
+     */
+
+    public boolean compute(String name, String descriptor, boolean isStatic) {
+        int size = code.size();
+        isInstruction = new boolean[size];
+        frames = new CLFrame[size];
+        needsFrame = new boolean[size];
+        for (int pc = 0; pc < size; pc += length(pc)) {
+            int opcode = code.get(pc);
+            if (opcode == JSR || opcode == JSR_W || opcode == RET
+                    || opcode == WIDE && code.get(pc + 1) == RET) {
+                return false;
+            }
+            isInstruction[pc] = true;
+        }
+
+        Stack<Integer> work = new Stack<Integer>();
+        entryFrame = initialFrame(name, descriptor, isStatic);
+        if (!merge(0, entryFrame, work)) {
+            return false;
+        }
+        while (!work.isEmpty()) {
+            int pc = work.pop();
+            CLFrame frame = frames[pc].copy();
+            if (!mergeIntoHandlers(pc, frame, work)) {
+                return false;
+            }
+            int opcode = code.get(pc);
+            try {
+                execute(pc, frame);
+            } catch (IndexOutOfBoundsException e) {
+                // Pops an empty stack, or loads a local that is not there
+                return false;
+            }
+            maxStack = Math.max(maxStack, frame.stack.size());
+            if (!mergeIntoHandlers(pc, frame, work)) {
+                return false;
+            }
+            for (int target : jumpTargets(pc)) {
+                needsFrame[target] = true;
+                if (!merge(target, frame, work)) {
+                    return false;
+                }
+            }
+            boolean fallsThrough = !(opcode == GOTO || opcode == GOTO_W
+                    || opcode == TABLESWITCH || opcode == LOOKUPSWITCH
+                    || opcode == ATHROW || IRETURN <= opcode
+                    && opcode <= RETURN);
+            if (fallsThrough && !merge(pc + length(pc), frame, work)) {
+                return false;
+            }
+        }
+        removeUnreachableCode();
+        return true;
+    }
+
+    /**
+     * Returns the maximum depth of the operand stack, as computed with the
+     * frames.
+     *
+     * @return the maximum depth of the operand stack.
+     */
+
+    public int maxStack() {
+        return maxStack;
+    }
+
+    /**
+     * Returns the StackMapTable attribute for the frames computed, or
+     * {@code null} if no frames are needed.
+     *
+     * @return the StackMapTable attribute or {@code null}.
+     */
+
+    public CLStackMapTableAttribute stackMapTableAttribute() {
+        ArrayList<CLStackMapFrame> entries = new ArrayList<CLStackMapFrame>();
+        long attributeLength = 2;
+        ArrayList<CLVerificationTypeInfo> previous = verificationTypes(
+                entryFrame.locals, true);
+        int previousPC = -1;
+        for (int pc = 0; pc < code.size(); pc++) {
+            if (!needsFrame[pc]) {
+                continue;
+            }
+            ArrayList<CLVerificationTypeInfo> locals = verificationTypes(
+                    frames[pc].locals, true);
+            ArrayList<CLVerificationTypeInfo> stack = verificationTypes(
+                    frames[pc].stack.toArray(new String[0]), false);
+            CLStackMapFrame entry = entry(pc - previousPC - 1, previous,
+                    locals, stack);
+            entries.add(entry);
+            attributeLength += entry.length();
+            previous = locals;
+            previousPC = pc;
+        }
+        if (entries.isEmpty()) {
+            return null;
+        }
+        return new CLStackMapTableAttribute(constantPool
+                .constantUtf8Info(ATT_STACK_MAP_TABLE), attributeLength,
+                entries.size(), entries);
+    }
+
+    /**
+     * Returns the types before the first instruction of the specified method.
+     *
+     * @param name
+     *            name of the method.
+     * @param descriptor
+     *            descriptor of the method.
+     * @param isStatic
+     *            whether the method is static.
+     * @return the types.
+     */
+
+    private CLFrame initialFrame(String name, String descriptor,
+            boolean isStatic) {
+        CLFrame frame = new CLFrame(maxLocals);
+        int local = 0;
+        if (!isStatic) {
+            frame.store(local++, name.equals("<init>")
+                    && !className.equals("java/lang/Object") ? "U"
+                    : classType(className));
+        }
+        for (String type : argumentTypes(descriptor)) {
+            frame.store(local, type);
+            local += isWide(type) ? 2 : 1;
+        }
+        return frame;
+    }
+
+    /**
+     * Merges the specified types into the types before the instruction at the
+     * specified pc, and adds the pc to the work list if they changed.
+     *
+     * @param pc
+     *            pc of the instruction.
+     * @param frame
+     *            the types.
+     * @param work
+     *            the pcs of the instructions whose types changed.
+     * @return {@code false} if the types cannot be merged (the operand stacks
+     *         differ in depth, or the pc does not start an instruction);
+     *         {@code true} otherwise.
+     */
+
+    private boolean merge(int pc, CLFrame frame, Stack<Integer> work) {
+        if (pc < 0 || pc >= code.size() || !isInstruction[pc]) {
+            return false;
+        }
+        if (frames[pc] == null) {
+            frames[pc] = frame.copy();
+            work.push(pc);
+            return true;
+        }
+        if (frames[pc].stack.size() != frame.stack.size()) {
+            return false;
+        }
+        if (frames[pc].merge(frame, this)) {
+            work.push(pc);
+        }
+        return true;
+    }
+
+    /**
+     * Merges the locals of the specified types, with the exception caught on
+     * the stack, into the types before the exception handlers that the
+     * instruction at the specified pc is covered by.
+     *
+     * @param pc
+     *            pc of the instruction.
+     * @param frame
+     *            the types.
+     * @param work
+     *            the pcs of the instructions whose types changed.
+     * @return {@code false} if the types cannot be merged; {@code true}
+     *         otherwise.
+     */
+
+    private boolean mergeIntoHandlers(int pc, CLFrame frame,
+            Stack<Integer> work) {
+        for (CLExceptionInfo e : exceptionTable) {
+            if (e.startPC <= pc && pc < e.endPC) {
+                CLFrame handler = new CLFrame(frame.locals.length);
+                System.arraycopy(frame.locals, 0, handler.locals, 0,
+                        frame.locals.length);
+                handler.push(e.catchType == 0 ? "Ljava/lang/Throwable;"
+                        : classType(className(e.catchType)));
+                needsFrame[e.handlerPC] = true;
+                if (!merge(e.handlerPC, handler, work)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Overwrites each run of unreachable instructions with NOPs ending with an
+     * ATHROW, gives it a frame, and takes it out of the exception table.
+     */
+
+    private void removeUnreachableCode() {
+        int size = code.size();
+        for (int pc = 0; pc < size;) {
+            if (frames[pc] != null) {
+                pc += length(pc);
+                continue;
+            }
+            int end = pc;
+            while (end < size && (frames[end] == null || !isInstruction[end])) {
+                end++;
+            }
+            for (int i = pc; i < end - 1; i++) {
+                code.set(i, NOP);
+            }
+            code.set(end - 1, ATHROW);
+            CLFrame frame = new CLFrame(0);
+            frame.push("Ljava/lang/Throwable;");
+            frames[pc] = frame;
+            needsFrame[pc] = true;
+            for (int i = pc + 1; i < end; i++) {
+                needsFrame[i] = false;
+            }
+            maxStack = Math.max(maxStack, 1);
+
+            // Only the reachable code is covered by the exception table
+            ArrayList<CLExceptionInfo> covering =
+                new ArrayList<CLExceptionInfo>();
+            for (CLExceptionInfo e : exceptionTable) {
+                if (e.startPC < pc && pc < e.endPC) {
+                    covering.add(new CLExceptionInfo(e.startPC, pc,
+                            e.handlerPC, e.catchType));
+                }
+                if (e.startPC < end && end < e.endPC) {
+                    covering.add(new CLExceptionInfo(end, e.endPC,
+                            e.handlerPC, e.catchType));
+                }
+                if (e.endPC <= pc || end <= e.startPC) {
+                    covering.add(e);
+                }
+            }
+            exceptionTable.clear();
+            exceptionTable.addAll(covering);
+            pc = end;
+        }
+    }
+
+    /**
+     * Changes the specified types as the instruction at the specified pc
+     * would.
+     *
+     * @param pc
+     *            pc of the instruction.
+     * @param frame
+     *            the types before the instruction; the types after it on
+     *            return.
+     */
+
+    private void execute(int pc, CLFrame frame) {
+        int opcode = code.get(pc);
+        String type;
+        switch (opcode) {
+        case NOP:
+        case IINC:
+        case GOTO:
+        case GOTO_W:
+        case RETURN:
+            break;
+        case ACONST_NULL:
+            frame.push("N");
+            break;
+        case ICONST_M1:
+        case ICONST_0:
+        case ICONST_1:
+        case ICONST_2:
+        case ICONST_3:
+        case ICONST_4:
+        case ICONST_5:
+        case BIPUSH:
+        case SIPUSH:
+            frame.push("I");
+            break;
+        case LCONST_0:
+        case LCONST_1:
+            frame.push("J");
+            break;
+        case FCONST_0:
+        case FCONST_1:
+        case FCONST_2:
+            frame.push("F");
+            break;
+        case DCONST_0:
+        case DCONST_1:
+            frame.push("D");
+            break;
+        case LDC:
+            frame.push(constantType(code.get(pc + 1)));
+            break;
+        case LDC_W:
+        case LDC2_W:
+            frame.push(constantType(u2(pc + 1)));
+            break;
+        case ILOAD:
+        case LLOAD:
+        case FLOAD:
+        case DLOAD:
+        case ALOAD:
+            frame.push(frame.locals[code.get(pc + 1)]);
+            break;
+        case ISTORE:
+        case LSTORE:
+        case FSTORE:
+        case DSTORE:
+        case ASTORE:
+            frame.store(code.get(pc + 1), frame.pop());
+            break;
+        case WIDE:
+            opcode = code.get(pc + 1);
+            if (ILOAD <= opcode && opcode <= ALOAD) {
+                frame.push(frame.locals[u2(pc + 2)]);
+            } else if (ISTORE <= opcode && opcode <= ASTORE) {
+                frame.store(u2(pc + 2), frame.pop());
+            }
+            break;
+        case IALOAD:
+        case BALOAD:
+        case CALOAD:
+        case SALOAD:
+            frame.pop(2);
+            frame.push("I");
+            break;
+        case LALOAD:
+            frame.pop(2);
+            frame.push("J");
+            break;
+        case FALOAD:
+            frame.pop(2);
+            frame.push("F");
+            break;
+        case DALOAD:
+            frame.pop(2);
+            frame.push("D");
+            break;
+        case AALOAD:
+            frame.pop(1);
+            type = frame.pop();
+            frame.push(type.startsWith("[") ? type.substring(1) : "N");
+            break;
+        case IASTORE:
+        case FASTORE:
+        case AASTORE:
+        case BASTORE:
+        case CASTORE:
+        case SASTORE:
+            frame.pop(3);
+            break;
+        case LASTORE:
+        case DASTORE:
+            frame.pop(4);
+            break;
+        case POP:
+        case MONITORENTER:
+        case MONITOREXIT:
+        case ATHROW:
+        case IFEQ:
+        case IFNE:
+        case IFLT:
+        case IFGE:
+        case IFGT:
+        case IFLE:
+        case IFNULL:
+        case IFNONNULL:
+        case TABLESWITCH:
+        case LOOKUPSWITCH:
+            frame.pop(1);
+            break;
+        case POP2:
+        case IF_ICMPEQ:
+        case IF_ICMPNE:
+        case IF_ICMPLT:
+        case IF_ICMPGE:
+        case IF_ICMPGT:
+        case IF_ICMPLE:
+        case IF_ACMPEQ:
+        case IF_ACMPNE:
+            frame.pop(2);
+            break;
+        case DUP:
+            frame.insert(1, 1);
+            break;
+        case DUP_X1:
+            frame.insert(1, 2);
+            break;
+        case DUP_X2:
+            frame.insert(1, 3);
+            break;
+        case DUP2:
+            frame.insert(2, 2);
+            break;
+        case DUP2_X1:
+            frame.insert(2, 3);
+            break;
+        case DUP2_X2:
+            frame.insert(2, 4);
+            break;
+        case SWAP:
+            frame.insert(1, 2);
+            frame.stack.remove(frame.stack.size() - 1);
+            break;
+        case IADD:
+        case ISUB:
+        case IMUL:
+        case IDIV:
+        case IREM:
+        case ISHL:
+        case ISHR:
+        case IUSHR:
+        case IAND:
+        case IOR:
+        case IXOR:
+        case FCMPL:
+        case FCMPG:
+            frame.pop(2);
+            frame.push("I");
+            break;
+        case LADD:
+        case LSUB:
+        case LMUL:
+        case LDIV:
+        case LREM:
+        case LAND:
+        case LOR:
+        case LXOR:
+            frame.pop(4);
+            frame.push("J");
+            break;
+        case LSHL:
+        case LSHR:
+        case LUSHR:
+            frame.pop(3);
+            frame.push("J");
+            break;
+        case FADD:
+        case FSUB:
+        case FMUL:
+        case FDIV:
+        case FREM:
+            frame.pop(2);
+            frame.push("F");
+            break;
+        case DADD:
+        case DSUB:
+        case DMUL:
+        case DDIV:
+        case DREM:
+            frame.pop(4);
+            frame.push("D");
+            break;
+        case LCMP:
+        case DCMPL:
+        case DCMPG:
+            frame.pop(4);
+            frame.push("I");
+            break;
+        case INEG:
+        case LNEG:
+        case FNEG:
+        case DNEG:
+        case I2B:
+        case I2C:
+        case I2S:
+            break;
+        case I2L:
+        case I2F:
+        case I2D:
+        case L2I:
+        case L2F:
+        case L2D:
+        case F2I:
+        case F2L:
+        case F2D:
+        case D2I:
+        case D2L:
+        case D2F:
+            // Conversions come in the order of their source types (int,
+            // long, float, double) and then of their target types
+            String types = "IJFD";
+            int from = (opcode - I2L) / 3;
+            int to = (opcode - I2L) % 3;
+            to = (to < from) ? to : to + 1;
+            frame.pop(isWide(types.substring(from, from + 1)) ? 2 : 1);
+            frame.push(types.substring(to, to + 1));
+            break;
+        case IRETURN:
+        case FRETURN:
+        case ARETURN:
+            frame.pop(1);
+            break;
+        case LRETURN:
+        case DRETURN:
+            frame.pop(2);
+            break;
+        case GETSTATIC:
+        case PUTSTATIC:
+        case GETFIELD:
+        case PUTFIELD:
+            type = fieldType(memberDescriptor(u2(pc + 1)));
+            if (opcode == PUTSTATIC || opcode == PUTFIELD) {
+                frame.pop(isWide(type) ? 2 : 1);
+            }
+            if (opcode == GETFIELD || opcode == PUTFIELD) {
+                frame.pop(1);
+            }
+            if (opcode == GETSTATIC || opcode == GETFIELD) {
+                frame.push(type);
+            }
+            break;
+        case INVOKEVIRTUAL:
+        case INVOKESPECIAL:
+        case INVOKESTATIC:
+        case INVOKEINTERFACE:
+            invoke(opcode, u2(pc + 1), frame);
+            break;
+        case NEW:
+            frame.push("U" + pc);
+            break;
+        case NEWARRAY:
+            frame.pop(1);
+            frame.push("[" + "    ZCFDBSIJ".charAt(code.get(pc + 1)));
+            break;
+        case ANEWARRAY:
+            frame.pop(1);
+            frame.push("[" + classType(className(u2(pc + 1))));
+            break;
+        case MULTIANEWARRAY:
+            frame.pop(code.get(pc + 3));
+            frame.push(classType(className(u2(pc + 1))));
+            break;
+        case CHECKCAST:
+            frame.pop(1);
+            frame.push(classType(className(u2(pc + 1))));
+            break;
+        case ARRAYLENGTH:
+        case INSTANCEOF:
+            frame.pop(1);
+            frame.push("I");
+            break;
+        default:
+            if (ILOAD_0 <= opcode && opcode <= ALOAD_3) {
+                frame.push(frame.locals[(opcode - ILOAD_0) % 4]);
+            } else if (ISTORE_0 <= opcode && opcode <= ASTORE_3) {
+                frame.store((opcode - ISTORE_0) % 4, frame.pop());
+            }
+        }
+    }
+
+    /**
+     * Changes the specified types as a method invocation would.
+     *
+     * @param opcode
+     *            opcode of the invocation.
+     * @param index
+     *            constant pool index of the method.
+     * @param frame
+     *            the types before the invocation; the types after it on
+     *            return.
+     */
+
+    private void invoke(int opcode, int index, CLFrame frame) {
+        String descriptor = memberDescriptor(index);
+        ArrayList<String> argumentTypes = argumentTypes(descriptor);
+        for (int i = argumentTypes.size() - 1; i >= 0; i--) {
+            frame.pop(isWide(argumentTypes.get(i)) ? 2 : 1);
+        }
+        if (opcode != INVOKESTATIC) {
+            String receiver = frame.pop();
+            if (opcode == INVOKESPECIAL && memberName(index).equals("<init>")
+                    && receiver.startsWith("U")) {
+                // The object is initialized, wherever it is
+                String initialized = receiver.equals("U") ? classType(className)
+                        : classType(className(u2(Integer.parseInt(receiver
+                                .substring(1)) + 1)));
+                frame.replace(receiver, initialized);
+            }
+        }
+        String returnType = descriptor.substring(descriptor.indexOf(')') + 1);
+        if (!returnType.equals("V")) {
+            frame.push(fieldType(returnType));
+        }
+    }
+
+    /**
+     * Returns the pcs the instruction at the specified pc may branch to.
+     *
+     * @param pc
+     *            pc of the instruction.
+     * @return the pcs branched to.
+     */
+
+    private ArrayList<Integer> jumpTargets(int pc) {
+        ArrayList<Integer> targets = new ArrayList<Integer>();
+        int opcode = code.get(pc);
+        if (IFEQ <= opcode && opcode <= GOTO || opcode == IFNULL
+                || opcode == IFNONNULL) {
+            targets.add(pc + (short) u2(pc + 1));
+        } else if (opcode == GOTO_W) {
+            targets.add(pc + u4(pc + 1));
+        } else if (opcode == TABLESWITCH || opcode == LOOKUPSWITCH) {
+            int at = pc + 1 + padding(pc);
+            targets.add(pc + u4(at));
+            if (opcode == TABLESWITCH) {
+                int n = u4(at + 8) - u4(at + 4) + 1;
+                for (int i = 0; i < n; i++) {
+                    targets.add(pc + u4(at + 12 + 4 * i));
+                }
+            } else {
+                int n = u4(at + 4);
+                for (int i = 0; i < n; i++) {
+                    targets.add(pc + u4(at + 12 + 8 * i));
+                }
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * Returns the length (in bytes) of the instruction at the specified pc.
+     *
+     * @param pc
+     *            pc of the instruction.
+     * @return the length of the instruction.
+     */
+
+    private int length(int pc) {
+        int opcode = code.get(pc);
+        int at = pc + 1 + padding(pc);
+        switch (opcode) {
+        case TABLESWITCH:
+            return at - pc + 12 + 4 * (u4(at + 8) - u4(at + 4) + 1);
+        case LOOKUPSWITCH:
+            return at - pc + 8 + 8 * u4(at + 4);
+        case WIDE:
+            return code.get(pc + 1) == IINC ? 6 : 4;
+        default:
+            return 1 + CLInstruction.instructionInfo[opcode].operandCount;
+        }
+    }
+
+    /**
+     * Returns the number of bytes padding the operands of a switch
+     * instruction at the specified pc, so that they are 4-byte aligned.
+     *
+     * @param pc
+     *            pc of the instruction.
+     * @return the number of bytes of padding.
+     */
+
+    private static int padding(int pc) {
+        return (4 - (pc + 1) % 4) % 4;
+    }
+
+    /**
+     * Returns the unsigned 2-byte value in the code at the specified pc.
+     *
+     * @param pc
+     *            the pc.
+     * @return the value.
+     */
+
+    private int u2(int pc) {
+        return (code.get(pc) << 8) | code.get(pc + 1);
+    }
+
+    /**
+     * Returns the (signed) 4-byte value in the code at the specified pc.
+     *
+     * @param pc
+     *            the pc.
+     * @return the value.
+     */
+
+    private int u4(int pc) {
+        return (u2(pc) << 16) | u2(pc + 2);
+    }
+
+    /**
+     * Returns the name of the class at the specified constant pool index.
+     *
+     * @param index
+     *            constant pool index of the class.
+     * @return the name of the class, in internal form (or a descriptor, for
+     *         an array class).
+     */
+
+    private String className(int index) {
+        CLConstantClassInfo c = (CLConstantClassInfo) constantPool
+                .cpItem(index);
+        return utf8(c.nameIndex);
+    }
+
+    /**
+     * Returns the name of the field or method at the specified constant pool
+     * index.
+     *
+     * @param index
+     *            constant pool index of the field or method.
+     * @return the name.
+     */
+
+    private String memberName(int index) {
+        CLConstantMemberRefInfo m = (CLConstantMemberRefInfo) constantPool
+                .cpItem(index);
+        CLConstantNameAndTypeInfo n = (CLConstantNameAndTypeInfo) constantPool
+                .cpItem(m.nameAndTypeIndex);
+        return utf8(n.nameIndex);
+    }
+
+    /**
+     * Returns the descriptor of the field or method at the specified constant
+     * pool index.
+     *
+     * @param index
+     *            constant pool index of the field or method.
+     * @return the descriptor.
+     */
+
+    private String memberDescriptor(int index) {
+        CLConstantMemberRefInfo m = (CLConstantMemberRefInfo) constantPool
+                .cpItem(index);
+        CLConstantNameAndTypeInfo n = (CLConstantNameAndTypeInfo) constantPool
+                .cpItem(m.nameAndTypeIndex);
+        return utf8(n.descriptorIndex);
+    }
+
+    /**
+     * Returns the string at the specified constant pool index.
+     *
+     * @param index
+     *            constant pool index of the string.
+     * @return the string.
+     */
+
+    private String utf8(int index) {
+        return new String(((CLConstantUtf8Info) constantPool.cpItem(index)).b);
+    }
+
+    /**
+     * Returns the type of the constant (loaded by LDC, LDC_W or LDC2_W) at the
+     * specified constant pool index.
+     *
+     * @param index
+     *            constant pool index of the constant.
+     * @return the type.
+     */
+
+    private String constantType(int index) {
+        CLCPInfo c = constantPool.cpItem(index);
+        if (c instanceof CLConstantIntegerInfo) {
+            return "I";
+        } else if (c instanceof CLConstantFloatInfo) {
+            return "F";
+        } else if (c instanceof CLConstantLongInfo) {
+            return "J";
+        } else if (c instanceof CLConstantDoubleInfo) {
+            return "D";
+        } else if (c instanceof CLConstantStringInfo) {
+            return "Ljava/lang/String;";
+        }
+        return "Ljava/lang/Class;";
+    }
+
+    /**
+     * Returns the type of values of the specified field type.
+     *
+     * @param descriptor
+     *            descriptor of the field type.
+     * @return the type.
+     */
+
+    private static String fieldType(String descriptor) {
+        switch (descriptor.charAt(0)) {
+        case 'B':
+        case 'C':
+        case 'I':
+        case 'S':
+        case 'Z':
+            return "I";
+        default:
+            return descriptor;
+        }
+    }
+
+    /**
+     * Returns the type of instances of the specified class.
+     *
+     * @param name
+     *            name of the class, in internal form (or a descriptor, for an
+     *            array class).
+     * @return the type.
+     */
+
+    private static String classType(String name) {
+        return name.startsWith("[") ? name : "L" + name + ";";
+    }
+
+    /**
+     * Returns the types of the arguments of the specified method.
+     *
+     * @param descriptor
+     *            descriptor of the method.
+     * @return the types of the arguments.
+     */
+
+    private static ArrayList<String> argumentTypes(String descriptor) {
+        ArrayList<String> types = new ArrayList<String>();
+        int i = 1;
+        while (descriptor.charAt(i) != ')') {
+            int start = i;
+            while (descriptor.charAt(i) == '[') {
+                i++;
+            }
+            if (descriptor.charAt(i) == 'L') {
+                i = descriptor.indexOf(';', i);
+            }
+            i++;
+            types.add(fieldType(descriptor.substring(start, i)));
+        }
+        return types;
+    }
+
+    /**
+     * Returns whether values of the specified type take up two words.
+     *
+     * @param type
+     *            the type.
+     * @return {@code true} for longs and doubles; {@code false} otherwise.
+     */
+
+    static boolean isWide(String type) {
+        return type.equals("J") || type.equals("D");
+    }
+
+    /**
+     * Returns the type that values of the specified types both have.
+     *
+     * @param a
+     *            a type.
+     * @param b
+     *            another type.
+     * @return the merged type; top, if there is none.
+     */
+
+    String merge(String a, String b) {
+        if (a.equals(b)) {
+            return a;
+        } else if (a.equals("N") && isReference(b)) {
+            return b;
+        } else if (b.equals("N") && isReference(a)) {
+            return a;
+        } else if (isReference(a) && isReference(b)) {
+            return commonSuperType(a, b);
+        }
+        return "T";
+    }
+
+    /**
+     * Returns whether the specified type is a (initialized) reference type,
+     * or null.
+     *
+     * @param type
+     *            the type.
+     * @return {@code true} if it is; {@code false} otherwise.
+     */
+
+    private static boolean isReference(String type) {
+        return type.startsWith("L") || type.startsWith("[")
+                || type.equals("N");
+    }
+
+    /**
+     * Returns the least common supertype of the specified (distinct,
+     * non-null) reference types.
+     *
+     * @param a
+     *            a reference type.
+     * @param b
+     *            another reference type.
+     * @return the least common supertype.
+     */
+
+    private static String commonSuperType(String a, String b) {
+        String object = "Ljava/lang/Object;";
+        if (a.startsWith("[") && b.startsWith("[")) {
+            String componentA = a.substring(1);
+            String componentB = b.substring(1);
+            return isReference(componentA) && isReference(componentB) ? "["
+                    + (componentA.equals(componentB) ? componentA
+                            : commonSuperType(componentA, componentB))
+                    : object;
+        } else if (a.startsWith("[") || b.startsWith("[")) {
+            return object;
+        }
+        String nameA = a.substring(1, a.length() - 1);
+        String nameB = b.substring(1, b.length() - 1);
+        if (isInterface(nameA) || isInterface(nameB)) {
+            return object;
+        }
+        HashSet<String> superClassesA = new HashSet<String>();
+        for (String c = nameA; c != null; c = superClass(c)) {
+            superClassesA.add(c);
+        }
+        for (String c = nameB; c != null; c = superClass(c)) {
+            if (superClassesA.contains(c)) {
+                return classType(c);
+            }
+        }
+        return object;
+    }
+
+    /**
+     * Returns the superclass of the specified class.
+     *
+     * @param name
+     *            name of the class, in internal form.
+     * @return the name of the superclass, or {@code null} if the class is
+     *         Object, or is not known.
+     */
+
+    private static String superClass(String name) {
+        Class<?> c = load(name);
+        if (c == null || c.getSuperclass() == null) {
+            return null;
+        }
+        return c.getSuperclass().getName().replace('.', '/');
+    }
+
+    /**
+     * Returns whether the specified class is an interface.
+     *
+     * @param name
+     *            name of the class, in internal form.
+     * @return {@code true} if it is; {@code false} otherwise.
+     */
+
+    private static boolean isInterface(String name) {
+        Class<?> c = load(name);
+        return c != null && c.isInterface();
+    }
+
+    /**
+     * Returns the specified class: the partial class of the current
+     * compilation, if there is one, and otherwise the class loaded (but not
+     * initialized) from the class path.
+     *
+     * @param name
+     *            name of the class, in internal form.
+     * @return the class, or {@code null} if it is not found.
+     */
+
+    private static Class<?> load(String name) {
+        Class<?> compiled = CLEmitter.compiledClass(name);
+        if (compiled != null) {
+            return compiled;
+        }
+        try {
+            return Class.forName(name.replace('/', '.'), false, CLFrames.class
+                    .getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the verification types for the specified local variable or
+     * operand stack types, in which longs and doubles take up one entry.
+     *
+     * @param types
+     *            the local variable or operand stack types.
+     * @param isLocals
+     *            whether the types are those of the local variables, whose
+     *            trailing tops are left out.
+     * @return the verification types.
+     */
+
+    private ArrayList<CLVerificationTypeInfo> verificationTypes(
+            String[] types, boolean isLocals) {
+        ArrayList<CLVerificationTypeInfo> verificationTypes =
+            new ArrayList<CLVerificationTypeInfo>();
+        int end = types.length;
+        while (isLocals && end > 0 && types[end - 1].equals("T")) {
+            end--;
+        }
+        for (int i = 0; i < end; i++) {
+            String type = types[i];
+            verificationTypes.add(verificationType(type));
+            if (isWide(type)) {
+                i++;
+            }
+        }
+        return verificationTypes;
+    }
+
+    /**
+     * Returns the verification type for the specified type.
+     *
+     * @param type
+     *            the type.
+     * @return the verification type.
+     */
+
+    private CLVerificationTypeInfo verificationType(String type) {
+        switch (type.charAt(0)) {
+        case 'I':
+            return new CLVerificationTypeInfo(ITEM_Integer, 0);
+        case 'F':
+            return new CLVerificationTypeInfo(ITEM_Float, 0);
+        case 'J':
+            return new CLVerificationTypeInfo(ITEM_Long, 0);
+        case 'D':
+            return new CLVerificationTypeInfo(ITEM_Double, 0);
+        case 'N':
+            return new CLVerificationTypeInfo(ITEM_Null, 0);
+        case 'U':
+            return type.equals("U") ? new CLVerificationTypeInfo(
+                    ITEM_UninitializedThis, 0) : new CLVerificationTypeInfo(
+                    ITEM_Uninitialized, Integer.parseInt(type.substring(1)));
+        case 'L':
+            return new CLVerificationTypeInfo(ITEM_Object, constantPool
+                    .constantClassInfo(type.substring(1, type.length() - 1)));
+        case '[':
+            return new CLVerificationTypeInfo(ITEM_Object, constantPool
+                    .constantClassInfo(type));
+        default:
+            return new CLVerificationTypeInfo(ITEM_Top, 0);
+        }
+    }
+
+    /**
+     * Returns the most compact stack map frame for the specified types.
+     *
+     * @param offsetDelta
+     *            offset of the frame from the previous one.
+     * @param previous
+     *            the locals of the previous frame.
+     * @param locals
+     *            the locals.
+     * @param stack
+     *            the operand stack.
+     * @return the stack map frame.
+     */
+
+    private static CLStackMapFrame entry(int offsetDelta,
+            ArrayList<CLVerificationTypeInfo> previous,
+            ArrayList<CLVerificationTypeInfo> locals,
+            ArrayList<CLVerificationTypeInfo> stack) {
+        ArrayList<CLVerificationTypeInfo> none =
+            new ArrayList<CLVerificationTypeInfo>();
+        int k = locals.size() - previous.size();
+        if (stack.isEmpty() && k == 0 && locals.equals(previous)) {
+            return offsetDelta < 64 ? new CLStackMapFrame(SAME_FRAME
+                    + offsetDelta, offsetDelta, none, none)
+                    : new CLStackMapFrame(SAME_FRAME_EXTENDED, offsetDelta,
+                            none, none);
+        } else if (stack.size() == 1 && locals.equals(previous)) {
+            return offsetDelta < 64 ? new CLStackMapFrame(
+                    SAME_LOCALS_1_STACK_ITEM + offsetDelta, offsetDelta, none,
+                    stack) : new CLStackMapFrame(
+                    SAME_LOCALS_1_STACK_ITEM_EXTENDED, offsetDelta, none,
+                    stack);
+        } else if (stack.isEmpty() && 0 < k && k <= 3
+                && locals.subList(0, previous.size()).equals(previous)) {
+            return new CLStackMapFrame(SAME_FRAME_EXTENDED + k, offsetDelta,
+                    new ArrayList<CLVerificationTypeInfo>(locals.subList(
+                            previous.size(), locals.size())), none);
+        } else if (stack.isEmpty() && -3 <= k && k < 0
+                && previous.subList(0, locals.size()).equals(locals)) {
+            return new CLStackMapFrame(SAME_FRAME_EXTENDED + k, offsetDelta,
+                    none, none);
+        }
+        return new CLStackMapFrame(FULL_FRAME, offsetDelta, locals, stack);
+    }
+
+}
+
+/**
+ * The types of the local variables and of the operand stack at some point of
+ * the code of a method (see {@link CLFrames}). Longs and doubles take up two
+ * words, the second of which is top.
+ */
+
+class CLFrame {
+
+    /** Types of the local variables. */
+    public String[] locals;
+
+    /** Types of the operand stack, from its bottom. */
+    public ArrayList<String> stack;
+
+    /**
+     * Constructs a frame with the specified number of local variables, all
+     * top, and an empty operand stack.
+     *
+     * @param maxLocals
+     *            number of local variables.
+     */
+
+    public CLFrame(int maxLocals) {
+        locals = new String[maxLocals];
+        Arrays.fill(locals, "T");
+        stack = new ArrayList<String>();
+    }
+
+    /**
+     * Returns a copy of this frame.
+     *
+     * @return the copy.
+     */
+
+    public CLFrame copy() {
+        CLFrame frame = new CLFrame(0);
+        frame.locals = locals.clone();
+        frame.stack.addAll(stack);
+        return frame;
+    }
+
+    /**
+     * Pushes a value of the specified type onto the operand stack.
+     *
+     * @param type
+     *            the type.
+     */
+
+    public void push(String type) {
+        stack.add(type);
+        if (CLFrames.isWide(type)) {
+            stack.add("T");
+        }
+    }
+
+    /**
+     * Pops the specified number of words off the operand stack.
+     *
+     * @param words
+     *            number of words.
+     */
+
+    public void pop(int words) {
+        for (int i = 0; i < words; i++) {
+            stack.remove(stack.size() - 1);
+        }
+    }
+
+    /**
+     * Pops a value off the operand stack, and returns its type.
+     *
+     * @return the type.
+     */
+
+    public String pop() {
+        String type = stack.remove(stack.size() - 1);
+        if (type.equals("T") && !stack.isEmpty()
+                && CLFrames.isWide(stack.get(stack.size() - 1))) {
+            type = stack.remove(stack.size() - 1);
+        }
+        return type;
+    }
+
+    /**
+     * Copies the specified number of words on top of the operand stack to
+     * below the specified number of words (those copied included), as the
+     * DUP instructions do.
+     *
+     * @param words
+     *            number of words copied.
+     * @param depth
+     *            number of words from the top the copy goes below.
+     */
+
+    public void insert(int words, int depth) {
+        int size = stack.size();
+        stack.addAll(size - depth, new ArrayList<String>(stack.subList(size
+                - words, size)));
+    }
+
+    /**
+     * Stores a value of the specified type into the specified local variable.
+     *
+     * @param local
+     *            index of the local variable.
+     * @param type
+     *            the type.
+     */
+
+    public void store(int local, String type) {
+        if (local > 0 && CLFrames.isWide(locals[local - 1])) {
+            // The long or double there is overwritten
+            locals[local - 1] = "T";
+        }
+        locals[local] = type;
+        if (CLFrames.isWide(type)) {
+            locals[local + 1] = "T";
+        }
+    }
+
+    /**
+     * Replaces the specified type with another, in the local variables and
+     * the operand stack.
+     *
+     * @param type
+     *            the type replaced.
+     * @param by
+     *            the type it is replaced by.
+     */
+
+    public void replace(String type, String by) {
+        for (int i = 0; i < locals.length; i++) {
+            if (locals[i].equals(type)) {
+                locals[i] = by;
+            }
+        }
+        for (int i = 0; i < stack.size(); i++) {
+            if (stack.get(i).equals(type)) {
+                stack.set(i, by);
+            }
+        }
+    }
+
+    /**
+     * Merges the specified frame (with an operand stack as deep) into this
+     * one.
+     *
+     * @param frame
+     *            the frame.
+     * @param frames
+     *            for merging types.
+     * @return {@code true} if this frame changed; {@code false} otherwise.
+     */
+
+    public boolean merge(CLFrame frame, CLFrames frames) {
+        boolean changed = false;
+        for (int i = 0; i < locals.length; i++) {
+            String type = i < frame.locals.length ? frames.merge(locals[i],
+                    frame.locals[i]) : "T";
+            changed |= !type.equals(locals[i]);
+            locals[i] = type;
+        }
+        for (int i = 0; i < stack.size(); i++) {
+            String type = frames.merge(stack.get(i), frame.stack.get(i));
+            changed |= !type.equals(stack.get(i));
+            stack.set(i, type);
+        }
+        return changed;
+    }
+
+}
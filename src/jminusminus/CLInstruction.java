@@ -340,6 +340,17 @@ abstract class CLInstruction {
         return pc;
     }
 
+    /**
+     * Sets the pc for this instruction, for when the code around it changes.
+     * 
+     * @param pc
+     *            the pc.
+     */
+
+    public void setPC(int pc) {
+        this.pc = pc;
+    }
+
     /**
      * Returns the stack units for this instruction.
      * 
@@ -1140,6 +1151,17 @@ class CLFlowControlInstruction extends CLInstruction {
         return allLabelsResolved;
     }
 
+    /**
+     * Returns the label to jump to; applies only to FLOW_CONTROL1
+     * instructions.
+     * 
+     * @return the label to jump to.
+     */
+
+    public String jumpToLabel() {
+        return jumpToLabel;
+    }
+
     /**
      * Returns the pc of instruction to jump to.
      * 
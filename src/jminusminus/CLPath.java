@@ -2,13 +2,22 @@
 
 package jminusminus;
 
-import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+
+import java.net.URI;
+
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import java.util.ArrayList;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -16,19 +25,25 @@ import java.util.zip.ZipFile;
  * This class can be used to locate and load system, extension, and user-defined
  * class files from directories and zip (jar) files. The code for this class has
  * been adapted from the Kopi (http://www.dms.at/kopi/) project.
+ * <p>
+ * The system classes are found in the boot class path or rt.jar of older JDKs,
+ * and in the jrt:/ file system (the run-time image) of newer ones. A class is
+ * loaded from the first entry of the class path holding it. Jars are opened
+ * once, and kept open for all the class paths (and threads) to share; looking
+ * a class up in a jar is then a lookup in its (hashed) central directory.
  */
 
 class CLPath {
 
-    /**
-     * Stores the individual directories, zip, and jar files from the class
-     * path.
-     */
-    private ArrayList<String> dirs;
+    /** The class path of this JVM, built on first use. */
+    private static CLPath defaultPath;
+
+    /** The entries of the class path, in search order. */
+    private ArrayList<CLPathEntry> entries;
 
     /**
      * Return a list of conceptual directories defining the class path.
-     * 
+     *
      * @param classPath
      *            the directory names defining the class path.
      * @return a list of conceptual directories defining the class path.
@@ -44,7 +59,8 @@ class CLPath {
             container.add(entries.nextToken());
         }
 
-        // Add system directories
+        // Add system directories; from Java 9 on, the system classes are in
+        // the run-time image instead (see the constructor)
         if (System.getProperty("sun.boot.class.path") != null) {
             entries = new StringTokenizer(System
                     .getProperty("sun.boot.class.path"), File.pathSeparator);
@@ -52,12 +68,9 @@ class CLPath {
                 container.add(entries.nextToken());
             }
         } else {
-            float version = Float
-                    .parseFloat(System.getProperty("java.version"));
-            if (version > 1.1) {
-                String dir = System.getProperty("java.home")
-                        + File.separatorChar + "lib" + File.separatorChar
-                        + "rt.jar";
+            String dir = System.getProperty("java.home") + File.separatorChar
+                    + "lib" + File.separatorChar + "rt.jar";
+            if (new File(dir).isFile()) {
                 container.add(dir);
             }
         }
@@ -75,7 +88,7 @@ class CLPath {
     /**
      * Constructs a CLPath object given the directory names defining the path and
      * the directory for the Java extension classes.
-     * 
+     *
      * @param path
      *            the directory names defining the class path, separated by path
      *            separator.
@@ -92,7 +105,7 @@ class CLPath {
             // Last resort, use current directory
             path = ".";
         }
-        dirs = loadClassPath(path);
+        ArrayList<String> dirs = loadClassPath(path);
         if (extdir == null) {
             // Java extension classes
             extdir = System.getProperty("java.ext.dirs");
@@ -106,20 +119,53 @@ class CLPath {
                     if (file.isFile()
                             && (file.getName().endsWith(".zip") || file
                                     .getName().endsWith(".jar"))) {
-                        dirs.add(file.getName());
+                        dirs.add(file.getPath());
                     } else {
                         // Wrong suffix; ignore
                     }
                 }
             }
         }
+        entries = new ArrayList<CLPathEntry>();
+        for (String dir : dirs) {
+            File file = new File(dir);
+            if (file.isDirectory()) {
+                entries.add(new CLPathDirectory(file));
+            } else if (file.isFile()) {
+                CLPathJar jar = CLPathJar.open(file);
+                if (jar != null) {
+                    entries.add(jar);
+                }
+            } else {
+                // Bogus entry; ignore
+            }
+        }
+        CLPathImage image = CLPathImage.open();
+        if (image != null) {
+            entries.add(image);
+        }
+    }
+
+    /**
+     * Returns the class path of this JVM (as {@code new CLPath()} does), which
+     * is built once and shared.
+     *
+     * @return the class path.
+     */
+
+    public static synchronized CLPath defaultPath() {
+        if (defaultPath == null) {
+            defaultPath = new CLPath();
+        }
+        return defaultPath;
     }
 
     /**
      * Returns a CLInputStream instance for the class with specified name
-     * (fully-qualified; tokens separated by '/') or {@code null} if the class 
-     * was not found.
-     * 
+     * (fully-qualified; tokens separated by '/') or {@code null} if the class
+     * was not found. The class is read whole, so the stream holds no files
+     * open, and need not be closed.
+     *
      * @param name
      *            the fully-qualified name of the class -- java/util/ArrayList
      *            for example.
@@ -128,37 +174,273 @@ class CLPath {
      */
 
     public CLInputStream loadClass(String name) {
-        CLInputStream reader = null;
-        for (int i = 0; i < dirs.size(); i++) {
-            String dir = dirs.get(i);
-            File file = new File(dir);
-            if (file.isDirectory()) {
-                File theClass = new File(dir, name.replace('/',
-                        File.separatorChar)
-                        + ".class");
-                if (theClass.canRead()) {
-                    try {
-                        reader = new CLInputStream(new BufferedInputStream(
-                                new FileInputStream(theClass)));
-                    } catch (FileNotFoundException e) {
-                        // Ignore
-                    }
+        for (CLPathEntry entry : entries) {
+            try {
+                byte[] bytes = entry.read(name);
+                if (bytes != null) {
+                    return new CLInputStream(new ByteArrayInputStream(bytes));
                 }
-            } else if (file.isFile()) {
-                try {
-                    ZipFile zip = new ZipFile(dir);
-                    ZipEntry entry = zip.getEntry(name + ".class");
-                    if (entry != null) {
-                        reader = new CLInputStream(zip.getInputStream(entry));
-                    }
-                } catch (IOException e) {
-                    // Ignore
+            } catch (IOException e) {
+                // Ignore
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the specified stream to its end, and closes it.
+     *
+     * @param in
+     *            the stream.
+     * @return the bytes read.
+     * @exception IOException
+     *                if the stream cannot be read.
+     */
+
+    static byte[] readAll(InputStream in) throws IOException {
+        try {
+            return in.readAllBytes();
+        } finally {
+            in.close();
+        }
+    }
+
+}
+
+/**
+ * An entry of a class path: a directory, a jar, or the run-time image.
+ */
+
+abstract class CLPathEntry {
+
+    /**
+     * Reads the class file for the class with the specified name, if this
+     * entry holds it.
+     *
+     * @param name
+     *            the fully-qualified name of the class, tokens separated by
+     *            '/'.
+     * @return the bytes of the class file, or {@code null} if this entry does
+     *         not hold the class.
+     * @exception IOException
+     *                if the class file cannot be read.
+     */
+
+    public abstract byte[] read(String name) throws IOException;
+
+}
+
+/**
+ * A directory of a class path. Directories are not indexed, as a class may be
+ * written to one (by this compiler, say) while the class path is in use; a
+ * lookup costs one access to the file system.
+ */
+
+class CLPathDirectory extends CLPathEntry {
+
+    /** The directory. */
+    private File dir;
+
+    /**
+     * Constructs an entry for the specified directory.
+     *
+     * @param dir
+     *            the directory.
+     */
+
+    public CLPathDirectory(File dir) {
+        this.dir = dir;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public byte[] read(String name) throws IOException {
+        File theClass = new File(dir, name.replace('/', File.separatorChar)
+                + ".class");
+        return theClass.isFile() ? Files.readAllBytes(theClass.toPath())
+                : null;
+    }
+
+}
+
+/**
+ * A jar (or zip) file of a class path. Jars are pooled: each is opened once,
+ * and opened again only if it changes on disk.
+ */
+
+class CLPathJar extends CLPathEntry {
+
+    /** The jars opened, by canonical path. */
+    private static ConcurrentHashMap<String, CLPathJar> pool =
+        new ConcurrentHashMap<String, CLPathJar>();
+
+    /** The jar. */
+    private ZipFile zip;
+
+    /** Time the jar was last modified, when it was opened. */
+    private long lastModified;
+
+    /** Length of the jar, when it was opened. */
+    private long length;
+
+    /**
+     * Constructs an entry for the specified (open) jar.
+     *
+     * @param zip
+     *            the jar.
+     * @param file
+     *            the file of the jar.
+     */
+
+    private CLPathJar(ZipFile zip, File file) {
+        this.zip = zip;
+        lastModified = file.lastModified();
+        length = file.length();
+    }
+
+    /**
+     * Returns the entry for the specified jar from the pool, opening the jar
+     * if it is not there yet, or if it changed since it was opened.
+     *
+     * @param file
+     *            the jar.
+     * @return the entry, or {@code null} if the file cannot be opened as a
+     *         jar.
+     */
+
+    public static CLPathJar open(File file) {
+        try {
+            String path = file.getCanonicalPath();
+            CLPathJar jar = pool.get(path);
+            if (jar == null || jar.lastModified != file.lastModified()
+                    || jar.length != file.length()) {
+                // The jar it replaces may still be read from, so is left for
+                // the garbage collector to close
+                jar = new CLPathJar(new ZipFile(file), file);
+                pool.put(path, jar);
+            }
+            return jar;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public byte[] read(String name) throws IOException {
+        ZipEntry entry = zip.getEntry(name + ".class");
+        return entry == null ? null : CLPath.readAll(zip.getInputStream(entry));
+    }
+
+}
+
+/**
+ * The run-time image of the JVM (the jrt:/ file system, from Java 9 on), which
+ * holds the system classes in modules. A class is looked up through the
+ * modules holding its package, which are found (once per package) in the
+ * image's {@code /packages} directory.
+ */
+
+class CLPathImage extends CLPathEntry {
+
+    /** The run-time image, opened on first use. */
+    private static CLPathImage image;
+
+    /** The file system of the image. */
+    private FileSystem jrt;
+
+    /**
+     * The module directories holding each package looked up, by package name
+     * (tokens separated by '.').
+     */
+    private ConcurrentHashMap<String, ArrayList<Path>> packages;
+
+    /**
+     * Constructs an entry for the run-time image with the specified file
+     * system.
+     *
+     * @param jrt
+     *            the file system.
+     */
+
+    private CLPathImage(FileSystem jrt) {
+        this.jrt = jrt;
+        packages = new ConcurrentHashMap<String, ArrayList<Path>>();
+    }
+
+    /**
+     * Returns the entry for the run-time image.
+     *
+     * @return the entry, or {@code null} if this JVM has no run-time image.
+     */
+
+    public static synchronized CLPathImage open() {
+        if (image == null) {
+            try {
+                image = new CLPathImage(FileSystems.getFileSystem(URI
+                        .create("jrt:/")));
+            } catch (RuntimeException e) {
+                // No jrt:/ file system (before Java 9)
+                return null;
+            }
+        }
+        return image;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    public byte[] read(String name) throws IOException {
+        int slash = name.lastIndexOf('/');
+        if (slash < 0) {
+            // The image has no classes in the unnamed package
+            return null;
+        }
+        String packageName = name.substring(0, slash).replace('/', '.');
+        ArrayList<Path> modules = packages.get(packageName);
+        if (modules == null) {
+            modules = modules(packageName);
+            packages.putIfAbsent(packageName, modules);
+        }
+        for (Path module : modules) {
+            Path theClass = module.resolve(name + ".class");
+            if (Files.isRegularFile(theClass)) {
+                return Files.readAllBytes(theClass);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the directories of the modules holding the specified package.
+     *
+     * @param packageName
+     *            the package name.
+     * @return the module directories.
+     * @exception IOException
+     *                if the image cannot be read.
+     */
+
+    private ArrayList<Path> modules(String packageName) throws IOException {
+        ArrayList<Path> modules = new ArrayList<Path>();
+        Path dir = jrt.getPath("/packages", packageName);
+        if (Files.isDirectory(dir)) {
+            DirectoryStream<Path> links = Files.newDirectoryStream(dir);
+            try {
+                for (Path link : links) {
+                    modules.add(jrt.getPath("/modules", link.getFileName()
+                            .toString()));
                 }
-            } else {
-                // Bogus entry; ignore
+            } finally {
+                links.close();
             }
         }
-        return reader;
+        return modules;
     }
 
 }
@@ -0,0 +1,131 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+
+import java.net.InetAddress;
+import java.net.Socket;
+
+import java.util.ArrayList;
+
+/**
+ * A thin client for {@code CompileServer}. It sends the command-line
+ * arguments (with {@code @argfile}s expanded and paths made absolute, as the
+ * server may run in a different directory) to the server, and relays the
+ * server's response. Each request begins with the token the server left in
+ * its token file (see {@code CompileServer}), so only the user who started
+ * the server can use it.
+ */
+
+class CompileClient {
+
+    /** Port the server listens on. */
+    private int port;
+
+    /**
+     * Constructs a client for the server listening on the specified port.
+     *
+     * @param port
+     *            the port.
+     */
+
+    public CompileClient(int port) {
+        this.port = port;
+    }
+
+    /**
+     * Sends a compile request with the specified command-line arguments to the
+     * server, writes the compiler's output to STDOUT and STDERR, and returns
+     * the exit status.
+     *
+     * @param args
+     *            the command-line arguments for {@code Main}.
+     * @return the exit status; 0 for success.
+     * @exception IOException
+     *                if the server cannot be reached.
+     */
+
+    public int compile(String[] args) throws IOException {
+        return send(absolutePaths(Util.expandArgumentFiles(args)));
+    }
+
+    /**
+     * Asks the server to shut down.
+     *
+     * @exception IOException
+     *                if the server cannot be reached.
+     */
+
+    public void shutdown() throws IOException {
+        send(new String[] { CompileServer.SHUTDOWN });
+    }
+
+    /**
+     * Sends the specified request to the server, writes the compiler's output
+     * to STDOUT and STDERR, and returns the exit status.
+     *
+     * @param args
+     *            the request.
+     * @return the exit status.
+     * @exception IOException
+     *                if the server cannot be reached, or its token cannot be
+     *                read.
+     */
+
+    private int send(String[] args) throws IOException {
+        String token = CompileServer.readToken(port);
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        try {
+            DataOutputStream out = new DataOutputStream(socket
+                    .getOutputStream());
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            CompileServer.writeString(out, token);
+            CompileServer.writeArguments(out, args);
+            int status = in.readInt();
+            System.out.print(CompileServer.readString(in));
+            System.out.flush();
+            System.err.print(CompileServer.readString(in));
+            System.err.flush();
+            return status;
+        } finally {
+            socket.close();
+        }
+    }
+
+    /**
+     * Returns the specified arguments with the source files and the output
+     * directory made absolute. An output directory ({@code -d}) is added if
+     * none is specified, for the default (the current directory) is the
+     * client's and not the server's.
+     *
+     * @param args
+     *            the command-line arguments.
+     * @return the arguments with absolute paths.
+     */
+
+    private static String[] absolutePaths(String[] args) {
+        ArrayList<String> absolute = new ArrayList<String>();
+        boolean hasOutputDir = false;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].endsWith(".java")) {
+                absolute.add(new File(args[i]).getAbsolutePath());
+            } else if (args[i].equals("-d") && (i + 1) < args.length) {
+                absolute.add(args[i]);
+                absolute.add(new File(args[++i]).getAbsolutePath());
+                hasOutputDir = true;
+            } else {
+                absolute.add(args[i]);
+            }
+        }
+        if (!hasOutputDir) {
+            absolute.add(0, "-d");
+            absolute.add(1, new File(".").getAbsolutePath());
+        }
+        return absolute.toArray(new String[absolute.size()]);
+    }
+
+}
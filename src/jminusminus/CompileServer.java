@@ -0,0 +1,427 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+
+/**
+ * A compile server, which keeps a JVM (and so the JIT-compiled compiler, and
+ * the library types it has resolved) resident between compilations. The
+ * server listens on a loopback socket, and serves one compile request at a
+ * time; a request is the command-line arguments for {@code Main}, and the
+ * response is the exit status followed by whatever the compilation wrote to
+ * STDOUT and STDERR. {@code CompileClient} is a thin client for the server.
+ *
+ * <p>
+ * Paths in a request are resolved against the server's working directory, so
+ * clients should send absolute paths.
+ *
+ * <p>
+ * Trust model: the server compiles whatever paths a request names, and
+ * writes class files wherever its {@code -d} says, with the rights of the
+ * user who started it. A loopback socket is reachable by every local user,
+ * so each request must begin with a token that only that user can read. At
+ * start up the server writes a random token to
+ * {@code ~/.j--/server-<port>.token}, readable and writable by the owner
+ * only, and deletes it on shut down; the client reads the token from there.
+ * Requests with the wrong token, and malformed or oversized requests, are
+ * dropped without being compiled. The token guards against other local
+ * users, not against the owner's own processes, and it is only as private as
+ * the owner's home directory.
+ */
+
+class CompileServer {
+
+    /** Default port the server listens on. */
+    public static final int DEFAULT_PORT = 7071;
+
+    /** The request that asks the server to shut down. */
+    public static final String SHUTDOWN = "--shutdown";
+
+    /** Largest number of arguments accepted in a request. */
+    public static final int MAX_ARGUMENTS = 1 << 16;
+
+    /** Largest length (in bytes) of a string accepted on the connection. */
+    public static final int MAX_STRING_LENGTH = 1 << 26;
+
+    /** How long (in ms) the server waits on a silent client. */
+    private static final int READ_TIMEOUT = 30000;
+
+    /** Number of random bytes in a token. */
+    private static final int TOKEN_BYTES = 32;
+
+    /** Port the server listens on. */
+    private int port;
+
+    /** Token a request must begin with. */
+    private String token;
+
+    /** Register count to restore before each compilation. */
+    private int maxRegisters;
+
+    /**
+     * Constructs a compile server listening on the specified port.
+     *
+     * @param port
+     *            the port.
+     */
+
+    public CompileServer(int port) {
+        this.port = port;
+        maxRegisters = NPhysicalRegister.MAX_COUNT;
+    }
+
+    /**
+     * Serves compile requests until asked to shut down.
+     *
+     * @exception IOException
+     *                if the server socket cannot be opened, or the token
+     *                file cannot be written.
+     */
+
+    public void serve() throws IOException {
+        ServerSocket serverSocket = new ServerSocket(port, 50,
+                InetAddress.getLoopbackAddress());
+        File tokenFile = tokenFile(port);
+        try {
+            token = newToken();
+            writeToken(tokenFile, token);
+            System.out.println("j-- server listening on port " + port);
+            boolean shutdown = false;
+            while (!shutdown) {
+                Socket socket = serverSocket.accept();
+                try {
+                    socket.setSoTimeout(READ_TIMEOUT);
+                    shutdown = serve(socket);
+                } catch (IOException e) {
+                    System.err.println("Error: " + e.getMessage());
+                } catch (RuntimeException e) {
+                    // A bad request must not take the server down
+                    System.err.println("Error: " + e);
+                } finally {
+                    socket.close();
+                }
+            }
+        } finally {
+            tokenFile.delete();
+            serverSocket.close();
+        }
+    }
+
+    /**
+     * Serves the compile request on the specified connection.
+     *
+     * @param socket
+     *            the connection.
+     * @return {@code true} if the request was to shut down; {@code false}
+     *         otherwise.
+     * @exception IOException
+     *                if the connection fails.
+     */
+
+    private boolean serve(Socket socket) throws IOException {
+        DataInputStream in = new DataInputStream(socket.getInputStream());
+        DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+        byte[] expected = token.getBytes(StandardCharsets.UTF_8);
+        byte[] actual = readString(in).getBytes(StandardCharsets.UTF_8);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new IOException("request rejected: bad token");
+        }
+        String[] args = readArguments(in);
+        if (args.length == 1 && args[0].equals(SHUTDOWN)) {
+            writeResponse(out, 0, "", "");
+            return true;
+        }
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+        int status = compile(args, new PrintStream(stdout, true),
+                new PrintStream(stderr, true));
+        writeResponse(out, status, stdout.toString(), stderr.toString());
+        return false;
+    }
+
+    /**
+     * Compiles with the specified arguments, capturing the output of the
+     * compiler in the specified streams, and returns the exit status.
+     *
+     * @param args
+     *            the command-line arguments for {@code Main}.
+     * @param stdout
+     *            the stream standing in for STDOUT.
+     * @param stderr
+     *            the stream standing in for STDERR.
+     * @return the exit status; 0 for success.
+     */
+
+    private int compile(String[] args, PrintStream stdout, PrintStream stderr) {
+        PrintStream systemOut = System.out;
+        PrintStream systemErr = System.err;
+        System.setOut(stdout);
+        System.setErr(stderr);
+        try {
+            // Forget the types compiled by the previous request, and the
+            // options it set
+            Type.removeCompiledTypes();
+            NPhysicalRegister.MAX_COUNT = maxRegisters;
+            // The client's STDIN is not forwarded, and its STDOUT carries
+            // text only
+            for (String arg : args) {
+                if (arg.equals("--server") || arg.equals("--client")
+                        || arg.equals("-") || arg.equals("-o")) {
+                    System.err.println("Error: " + arg
+                            + " is not allowed in a compile request");
+                    return 1;
+                }
+            }
+            // Main.run, unlike Main.main, never exits the server
+            Main.run(args);
+            return Main.errorHasOccurred() ? 1 : 0;
+        } catch (Throwable e) {
+            // Keep serving whatever the compiler did
+            System.err.println("Error: " + e);
+            return 1;
+        } finally {
+            System.out.flush();
+            System.err.flush();
+            System.setOut(systemOut);
+            System.setErr(systemErr);
+        }
+    }
+
+    /**
+     * Writes a compile request (command-line arguments) to the specified
+     * stream.
+     *
+     * @param out
+     *            the stream.
+     * @param args
+     *            the arguments.
+     * @exception IOException
+     *                if the write fails.
+     */
+
+    public static void writeArguments(DataOutputStream out, String[] args)
+            throws IOException {
+        out.writeInt(args.length);
+        for (String arg : args) {
+            writeString(out, arg);
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a compile request (command-line arguments) from the specified
+     * stream.
+     *
+     * @param in
+     *            the stream.
+     * @return the arguments.
+     * @exception IOException
+     *                if the read fails, or the number of arguments is
+     *                negative or larger than {@code MAX_ARGUMENTS}.
+     */
+
+    public static String[] readArguments(DataInputStream in)
+            throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > MAX_ARGUMENTS) {
+            throw new IOException("bad argument count " + count);
+        }
+        String[] args = new String[count];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = readString(in);
+        }
+        return args;
+    }
+
+    /**
+     * Writes a compile response to the specified stream.
+     *
+     * @param out
+     *            the stream.
+     * @param status
+     *            the exit status.
+     * @param stdout
+     *            what the compiler wrote to STDOUT.
+     * @param stderr
+     *            what the compiler wrote to STDERR.
+     * @exception IOException
+     *                if the write fails.
+     */
+
+    public static void writeResponse(DataOutputStream out, int status,
+            String stdout, String stderr) throws IOException {
+        out.writeInt(status);
+        writeString(out, stdout);
+        writeString(out, stderr);
+        out.flush();
+    }
+
+    /**
+     * Writes a (length-prefixed, UTF-8 encoded) string to the specified
+     * stream. Unlike {@code writeUTF}, the string may be of any length.
+     *
+     * @param out
+     *            the stream.
+     * @param s
+     *            the string.
+     * @exception IOException
+     *                if the write fails.
+     */
+
+    public static void writeString(DataOutputStream out, String s)
+            throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a (length-prefixed, UTF-8 encoded) string from the specified
+     * stream.
+     *
+     * @param in
+     *            the stream.
+     * @return the string.
+     * @exception IOException
+     *                if the read fails, or the length is negative or larger
+     *                than {@code MAX_STRING_LENGTH}.
+     */
+
+    public static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_STRING_LENGTH) {
+            throw new IOException("bad string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the file holding the token of the server listening on the
+     * specified port.
+     *
+     * @param port
+     *            the port.
+     * @return the token file.
+     */
+
+    public static File tokenFile(int port) {
+        return new File(new File(System.getProperty("user.home"), ".j--"),
+                "server-" + port + ".token");
+    }
+
+    /**
+     * Reads the token of the server listening on the specified port.
+     *
+     * @param port
+     *            the port.
+     * @return the token.
+     * @exception IOException
+     *                if the token file cannot be read (for example, if no
+     *                server is running).
+     */
+
+    public static String readToken(int port) throws IOException {
+        File file = tokenFile(port);
+        if (!file.exists()) {
+            throw new IOException("no server running on port " + port
+                    + " (" + file + " not found)");
+        }
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        return new String(bytes, StandardCharsets.UTF_8).trim();
+    }
+
+    /**
+     * Returns a new random token, as a hexadecimal string.
+     *
+     * @return the token.
+     */
+
+    private static String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        StringBuilder token = new StringBuilder();
+        for (byte b : bytes) {
+            token.append(String.format("%02x", b & 0xff));
+        }
+        return token.toString();
+    }
+
+    /**
+     * Writes the specified token to the specified file, which (like its
+     * directory) is made readable and writable by the owner only before the
+     * token goes in.
+     *
+     * @param file
+     *            the token file.
+     * @param token
+     *            the token.
+     * @exception IOException
+     *                if the file cannot be written.
+     */
+
+    private static void writeToken(File file, String token)
+            throws IOException {
+        File dir = file.getParentFile();
+        Path path = file.toPath();
+        if (FileSystems.getDefault().supportedFileAttributeViews()
+                .contains("posix")) {
+            if (!dir.isDirectory()) {
+                Files.createDirectories(dir.toPath(), PosixFilePermissions
+                        .asFileAttribute(PosixFilePermissions
+                                .fromString("rwx------")));
+            }
+            Files.deleteIfExists(path);
+            Files.createFile(path, PosixFilePermissions
+                    .asFileAttribute(PosixFilePermissions
+                            .fromString("rw-------")));
+        } else {
+            dir.mkdirs();
+            Files.deleteIfExists(path);
+            Files.createFile(path);
+            ownerOnly(dir);
+            ownerOnly(file);
+        }
+        Files.write(path, token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Makes the specified file readable and writable by its owner only, where
+     * the file system does not support POSIX permissions.
+     *
+     * @param file
+     *            the file.
+     */
+
+    private static void ownerOnly(File file) {
+        file.setReadable(false, false);
+        file.setWritable(false, false);
+        file.setReadable(true, true);
+        file.setWritable(true, true);
+        if (file.isDirectory()) {
+            file.setExecutable(false, false);
+            file.setExecutable(true, true);
+        }
+    }
+
+}
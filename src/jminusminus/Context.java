@@ -90,7 +90,7 @@ class Context {
 
     public void addEntry(int line, String name, IDefn definition) {
         if (entries.containsKey(name)) {
-            JAST.compilationUnit.reportSemanticError(line, "redefining name: "
+            JAST.compilationUnit().reportSemanticError(line, "redefining name: "
                     + name);
         } else {
             entries.put(name, definition);
@@ -103,7 +103,7 @@ class Context {
             // System.out.println(exception.toString());
             exceptions.add(exception);
         } /*else if (exceptions.contains(exception)) {
-            JAST.compilationUnit.reportSemanticError(line, "Exception already exists: "
+            JAST.compilationUnit().reportSemanticError(line, "Exception already exists: "
             + exception.toString());
         }     */
     }
@@ -317,6 +317,12 @@ class ClassContext extends Context {
 
     private Set<String> initializedConstantFields;
 
+    /**
+     * Values of the static final fields initialized with constants, by name;
+     * references to these fields are replaced by their values.
+     */
+    private Map<String, Object> constantValues;
+
     /**
      * Constructs a class context.
      * 
@@ -331,6 +337,7 @@ class ClassContext extends Context {
         classContext = this;
         this.definition = definition;
         this.initializedConstantFields = new HashSet<String>();
+        this.constantValues = new HashMap<String, Object>();
     }
 
     /**
@@ -365,6 +372,33 @@ class ClassContext extends Context {
         return initializedConstantFields.contains(name);
     }
 
+    /**
+     * Records the value of a static final field initialized with a constant.
+     * 
+     * @param name
+     *            the name of the field.
+     * @param value
+     *            its value (see {@link JExpression#constantValue()}).
+     */
+
+    public void setConstantValue(String name, Object value) {
+        constantValues.put(name, value);
+    }
+
+    /**
+     * Returns the value of a static final field initialized with a constant,
+     * if its initialization has been analyzed.
+     * 
+     * @param name
+     *            the name of the field.
+     * @return the value, or {@code null} if the field is not known to be a
+     *         constant.
+     */
+
+    public Object constantValue(String name) {
+        return constantValues.get(name);
+    }
+
 }
 
 /**
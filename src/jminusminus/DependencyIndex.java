@@ -0,0 +1,366 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.TreeMap;
+
+/**
+ * An index, kept next to the compiler's output (in the destination
+ * directory), for incremental compilation. For each compilation unit it
+ * records a fingerprint of the unit's source, the types the unit declares, and
+ * the (compiled) types whose member signatures the unit used, each with a
+ * fingerprint of those signatures at the time. A unit need not be analyzed and
+ * compiled again if its source, and the signatures of the types it depends
+ * on, are unchanged, and its class files are still there. The index also
+ * records the options the class files were generated with; when they differ
+ * from the current ones, every unit is compiled again.
+ * <p>
+ * The index is a text file with one record per line:
+ * <pre>
+ *   options &lt;major version&gt; &lt;optimize&gt;
+ *   unit &lt;source fingerprint&gt; &lt;source file&gt;
+ *   type &lt;declared type&gt;
+ *   uses &lt;signature fingerprint&gt; &lt;type&gt;
+ * </pre>
+ * where the {@code options} record comes first, and the {@code type} and
+ * {@code uses} records belong to the preceding {@code unit}.
+ */
+
+class DependencyIndex {
+
+    /** Name of the index file. */
+    public static final String FILE_NAME = "j--.deps";
+
+    /** The destination directory. */
+    private String destDir;
+
+    /** The code generation options, as recorded in the index. */
+    private String options;
+
+    /** Maps (absolute) source file names to their entries. */
+    private TreeMap<String, Entry> entries;
+
+    /**
+     * Constructs a dependency index for the specified destination directory
+     * and code generation options, reading the index left there by the
+     * previous compilation, if any.
+     *
+     * @param destDir
+     *            the destination directory.
+     * @param majorVersion
+     *            the class file major version.
+     * @param optimize
+     *            whether the bytecode is optimized.
+     */
+
+    public DependencyIndex(String destDir, int majorVersion,
+            boolean optimize) {
+        this.destDir = destDir;
+        options = majorVersion + " " + optimize;
+        entries = new TreeMap<String, Entry>();
+        read();
+    }
+
+    /**
+     * Returns those of the specified (pre-analyzed) compilation units that
+     * must be analyzed and compiled again: those whose source or dependencies
+     * changed since the previous compilation, or whose class files are
+     * missing.
+     *
+     * @param units
+     *            the compilation units.
+     * @return the compilation units to recompile.
+     */
+
+    public ArrayList<JCompilationUnit> staleUnits(
+            ArrayList<JCompilationUnit> units) {
+        HashMap<String, Type> batchTypes = new HashMap<String, Type>();
+        for (JCompilationUnit unit : units) {
+            for (Type type : unit.declaredTypes()) {
+                batchTypes.put(type.toString(), type);
+            }
+        }
+        ArrayList<JCompilationUnit> stale = new ArrayList<JCompilationUnit>();
+        for (JCompilationUnit unit : units) {
+            if (!isUpToDate(unit, batchTypes)) {
+                stale.add(unit);
+            }
+        }
+        return stale;
+    }
+
+    /**
+     * Records the specified (successfully compiled) compilation units.
+     *
+     * @param units
+     *            the compilation units.
+     */
+
+    public void update(ArrayList<JCompilationUnit> units) {
+        for (JCompilationUnit unit : units) {
+            Entry entry = new Entry(sourceFingerprint(unit.fileName()));
+            for (Type type : unit.declaredTypes()) {
+                entry.types.add(type.toString());
+            }
+            for (Type type : unit.dependencies()) {
+                entry.uses.put(type.toString(), signatureFingerprint(type));
+            }
+            entries.put(canonicalName(unit.fileName()), entry);
+        }
+    }
+
+    /**
+     * Writes the index to the destination directory.
+     *
+     * @exception IOException
+     *                if the index cannot be written.
+     */
+
+    public void write() throws IOException {
+        new File(destDir).mkdirs();
+        PrintWriter out = new PrintWriter(new FileWriter(new File(destDir,
+                FILE_NAME)));
+        out.println("options " + options);
+        for (String fileName : entries.keySet()) {
+            Entry entry = entries.get(fileName);
+            out.println("unit " + entry.sourceFingerprint + " " + fileName);
+            for (String type : entry.types) {
+                out.println("type " + type);
+            }
+            for (String type : entry.uses.keySet()) {
+                out.println("uses " + entry.uses.get(type) + " " + type);
+            }
+        }
+        out.close();
+        if (out.checkError()) {
+            throw new IOException("cannot write " + FILE_NAME);
+        }
+    }
+
+    /**
+     * Is the specified compilation unit up to date?
+     *
+     * @param unit
+     *            the compilation unit.
+     * @param batchTypes
+     *            the types declared in the batch, by name.
+     * @return {@code true} if the unit need not be recompiled;
+     *         {@code false} otherwise.
+     */
+
+    private boolean isUpToDate(JCompilationUnit unit,
+            HashMap<String, Type> batchTypes) {
+        Entry entry = entries.get(canonicalName(unit.fileName()));
+        if (entry == null || !entry.sourceFingerprint.equals(
+                sourceFingerprint(unit.fileName()))) {
+            return false;
+        }
+        for (String type : entry.types) {
+            String classFile = type.replace('.', File.separatorChar)
+                    + ".class";
+            if (!new File(destDir, classFile).exists()) {
+                return false;
+            }
+        }
+        for (String name : entry.uses.keySet()) {
+            Type type = batchTypes.get(name);
+            if (type == null || !entry.uses.get(name).equals(
+                    signatureFingerprint(type))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the index from the destination directory. A missing or malformed
+     * index, or one written with other options, is taken to be empty, so that
+     * everything is compiled.
+     */
+
+    private void read() {
+        File file = new File(destDir, FILE_NAME);
+        if (!file.exists()) {
+            return;
+        }
+        try {
+            BufferedReader in = new BufferedReader(new FileReader(file));
+            try {
+                String line = in.readLine();
+                if (line == null || !line.equals("options " + options)) {
+                    return;
+                }
+                Entry entry = null;
+                while ((line = in.readLine()) != null) {
+                    String[] fields = line.split(" ", 3);
+                    if (fields[0].equals("unit") && fields.length == 3) {
+                        entry = new Entry(fields[1]);
+                        entries.put(fields[2], entry);
+                    } else if (fields[0].equals("type") && entry != null
+                            && fields.length == 2) {
+                        entry.types.add(fields[1]);
+                    } else if (fields[0].equals("uses") && entry != null
+                            && fields.length == 3) {
+                        entry.uses.put(fields[2], fields[1]);
+                    } else {
+                        throw new IOException("malformed " + FILE_NAME);
+                    }
+                }
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the canonical name of the specified file, which identifies it
+     * in the index.
+     *
+     * @param fileName
+     *            the file name.
+     * @return the canonical file name.
+     */
+
+    private static String canonicalName(String fileName) {
+        try {
+            return new File(fileName).getCanonicalPath();
+        } catch (IOException e) {
+            return new File(fileName).getAbsolutePath();
+        }
+    }
+
+    /**
+     * Returns a fingerprint of the contents of the specified source file, or
+     * the empty string if the file cannot be read.
+     *
+     * @param fileName
+     *            the source file name.
+     * @return the fingerprint.
+     */
+
+    private static String sourceFingerprint(String fileName) {
+        try {
+            return fingerprint(Files.readAllBytes(Paths.get(fileName)));
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    /**
+     * Returns a fingerprint of the member signatures of the specified
+     * (compiled) type, including those it inherits from its compiled super
+     * classes.
+     *
+     * @param type
+     *            the type.
+     * @return the fingerprint.
+     */
+
+    private static String signatureFingerprint(Type type) {
+        StringBuilder signatures = new StringBuilder();
+        for (Class<?> cls = type.classRep(); cls != null
+                && cls.getClassLoader() instanceof ByteClassLoader;
+                cls = cls.getSuperclass()) {
+            signatures.append(cls.getModifiers()).append(' ')
+                    .append(cls.getName()).append(" extends ")
+                    .append(cls.getSuperclass()).append(" implements");
+            for (Class<?> superInterface : cls.getInterfaces()) {
+                signatures.append(' ').append(superInterface.getName());
+            }
+            signatures.append('\n');
+            ArrayList<String> members = new ArrayList<String>();
+            for (java.lang.reflect.Field field : cls.getDeclaredFields()) {
+                members.add(field.toGenericString());
+            }
+            for (java.lang.reflect.Constructor constructor : cls
+                    .getDeclaredConstructors()) {
+                members.add(constructor.toGenericString());
+            }
+            for (java.lang.reflect.Method method : cls.getDeclaredMethods()) {
+                members.add(method.toGenericString());
+            }
+            String[] sorted = members.toArray(new String[members.size()]);
+            Arrays.sort(sorted);
+            for (String member : sorted) {
+                signatures.append(member).append('\n');
+            }
+        }
+        return fingerprint(signatures.toString().getBytes(
+                StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns a (hexadecimal) SHA-256 fingerprint of the specified bytes.
+     *
+     * @param bytes
+     *            the bytes.
+     * @return the fingerprint.
+     */
+
+    private static String fingerprint(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform has SHA-256
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * An entry in the index, for one compilation unit.
+     */
+
+    private static class Entry {
+
+        /** Fingerprint of the unit's source. */
+        public String sourceFingerprint;
+
+        /** Names of the types declared in the unit. */
+        public ArrayList<String> types;
+
+        /**
+         * Maps the names of the types the unit depends on to the fingerprints
+         * of their signatures.
+         */
+        public TreeMap<String, String> uses;
+
+        /**
+         * Constructs an entry given the fingerprint of the unit's source.
+         *
+         * @param sourceFingerprint
+         *            the fingerprint.
+         */
+
+        public Entry(String sourceFingerprint) {
+            this.sourceFingerprint = sourceFingerprint;
+            types = new ArrayList<String>();
+            uses = new TreeMap<String, String>();
+        }
+
+    }
+
+}
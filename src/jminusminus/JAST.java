@@ -9,8 +9,12 @@ package jminusminus;
 
 abstract class JAST {
 
-    /** Current compilation unit (set in JCompilationUnit()). */
-    public static JCompilationUnit compilationUnit;
+    /**
+     * Current compilation unit (set in JCompilationUnit()). Each thread
+     * compiling units in parallel has its own current unit.
+     */
+    private static ThreadLocal<JCompilationUnit> compilationUnit = 
+        new ThreadLocal<JCompilationUnit>();
 
     /** Line in which the source for the AST was found. */
     protected int line;
@@ -26,6 +30,27 @@ abstract class JAST {
         this.line = line;
     }
 
+    /**
+     * Returns the compilation unit currently being compiled by this thread.
+     * 
+     * @return the current compilation unit.
+     */
+
+    public static JCompilationUnit compilationUnit() {
+        return compilationUnit.get();
+    }
+
+    /**
+     * Sets the compilation unit currently being compiled by this thread.
+     * 
+     * @param unit
+     *            the current compilation unit.
+     */
+
+    public static void compilationUnit(JCompilationUnit unit) {
+        compilationUnit.set(unit);
+    }
+
     /**
      * Returns the line in which the source for the AST was found.
      * 
@@ -57,7 +57,7 @@ class JAssignOp extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment.");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment.");
         } else {
             lhs = (JExpression) ((JLhs) lhs).analyzeLhs(context);
         }
@@ -126,7 +126,7 @@ class JPlusAssignOp extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
             type = Type.ANY;
             return this;
         } else {
@@ -144,7 +144,7 @@ class JPlusAssignOp extends JAssignment {
             type = Type.STRING;
         } else {
             type = Type.ANY;
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for +=: " + lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for +=: " + lhs.type());
         }
 
         return this;
@@ -194,7 +194,7 @@ class JDivideAssignOp extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
             type = Type.ANY;
             return this;
         } else {
@@ -208,7 +208,7 @@ class JDivideAssignOp extends JAssignment {
             rhs.type().mustMatchExpected(line(), Type.DOUBLE);
             type = Type.DOUBLE;
         } else {
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for /=: " + lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for /=: " + lhs.type());
             type = Type.ANY;
         }
         return this;
@@ -245,7 +245,7 @@ class JMultiplyAssignOp extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
             type = Type.ANY;
             return this;
         } else {
@@ -260,7 +260,7 @@ class JMultiplyAssignOp extends JAssignment {
             type = Type.DOUBLE;
         } else {
             type = Type.ANY;
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for *=: " + lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for *=: " + lhs.type());
         }
         return this;
     }
@@ -294,7 +294,7 @@ class JSubtractAssignOp extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
             type = Type.ANY;
             return this;
         } else {
@@ -309,7 +309,7 @@ class JSubtractAssignOp extends JAssignment {
             type = Type.DOUBLE;
         } else {
             type = Type.ANY;
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for -=: " + lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for -=: " + lhs.type());
         }
         return this;
     }
@@ -345,7 +345,7 @@ class JRemainderAssignOp extends JAssignment {
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
             type = Type.ANY;
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
             return this;
         } else {
             lhs = (JExpression) ((JLhs) lhs).analyzeLhs(context);
@@ -359,7 +359,7 @@ class JRemainderAssignOp extends JAssignment {
             type = Type.DOUBLE;
         } else {
             type = Type.ANY;
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for %s: ", lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for %s: ", lhs.type());
         }
         return this;
     }
@@ -394,7 +394,7 @@ class JAndAssignOp extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
             type = Type.ANY;
             return this;
         } else {
@@ -408,7 +408,7 @@ class JAndAssignOp extends JAssignment {
             rhs.type().mustMatchExpected(line(), Type.BOOLEAN);
             type = Type.BOOLEAN;
         } else {
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for: " + lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for: " + lhs.type());
             type = Type.ANY;
         }
         return this;
@@ -440,7 +440,7 @@ class JOrAssignOp extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
             type = Type.ANY;
             return this;
         } else {
@@ -454,7 +454,7 @@ class JOrAssignOp extends JAssignment {
             rhs.type().mustMatchExpected(line(), Type.BOOLEAN);
             type = Type.BOOLEAN;
         } else {
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for: " + lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for: " + lhs.type());
             type = Type.ANY;
         }
         return this;
@@ -485,7 +485,7 @@ class JXOrAssignOp extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
             type = Type.ANY;
             return this;
         } else {
@@ -499,7 +499,7 @@ class JXOrAssignOp extends JAssignment {
             rhs.type().mustMatchExpected(line(), Type.BOOLEAN);
             type = Type.BOOLEAN;
         } else {
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for: " + lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for: " + lhs.type());
             type = Type.ANY;
         }
         return this;
@@ -530,7 +530,7 @@ class JShiftLeftAssignOp extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
             type = Type.ANY;
             return this;
         } else {
@@ -541,7 +541,7 @@ class JShiftLeftAssignOp extends JAssignment {
             rhs.type().mustMatchExpected(line(), Type.INT);
             type = Type.INT;
         } else {
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for <<=: " + lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for <<=: " + lhs.type());
             type = Type.ANY;
         }
         return this;
@@ -572,7 +572,7 @@ class JShiftRightAssignOp extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
             type = Type.ANY;
             return this;
         } else {
@@ -584,7 +584,7 @@ class JShiftRightAssignOp extends JAssignment {
             type = Type.INT;
         } else {
             type = Type.ANY;
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for >>=: " + lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for >>=: " + lhs.type());
         }
         return this;
     }
@@ -615,7 +615,7 @@ class JUnsignedShiftRightAssignOp extends JAssignment {
 
     public JExpression analyze(Context context) {
         if (!(lhs instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line(), "Illegal lhs for assignment");
+            JAST.compilationUnit().reportSemanticError(line(), "Illegal lhs for assignment");
             type = Type.ANY;
             return this;
         } else {
@@ -627,7 +627,7 @@ class JUnsignedShiftRightAssignOp extends JAssignment {
             type = Type.INT;
         } else {
             type = Type.ANY;
-            JAST.compilationUnit.reportSemanticError(line(), "Invalid lhs type for >>>=: " + lhs.type());
+            JAST.compilationUnit().reportSemanticError(line(), "Invalid lhs type for >>>=: " + lhs.type());
         }
         return this;
     }
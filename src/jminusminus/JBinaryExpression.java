@@ -42,6 +42,44 @@ abstract class JBinaryExpression extends JExpression {
         this.rhs = rhs;
     }
 
+    /**
+     * Folds this (analyzed) expression into a literal, if its operands are
+     * constants and the operator's result for them is known at compile time.
+     * Analysis of an operator returns what this returns.
+     * 
+     * @return a literal for the value of this expression, or this expression
+     *         if it does not fold.
+     */
+
+    protected JExpression fold() {
+        Object lhsValue = lhs.constantValue();
+        Object rhsValue = rhs.constantValue();
+        if (type == Type.ANY || lhsValue == null || rhsValue == null) {
+            return this;
+        }
+        Object value = fold(lhsValue, rhsValue);
+        return value == null ? this : JExpression.literalFor(line, value);
+    }
+
+    /**
+     * Returns the result of the operator for the specified constant operands,
+     * as Java defines it. Subclasses override this for the operators that
+     * fold; an operator does not fold operands of the wrong types (which
+     * analysis has reported), nor those for which it throws an exception at
+     * run time, such as an int division by zero.
+     * 
+     * @param lhs
+     *            value of the lhs operand.
+     * @param rhs
+     *            value of the rhs operand.
+     * @return the result, or {@code null} if the operator does not fold for
+     *         these operands.
+     */
+
+    protected Object fold(Object lhs, Object rhs) {
+        return null;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -116,10 +154,23 @@ class JPlusOp extends JBinaryExpression {
         } else 
         {
             type = Type.ANY;
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                     "Invalid operand types for +");
         }
-        return this;
+        return fold();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    protected Object fold(Object lhs, Object rhs) {
+        if (lhs instanceof Integer && rhs instanceof Integer) {
+            return (Integer) lhs + (Integer) rhs;
+        } else if (lhs instanceof Double && rhs instanceof Double) {
+            return (Double) lhs + (Double) rhs;
+        }
+        return null;
     }
 
     /**
@@ -190,10 +241,23 @@ class JSubtractOp extends JBinaryExpression {
         }
         else {
             type = Type.ANY;
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                     "Invalid operand types for -");
         }
-        return this;
+        return fold();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    protected Object fold(Object lhs, Object rhs) {
+        if (lhs instanceof Integer && rhs instanceof Integer) {
+            return (Integer) lhs - (Integer) rhs;
+        } else if (lhs instanceof Double && rhs instanceof Double) {
+            return (Double) lhs - (Double) rhs;
+        }
+        return null;
     }
 
     /**
@@ -259,10 +323,23 @@ class JMultiplyOp extends JBinaryExpression {
             type = Type.DOUBLE;   
         } else {
             type = Type.ANY;
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                     "Invalid operand types for *");
         }
-        return this;
+        return fold();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    protected Object fold(Object lhs, Object rhs) {
+        if (lhs instanceof Integer && rhs instanceof Integer) {
+            return (Integer) lhs * (Integer) rhs;
+        } else if (lhs instanceof Double && rhs instanceof Double) {
+            return (Double) lhs * (Double) rhs;
+        }
+        return null;
     }
 
     /**
@@ -306,10 +383,20 @@ class JDivideOp extends JBinaryExpression {
             type = Type.DOUBLE;   
         } else {
             type = Type.ANY;
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                     "Invalid operand types for /");
         }
-        return this;
+        return fold();
+    }
+
+    protected Object fold(Object lhs, Object rhs) {
+        if (lhs instanceof Integer && rhs instanceof Integer) {
+            // An int division by zero throws at run time
+            return (Integer) rhs == 0 ? null : (Integer) lhs / (Integer) rhs;
+        } else if (lhs instanceof Double && rhs instanceof Double) {
+            return (Double) lhs / (Double) rhs;
+        }
+        return null;
     }
 
     public void codegen(CLEmitter output)  {
@@ -343,10 +430,20 @@ class JRemainderOp extends JBinaryExpression {
             type = Type.DOUBLE;   
         } else {
             type = Type.ANY;
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                     "Invalid operand types for remainder");
         }
-        return this;
+        return fold();
+    }
+
+    protected Object fold(Object lhs, Object rhs) {
+        if (lhs instanceof Integer && rhs instanceof Integer) {
+            // An int division by zero throws at run time
+            return (Integer) rhs == 0 ? null : (Integer) lhs % (Integer) rhs;
+        } else if (lhs instanceof Double && rhs instanceof Double) {
+            return (Double) lhs % (Double) rhs;
+        }
+        return null;
     }
 
     public void codegen(CLEmitter output) {
@@ -376,7 +473,14 @@ class JUnsignedShiftRight extends JBinaryExpression {
         lhs.type().mustMatchExpected(line(), Type.INT);
         rhs.type().mustMatchExpected(line(), Type.INT);
         type = Type.INT;
-        return this;
+        return fold();
+    }
+
+    protected Object fold(Object lhs, Object rhs) {
+        if (lhs instanceof Integer && rhs instanceof Integer) {
+            return (Integer) lhs >>> (Integer) rhs;
+        }
+        return null;
     }
 
     public void codegen(CLEmitter output) {
@@ -397,7 +501,14 @@ class JBitwiseAndOp extends JBinaryExpression {
         lhs.type().mustMatchExpected(line(), Type.INT);
         rhs.type().mustMatchExpected(line(), Type.INT);
         type = Type.INT;
-        return this;
+        return fold();
+    }
+
+    protected Object fold(Object lhs, Object rhs) {
+        if (lhs instanceof Integer && rhs instanceof Integer) {
+            return (Integer) lhs & (Integer) rhs;
+        }
+        return null;
     }
     
     public void codegen(CLEmitter output) {
@@ -421,7 +532,14 @@ class JShiftRight extends JBinaryExpression {
         lhs.type().mustMatchExpected(line(), Type.INT);
         rhs.type().mustMatchExpected(line(), Type.INT);
         type = Type.INT;
-        return this;
+        return fold();
+    }
+
+    protected Object fold(Object lhs, Object rhs) {
+        if (lhs instanceof Integer && rhs instanceof Integer) {
+            return (Integer) lhs >> (Integer) rhs;
+        }
+        return null;
     }
 
     public void codegen(CLEmitter output) {
@@ -442,7 +560,14 @@ class JBitwiseOrOp extends JBinaryExpression {
         lhs.type().mustMatchExpected(line(), Type.INT);
         rhs.type().mustMatchExpected(line(), Type.INT);
         type = Type.INT;
-        return this;
+        return fold();
+    }
+
+    protected Object fold(Object lhs, Object rhs) {
+        if (lhs instanceof Integer && rhs instanceof Integer) {
+            return (Integer) lhs | (Integer) rhs;
+        }
+        return null;
     }
 
     public void codegen(CLEmitter output) {
@@ -463,7 +588,14 @@ class JBitwiseXorOp extends JBinaryExpression {
         lhs.type().mustMatchExpected(line(), Type.INT);
         rhs.type().mustMatchExpected(line(), Type.INT);
         type = Type.INT;
-        return this;
+        return fold();
+    }
+
+    protected Object fold(Object lhs, Object rhs) {
+        if (lhs instanceof Integer && rhs instanceof Integer) {
+            return (Integer) lhs ^ (Integer) rhs;
+        }
+        return null;
     }
 
     public void codegen(CLEmitter output) {
@@ -489,7 +621,14 @@ class JShiftLeft extends JBinaryExpression {
         lhs.type().mustMatchExpected(line(), Type.INT);
         rhs.type().mustMatchExpected(line(), Type.INT);
         type = Type.INT;
-        return this;
+        return fold();
+    }
+
+    protected Object fold(Object lhs, Object rhs) {
+        if (lhs instanceof Integer && rhs instanceof Integer) {
+            return (Integer) lhs << (Integer) rhs;
+        }
+        return null;
     }
 
     public void codegen(CLEmitter output) {
@@ -56,6 +56,28 @@ abstract class JBooleanBinaryExpression extends JBinaryExpression {
         output.addLabel(endIfLabel);
     }
 
+    /**
+     * Are the specified constants equal, as Java's == defines it? Doubles are
+     * compared as numbers (so NaN is not equal to itself, and 0.0 is equal to
+     * -0.0), and strings by value, since constant strings are interned.
+     * 
+     * @param lhs
+     *            value of the lhs operand.
+     * @param rhs
+     *            value of the rhs operand.
+     * @return whether the constants are equal, or {@code null} if they are not
+     *         of the same type.
+     */
+
+    protected static Boolean equal(Object lhs, Object rhs) {
+        if (lhs.getClass() != rhs.getClass()) {
+            return null;
+        } else if (lhs instanceof Double) {
+            return ((Double) lhs).doubleValue() == ((Double) rhs).doubleValue();
+        }
+        return lhs.equals(rhs);
+    }
+
 }
 
 /**
@@ -95,7 +117,15 @@ class JEqualOp extends JBooleanBinaryExpression {
         rhs = (JExpression) rhs.analyze(context);
         lhs.type().mustMatchExpected(line(), rhs.type());
         type = Type.BOOLEAN;
-        return this;
+        return fold();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    protected Object fold(Object lhs, Object rhs) {
+        return equal(lhs, rhs);
     }
 
     /**
@@ -167,6 +197,21 @@ class JLogicalAndOp extends JBooleanBinaryExpression {
         lhs.type().mustMatchExpected(line(), Type.BOOLEAN);
         rhs.type().mustMatchExpected(line(), Type.BOOLEAN);
         type = Type.BOOLEAN;
+        return fold();
+    }
+
+    /**
+     * Folds this expression if its lhs is a constant: {@code false && rhs} is
+     * false (rhs is not evaluated), and {@code true && rhs} is rhs.
+     * 
+     * @return the folded expression, or this expression if it does not fold.
+     */
+
+    protected JExpression fold() {
+        Object lhsValue = lhs.constantValue();
+        if (lhsValue instanceof Boolean && rhs.type() == Type.BOOLEAN) {
+            return (Boolean) lhsValue ? rhs : lhs;
+        }
         return this;
     }
 
@@ -236,6 +281,21 @@ class JLogicalOrOp extends JBooleanBinaryExpression {
         lhs.type().mustMatchExpected(line(), Type.BOOLEAN);
         rhs.type().mustMatchExpected(line(), Type.BOOLEAN);
         type = Type.BOOLEAN;
+        return fold();
+    }
+
+    /**
+     * Folds this expression if its lhs is a constant: {@code true || rhs} is
+     * true (rhs is not evaluated), and {@code false || rhs} is rhs.
+     * 
+     * @return the folded expression, or this expression if it does not fold.
+     */
+
+    protected JExpression fold() {
+        Object lhsValue = lhs.constantValue();
+        if (lhsValue instanceof Boolean && rhs.type() == Type.BOOLEAN) {
+            return (Boolean) lhsValue ? lhs : rhs;
+        }
         return this;
     }
 
@@ -287,7 +347,16 @@ class JNotEqualOp extends JBooleanBinaryExpression {
         rhs = (JExpression) rhs.analyze(context);
         lhs.type().mustMatchExpected(line(), rhs.type());
         type = Type.BOOLEAN;
-        return this;
+        return fold();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    protected Object fold(Object lhs, Object rhs) {
+        Boolean equal = equal(lhs, rhs);
+        return equal == null ? null : !equal;
     }
 
     public void codegen(CLEmitter output, String targetLabel, boolean onTrue) {
@@ -105,6 +105,16 @@ class JClassDeclaration extends JAST implements JTypeDecl {
         return superType;
     }
 
+    /**
+     * Returns the types of the interfaces this class implements.
+     * 
+     * @return the implemented interfaces' types.
+     */
+
+    public List<Type> interfaceSuperTypes() {
+        return interfaceSuperTypes;
+    }
+
     /**
      * Returns the type that this class declaration defines.
      * 
@@ -143,8 +153,8 @@ class JClassDeclaration extends JAST implements JTypeDecl {
      */
 
     public void declareThisType(Context context) {
-        String qualifiedName = JAST.compilationUnit.packageName() == "" ? name
-                : JAST.compilationUnit.packageName() + "/" + name;
+        String qualifiedName = JAST.compilationUnit().packageName() == "" ? name
+                : JAST.compilationUnit().packageName() + "/" + name;
         
         ArrayList<String> interfaceJVMNames = this.interfaceSuperTypes.stream()
                 .map(x -> x.jvmName())
@@ -182,7 +192,7 @@ class JClassDeclaration extends JAST implements JTypeDecl {
         // violated, so we can't defer these checks to analyze()
         thisType.checkAccess(line, superType);
         if (superType.isFinal()) {
-            JAST.compilationUnit.reportSemanticError(line, "Cannot extend a final type: %s", superType.toString());
+            JAST.compilationUnit().reportSemanticError(line, "Cannot extend a final type: %s", superType.toString());
         }
 
         // Create the (partial) class
@@ -192,8 +202,8 @@ class JClassDeclaration extends JAST implements JTypeDecl {
                 .collect(Collectors.toCollection(ArrayList::new));
 
         // Add the class header to the partial class
-        String qualifiedName = JAST.compilationUnit.packageName() == "" ? name
-                : JAST.compilationUnit.packageName() + "/" + name;
+        String qualifiedName = JAST.compilationUnit().packageName() == "" ? name
+                : JAST.compilationUnit().packageName() + "/" + name;
         partial.addClass(mods, qualifiedName, superType.jvmName(), interfaceJVMNames, false);
 
         // Pre-analyze the members and add them to the partial
@@ -213,7 +223,7 @@ class JClassDeclaration extends JAST implements JTypeDecl {
         // Get the Class rep for the (partial) class and make it
         // the representation for this type
         Type id = this.context.lookupType(name);
-        if (id != null && !JAST.compilationUnit.errorHasOccurred()) {
+        if (id != null && !JAST.compilationUnit().errorHasOccurred()) {
             id.setClassRep(partial.toClass());
         }
     }
@@ -270,7 +280,7 @@ class JClassDeclaration extends JAST implements JTypeDecl {
             for (Method method : thisType.abstractMethods()) {
                 methods += "\n" + method;
             }
-            JAST.compilationUnit.reportSemanticError(line,
+            JAST.compilationUnit().reportSemanticError(line,
                     "Class must be declared abstract since it defines " + "the following abstract methods: %s",
                     methods);
 
@@ -287,8 +297,8 @@ class JClassDeclaration extends JAST implements JTypeDecl {
 
     public void codegen(CLEmitter output) {
         // The class header
-        String qualifiedName = JAST.compilationUnit.packageName() == "" ? name
-                : JAST.compilationUnit.packageName() + "/" + name;
+        String qualifiedName = JAST.compilationUnit().packageName() == "" ? name
+                : JAST.compilationUnit().packageName() + "/" + name;
         output.addClass(mods, qualifiedName, superType.jvmName(), null, false);
 
         // The implicit empty constructor?
@@ -43,9 +43,43 @@ abstract class JComparison extends JBooleanBinaryExpression {
         lhs.type().mustMatchOneOf(line(), Type.INT, Type.DOUBLE);
         rhs.type().mustMatchExpected(line(), lhs.type());
         type = Type.BOOLEAN;
-        return this;
+        return fold();
     }
 
+    /**
+     * Compares constant operands, both ints or both doubles. Ints are compared
+     * as doubles, which hold them exactly; as in Java, any comparison with NaN
+     * is false.
+     * 
+     * @param lhs
+     *            value of the lhs operand.
+     * @param rhs
+     *            value of the rhs operand.
+     * @return the result of the comparison, or {@code null} if the operands
+     *         are not comparable.
+     */
+
+    protected Object fold(Object lhs, Object rhs) {
+        if ((lhs instanceof Integer && rhs instanceof Integer)
+                || (lhs instanceof Double && rhs instanceof Double)) {
+            return compare(((Number) lhs).doubleValue(), ((Number) rhs)
+                    .doubleValue());
+        }
+        return null;
+    }
+
+    /**
+     * Applies the comparison operator to the specified operands.
+     * 
+     * @param lhs
+     *            the lhs operand.
+     * @param rhs
+     *            the rhs operand.
+     * @return the result of the comparison.
+     */
+
+    protected abstract boolean compare(double lhs, double rhs);
+
 }
 
 /**
@@ -72,6 +106,14 @@ class JGreaterThanOp extends JComparison {
         super(line, ">", lhs, rhs);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+
+    protected boolean compare(double lhs, double rhs) {
+        return lhs > rhs;
+    }
+
     /**
      * Branching code generation for &gt; operation.
      * 
@@ -123,6 +165,14 @@ class JLessEqualOp extends JComparison {
         super(line, "<=", lhs, rhs);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+
+    protected boolean compare(double lhs, double rhs) {
+        return lhs <= rhs;
+    }
+
     /**
      * Branching code generation for &lt;= operation.
      * 
@@ -174,6 +224,14 @@ class JLessThanOp extends JComparison {
         super(line, "<", lhs, rhs);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+
+    protected boolean compare(double lhs, double rhs) {
+        return lhs < rhs;
+    }
+
     /**
      * Branching code generation for < operation.
      * 
@@ -225,6 +283,14 @@ class JGreaterEqualOp extends JComparison {
         super(line, ">=", lhs, rhs);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+
+    protected boolean compare(double lhs, double rhs) {
+        return lhs >= rhs;
+    }
+
     /**
      * Branching code generation for &lt;= operation.
      * 
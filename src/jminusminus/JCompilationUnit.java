@@ -2,7 +2,17 @@
 
 package jminusminus;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
 /**
  * The abstract syntax tree (AST) node representing a compilation unit, and so
@@ -68,6 +78,12 @@ class JCompilationUnit extends JAST {
     /** Whether a semantic error has been found. */
     private boolean isInError;
 
+    /**
+     * Types (compiled in the same batch) whose member signatures this unit has
+     * used in pre-analysis and analysis; see {@link DependencyIndex}.
+     */
+    private HashSet<Type> dependencies;
+
     /**
      * Constructs an AST node for a compilation unit given a file name, class
      * directory, line number, package name, list of imports, and type
@@ -93,7 +109,18 @@ class JCompilationUnit extends JAST {
         this.imports = imports;
         this.typeDeclarations = typeDeclarations;
         clFiles = new ArrayList<CLFile>();
-        compilationUnit = this;
+        dependencies = new HashSet<Type>();
+        compilationUnit(this);
+    }
+
+    /**
+     * Returns the name of the source file.
+     * 
+     * @return the source file name.
+     */
+
+    public String fileName() {
+        return fileName;
     }
 
     /**
@@ -107,6 +134,44 @@ class JCompilationUnit extends JAST {
                                                      .replace(".", "/");
     }
 
+    /**
+     * Returns the types declared in this compilation unit. Meaningful only 
+     * after pre-analysis.
+     * 
+     * @return the declared types.
+     */
+
+    public ArrayList<Type> declaredTypes() {
+        ArrayList<Type> types = new ArrayList<Type>();
+        for (JAST typeDeclaration : typeDeclarations) {
+            types.add(((JTypeDecl) typeDeclaration).thisType());
+        }
+        return types;
+    }
+
+    /**
+     * Records that this compilation unit uses the member signatures of the
+     * specified (compiled) type.
+     * 
+     * @param type
+     *            the type.
+     */
+
+    public void addDependency(Type type) {
+        dependencies.add(type);
+    }
+
+    /**
+     * Returns the (compiled) types whose member signatures this compilation
+     * unit has used.
+     * 
+     * @return the types.
+     */
+
+    public HashSet<Type> dependencies() {
+        return dependencies;
+    }
+
     /**
      * Has a semantic error occurred up to now?
      * 
@@ -132,9 +197,7 @@ class JCompilationUnit extends JAST {
     public void reportSemanticError(int line, String message,
             Object... arguments) {
         isInError = true;
-        System.err.printf("%s:%d: ", fileName, line);
-        System.err.printf(message, arguments);
-        System.err.println();
+        JMinusMinusCompiler.report(fileName, line, message, arguments);
     }
 
     /**
@@ -144,6 +207,117 @@ class JCompilationUnit extends JAST {
      */
 
     public void preAnalyze() {
+        ArrayList<JCompilationUnit> units = new ArrayList<JCompilationUnit>();
+        units.add(this);
+        preAnalyze(units);
+    }
+
+    /**
+     * Pre-analyzes a batch of compilation units that are compiled together.
+     * The types declared in all of the units are declared first, so that a unit
+     * may refer to the types declared in the other units: by simple name if
+     * they are in the same package (or imported), and by fully qualified name
+     * otherwise. The type declarations are then pre-analyzed with super types
+     * declared in the batch ahead of their sub types, since a partial class
+     * can only be loaded once its super types have been.
+     * 
+     * @param units
+     *            the compilation units making up the batch.
+     */
+
+    public static void preAnalyze(ArrayList<JCompilationUnit> units) {
+        // Declare the locally declared type(s) of every unit
+        CLEmitter.initializeByteClassLoader();
+        HashMap<String, Type> declaredTypes = new HashMap<String, Type>();
+        HashMap<Type, JTypeDecl> typeDeclarations = new HashMap<Type, JTypeDecl>();
+        HashMap<JTypeDecl, JCompilationUnit> declaringUnits = 
+            new HashMap<JTypeDecl, JCompilationUnit>();
+        for (JCompilationUnit unit : units) {
+            compilationUnit(unit);
+            unit.declareTypes();
+            for (JAST typeDeclaration : unit.typeDeclarations) {
+                JTypeDecl decl = (JTypeDecl) typeDeclaration;
+                if (decl.thisType() != null) {
+                    declaredTypes.put(decl.thisType().toString(), 
+                        decl.thisType());
+                    typeDeclarations.put(decl.thisType(), decl);
+                    declaringUnits.put(decl, unit);
+                }
+            }
+        }
+
+        // Declare the imported types, and the types declared by the other
+        // units in the batch
+        for (JCompilationUnit unit : units) {
+            compilationUnit(unit);
+            unit.importTypes(declaredTypes);
+            for (JCompilationUnit other : units) {
+                if (other != unit) {
+                    unit.declareTypesOf(other);
+                }
+            }
+        }
+
+        // Pre-analyze the locally declared type(s). Generate
+        // (partial) Class instances, reflecting only the member
+        // interface type information
+        CLEmitter.initializeByteClassLoader();
+        HashSet<JTypeDecl> visited = new HashSet<JTypeDecl>();
+        for (JCompilationUnit unit : units) {
+            for (JAST typeDeclaration : unit.typeDeclarations) {
+                preAnalyze((JTypeDecl) typeDeclaration, typeDeclarations,
+                        declaringUnits, visited);
+            }
+        }
+    }
+
+    /**
+     * Pre-analyzes the specified type declaration, after having pre-analyzed
+     * those of its super types that are declared in the batch.
+     * 
+     * @param decl
+     *            the type declaration.
+     * @param typeDeclarations
+     *            maps the types declared in the batch to their declarations.
+     * @param declaringUnits
+     *            maps the type declarations to their compilation units.
+     * @param visited
+     *            the type declarations that have already been visited.
+     */
+
+    private static void preAnalyze(JTypeDecl decl,
+            HashMap<Type, JTypeDecl> typeDeclarations,
+            HashMap<JTypeDecl, JCompilationUnit> declaringUnits,
+            HashSet<JTypeDecl> visited) {
+        if (!visited.add(decl)) {
+            return;
+        }
+        JCompilationUnit unit = declaringUnits.get(decl);
+        if (unit == null) {
+            return;
+        }
+        ArrayList<Type> superTypes = new ArrayList<Type>();
+        if (decl.superType() != null) {
+            superTypes.add(decl.superType());
+        }
+        superTypes.addAll(decl.interfaceSuperTypes());
+        for (Type superType : superTypes) {
+            Type type = unit.context.lookupType(superType.toString());
+            if (type != null && typeDeclarations.containsKey(type)) {
+                preAnalyze(typeDeclarations.get(type), typeDeclarations,
+                        declaringUnits, visited);
+            }
+        }
+        compilationUnit(unit);
+        decl.preAnalyze(unit.context);
+    }
+
+    /**
+     * Constructs a context for the compilation unit and declares the types
+     * declared in it.
+     */
+
+    private void declareTypes() {
         context = new CompilationUnitContext();
 
         // Declare the two implicit types java.lang.Object and
@@ -151,30 +325,208 @@ class JCompilationUnit extends JAST {
         context.addType(0, Type.OBJECT);
         context.addType(0, Type.STRING);
 
-        // Declare any imported types
+        // Declare the locally declared type(s)
+        for (JAST typeDeclaration : typeDeclarations) {
+            ((JTypeDecl) typeDeclaration).declareThisType(context);
+        }
+    }
+
+    /**
+     * Declares the imported types in this compilation unit's context. Types
+     * declared in the batch are looked up before trying to load a type with
+     * the imported name.
+     * 
+     * @param declaredTypes
+     *            the types declared in the batch, by qualified name.
+     */
+
+    private void importTypes(HashMap<String, Type> declaredTypes) {
         for (TypeName imported : imports) {
-            try {
-                Class<?> classRep = Class.forName(imported.toString());
-                context.addType(imported.line(), Type.typeFor(classRep));
-            } catch (Exception e) {
-                JAST.compilationUnit.reportSemanticError(imported.line(),
+            Type type = declaredTypes.get(imported.toString());
+            if (type != null) {
+                if (context.lookupType(type.simpleName()) != type) {
+                    context.addType(imported.line(), type);
+                }
+                continue;
+            }
+            type = Type.typeForName(imported.toString());
+            if (type != null) {
+                context.addType(imported.line(), type);
+            } else {
+                JAST.compilationUnit().reportSemanticError(imported.line(),
                         "Unable to find %s", imported.toString());
             }
         }
+    }
 
-        // Declare the locally declared type(s)
-        CLEmitter.initializeByteClassLoader();
-        for (JAST typeDeclaration : typeDeclarations) {
-            ((JTypeDecl) typeDeclaration).declareThisType(context);
+    /**
+     * Declares the types declared in another compilation unit of the batch in
+     * this compilation unit's context: by fully qualified name, and also by
+     * simple name if both units are in the same package.
+     * 
+     * @param other
+     *            the other compilation unit.
+     */
+
+    private void declareTypesOf(JCompilationUnit other) {
+        boolean samePackage = packageName().equals(other.packageName());
+        for (JAST typeDeclaration : other.typeDeclarations) {
+            Type type = ((JTypeDecl) typeDeclaration).thisType();
+            if (type == null) {
+                continue;
+            }
+            if (samePackage && context.lookupType(type.simpleName()) == null) {
+                context.addType(0, type);
+            } else if (context.lookupType(type.toString()) == null) {
+                context.compilationUnitContext().addEntry(0, type.toString(),
+                        new TypeNameDefn(type));
+            }
         }
+    }
 
-        // Pre-analyze the locally declared type(s). Generate
-        // (partial) Class instances, reflecting only the member
-        // interface type information
-        CLEmitter.initializeByteClassLoader();
-        for (JAST typeDeclaration : typeDeclarations) {
-            ((JTypeDecl) typeDeclaration).preAnalyze(context);
+    /**
+     * Performs semantic analysis on a batch of compilation units, after they
+     * have been pre-analyzed together. The units are analyzed independently of
+     * one another, so they may be analyzed in parallel.
+     * 
+     * @param units
+     *            the compilation units making up the batch.
+     * @param threads
+     *            maximum number of threads to use; 0 means one per available
+     *            processor.
+     */
+
+    public static void analyze(ArrayList<JCompilationUnit> units, 
+            int threads) {
+        Util.map(units, threads, unit -> {
+            compilationUnit(unit);
+            unit.analyze(unit.context);
+            return unit;
+        });
+    }
+
+    /**
+     * Generates code (in memory) for a batch of compilation units, each unit 
+     * with its own emitter, so that the units may be compiled in parallel.
+     * 
+     * @param units
+     *            the compilation units making up the batch.
+     * @param threads
+     *            maximum number of threads to use; 0 means one per available
+     *            processor.
+     * @param optimize
+     *            whether to run the peephole optimizer over the code.
+     * @param majorVersion
+     *            major version of the class files (see
+     *            {@code CLEmitter.target()}).
+     * @return {@code true} if an emitter error has occurred; 
+     *         {@code false} otherwise.
+     */
+
+    public static boolean codegen(ArrayList<JCompilationUnit> units,
+            int threads, boolean optimize, int majorVersion) {
+        ArrayList<Boolean> errors = Util.map(units, threads, unit -> {
+            compilationUnit(unit);
+            CLEmitter output = new CLEmitter(false);
+            output.optimize(optimize);
+            output.target(majorVersion);
+            unit.codegen(output);
+            return output.errorHasOccurred();
+        });
+        return errors.contains(true);
+    }
+
+    /**
+     * Writes out the classes generated for a batch of compilation units to the
+     * file system, as .class files.
+     * 
+     * @param units
+     *            the compilation units making up the batch.
+     * @param destDir
+     *            the destination directory for the .class files.
+     * @param threads
+     *            maximum number of threads to use; 0 means one per available
+     *            processor.
+     * @return {@code true} if an error has occurred; {@code false} otherwise.
+     */
+
+    public static boolean write(ArrayList<JCompilationUnit> units,
+            String destDir, int threads) {
+        ArrayList<Boolean> errors = Util.map(units, threads, unit -> {
+            boolean errorHasOccurred = false;
+            for (CLFile clFile : unit.clFiles()) {
+                errorHasOccurred |= !CLEmitter.write(clFile, destDir);
+            }
+            return errorHasOccurred;
+        });
+        return errors.contains(true);
+    }
+
+    /**
+     * Writes out the classes generated for a batch of compilation units to the
+     * specified stream, either as a jar, or as a stream of class files, each
+     * preceded by its internal name (as written by
+     * {@code DataOutputStream.writeUTF}) and its length in bytes (as a 4-byte
+     * big-endian int). The stream is flushed, but not closed.
+     * 
+     * @param units
+     *            the compilation units making up the batch.
+     * @param out
+     *            the stream.
+     * @param jar
+     *            whether to write a jar.
+     * @return {@code true} if an error has occurred; {@code false} otherwise.
+     */
+
+    public static boolean write(ArrayList<JCompilationUnit> units,
+            OutputStream out, boolean jar) {
+        try {
+            DataOutputStream data = new DataOutputStream(
+                    new BufferedOutputStream(out));
+            JarOutputStream jarOut = jar ? new JarOutputStream(data) : null;
+            for (JCompilationUnit unit : units) {
+                for (CLFile clFile : unit.clFiles()) {
+                    String name = clFile.className();
+                    byte[] bytes = clFile.toBytes();
+                    if (jar) {
+                        jarOut.putNextEntry(new JarEntry(name + ".class"));
+                        jarOut.write(bytes);
+                        jarOut.closeEntry();
+                    } else {
+                        data.writeUTF(name);
+                        data.writeInt(bytes.length);
+                        data.write(bytes);
+                    }
+                }
+            }
+            if (jar) {
+                jarOut.finish();
+            }
+            data.flush();
+            return false;
+        } catch (IOException e) {
+            JMinusMinusCompiler.report(null, 0, "Cannot write classes to "
+                    + "the output stream: %s", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * Has a semantic error occurred in any of the compilation units of a batch?
+     * 
+     * @param units
+     *            the compilation units making up the batch.
+     * @return {@code true} if a semantic error has occurred; 
+     *         {@code false} otherwise.
+     */
+
+    public static boolean errorHasOccurred(ArrayList<JCompilationUnit> units) {
+        for (JCompilationUnit unit : units) {
+            if (unit.errorHasOccurred()) {
+                return true;
+            }
         }
+        return false;
     }
 
     /**
@@ -63,6 +63,53 @@ abstract class JExpression extends JStatement {
 
     public abstract JExpression analyze(Context context);
 
+    /**
+     * Returns the value of this (analyzed) expression, if it is a compile-time
+     * constant: an {@code Integer}, {@code Double}, {@code Character},
+     * {@code Boolean}, or {@code String}. Only literals are constants; the
+     * constant expressions built from them are folded into literals during
+     * analysis.
+     * 
+     * @return the value, or {@code null} if this is not a constant.
+     */
+
+    public Object constantValue() {
+        return null;
+    }
+
+    /**
+     * Returns an (analyzed) literal for the specified constant value, which
+     * replaces the constant expression it is the value of.
+     * 
+     * @param line
+     *            line in which the constant expression occurs in the source
+     *            file.
+     * @param value
+     *            the value (see {@code constantValue}).
+     * @return the literal.
+     */
+
+    public static JExpression literalFor(int line, Object value) {
+        JExpression literal;
+        if (value instanceof Integer) {
+            literal = new JLiteralInt(line, value.toString());
+        } else if (value instanceof Double) {
+            literal = new JLiteralDouble(line, value.toString());
+        } else if (value instanceof Character) {
+            literal = new JLiteralChar(line, "'"
+                    + Util.escape(value.toString()) + "'");
+        } else if (value instanceof String) {
+            literal = new JLiteralString(line, "\""
+                    + Util.escape((String) value) + "\"");
+        } else {
+            literal = ((Boolean) value) ? new JLiteralTrue(line)
+                    : new JLiteralFalse(line);
+        }
+
+        // Literals are analyzed without a context
+        return literal.analyze(null);
+    }
+
     /**
      * Performs (short-circuit) code generation for a boolean expression, given
      * the code emitter, a target label, and whether we branch to that label on
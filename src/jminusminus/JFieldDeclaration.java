@@ -83,7 +83,7 @@ class JFieldDeclaration extends JAST implements JMember {
     public void preAnalyze(Context context, CLEmitter partial) {
         // Fields may not be declared abstract.
         if (mods.contains("abstract")) {
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                     "Field cannot be declared abstract");
         }
 
@@ -114,6 +114,14 @@ class JFieldDeclaration extends JAST implements JMember {
                 assignOp.isStatementExpression = true;
                 initializations.add(new JStatementExpression(decl.line(),
                         assignOp).analyze(context));
+
+                // A static final field initialized with a constant is a
+                // constant itself
+                Object value = assignOp.rhs.constantValue();
+                if (mods.contains("static") && mods.contains("final")
+                        && value != null && assignOp.rhs.type() == decl.type()) {
+                    context.classContext().setConstantValue(decl.name(), value);
+                }
             }
         }
         return this;
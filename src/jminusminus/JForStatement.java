@@ -6,6 +6,7 @@ import static jminusminus.CLConstants.*;
 import java.util.ArrayList;
 import java.lang.Iterable;
 import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The AST node for a for-statement.
@@ -256,9 +257,10 @@ class JForEachStatement extends JForStatement {
     /* JBlock containing the rewritten loop done during analysis */
     private JBlock forStepBlock;
 
-    /* Static numbers used to generate guaranteed unique variables used in rewriting.*/
-    private static int iterableNum = 0;
-    private static int iteratorNum = 0;
+    /* Static numbers used to generate guaranteed unique variables used in rewriting;
+       atomic, as units may be analyzed in parallel.*/
+    private static AtomicInteger iterableNum = new AtomicInteger();
+    private static AtomicInteger iteratorNum = new AtomicInteger();
 
     /**
      * Constructs an AST node for a for-each-statement given its line number, the
@@ -299,12 +301,12 @@ class JForEachStatement extends JForStatement {
         
         /*
         if (!(iterable.type().isArray() || iterable.type().isSubType(Type.typeFor(Iterable.class)))) {
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                 "Attempting to iterate over a non-iterable type");
         }
 
         if(!identifier.type().equals(iterable.type().componentType())){
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                 "Using " + identifier.type() + " type to iterate over " + iterable.type().componentType() + " array");
         }
 
@@ -374,7 +376,7 @@ class JForEachStatement extends JForStatement {
             forStepStatements.add(0, identAssign);
 
         } else {
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
             "Unsupported foreach");
             return new JBlock(line, new ArrayList<JStatement>());
         }
@@ -392,7 +394,7 @@ class JForEachStatement extends JForStatement {
      * a for-step block.
      */
     private static String generateIterableName() {
-        return "$a'" + iterableNum++;
+        return "$a'" + iterableNum.getAndIncrement();
     }
 
     /**
@@ -400,7 +402,7 @@ class JForEachStatement extends JForStatement {
      * a for-step block.
      */
     private static String generateIteratorName() {
-        return "$i'" + iteratorNum++;
+        return "$i'" + iteratorNum.getAndIncrement();
     }
 
     /**
@@ -3,6 +3,7 @@
 package jminusminus;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
@@ -72,6 +73,16 @@ class JInterfaceDeclaration extends JAST implements JTypeDecl {
         return superType;
     }
 
+    /**
+     * Returns the types of the interfaces this interface extends.
+     * 
+     * @return the extended interfaces' types.
+     */
+
+    public List<Type> interfaceSuperTypes() {
+        return interfaceSuperTypes;
+    }
+
     /**
      * Return the type that this interface declaration defines.
      * 
@@ -102,9 +113,9 @@ class JInterfaceDeclaration extends JAST implements JTypeDecl {
      */
 
     public void declareThisType(Context context) {
-        String packageName = JAST.compilationUnit.packageName();
-        String qualifiedName = JAST.compilationUnit.packageName() == "" ? 
-            name : JAST.compilationUnit.packageName() + "/" + name;
+        String packageName = JAST.compilationUnit().packageName();
+        String qualifiedName = JAST.compilationUnit().packageName() == "" ? 
+            name : JAST.compilationUnit().packageName() + "/" + name;
         
 
         CLEmitter partial = new CLEmitter(false);
@@ -138,14 +149,14 @@ class JInterfaceDeclaration extends JAST implements JTypeDecl {
         CLEmitter partial = new CLEmitter(false);
 
         // Add the class header to the partial class
-        String qualifiedName = JAST.compilationUnit.packageName() == "" ? name
-                : JAST.compilationUnit.packageName() + "/" + name;
+        String qualifiedName = JAST.compilationUnit().packageName() == "" ? name
+                : JAST.compilationUnit().packageName() + "/" + name;
         partial.addClass(mods, qualifiedName, Type.OBJECT.jvmName(), interfaceJVMNames, false);
 
         // Pre-analyze the members
         for (JMember member : interfaceBlock) {
             if (!(member instanceof JMethodDeclaration || member instanceof JFieldDeclaration)) {
-                JAST.compilationUnit.reportSemanticError(line(), "Member %s is not a valid interface member",
+                JAST.compilationUnit().reportSemanticError(line(), "Member %s is not a valid interface member",
                         member.toString());
             }
             if (member instanceof JMethodDeclaration) {
@@ -168,7 +179,7 @@ class JInterfaceDeclaration extends JAST implements JTypeDecl {
         // Get the Class rep for the (partial) class and make it
         // the representation for this type
         Type id = this.context.lookupType(name);
-        if (id != null && !JAST.compilationUnit.errorHasOccurred()) {
+        if (id != null && !JAST.compilationUnit().errorHasOccurred()) {
             id.setClassRep(partial.toClass());
         }
     }
@@ -188,7 +199,7 @@ class JInterfaceDeclaration extends JAST implements JTypeDecl {
                 if (fieldDecl.mods().contains("static")) {
                     staticFieldInitializations.add(fieldDecl);
                 } else {
-                    JAST.compilationUnit.reportSemanticError(line(),
+                    JAST.compilationUnit().reportSemanticError(line(),
                             "Field declaration is not a static member, interfaces may only have static field declarations",
                             member.toString());
                 }
@@ -202,8 +213,8 @@ class JInterfaceDeclaration extends JAST implements JTypeDecl {
                 .collect(Collectors.toCollection(ArrayList::new));
 
         // Add the class header
-        String qualifiedName = JAST.compilationUnit.packageName() == "" ? name
-                : JAST.compilationUnit.packageName() + "/" + name;
+        String qualifiedName = JAST.compilationUnit().packageName() == "" ? name
+                : JAST.compilationUnit().packageName() + "/" + name;
         output.addClass(mods, qualifiedName, Type.OBJECT.jvmName(), interfaceJVMNames, false);
 
         // Generate code for the interface members
@@ -41,6 +41,15 @@ class JLiteralChar extends JExpression {
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+
+    public Object constantValue() {
+        // The string representation is padded with single quotes
+        return Util.unescape(text).charAt(1);
+    }
+
     /**
      * Generating code for a char literal means generating code to push it onto
      * the stack.
@@ -39,6 +39,16 @@ class JLiteralString extends JExpression {
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+
+    public Object constantValue() {
+        // The string representation is padded with double quotes
+        String s = Util.unescape(text);
+        return s.substring(1, s.length() - 1);
+    }
+
     /**
      * Generating code for a string literal means generating code to push it
      * onto the stack.
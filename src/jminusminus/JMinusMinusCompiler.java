@@ -0,0 +1,381 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An in-memory interface to the j-- compiler (using the hand-written
+ * front-end), for programs embedding the compiler. Sources are compiled from
+ * strings and nothing is written to the file system: the result of a
+ * compilation is a map from the internal names of the compiled classes (for
+ * example, {@code pass/Factorial}) to their class file bytes, together with
+ * the errors found.
+ * <p>
+ * For example,
+ * <pre>
+ *   JMinusMinusCompiler.Result result = new JMinusMinusCompiler().compile(
+ *           "Hello.java", "public class Hello { ... }");
+ *   if (result.succeeded()) {
+ *       byte[] bytes = result.classes().get("Hello");
+ *       ...
+ *   }
+ * </pre>
+ * <p>
+ * The compiler's type table and class loader are shared, so compilations are
+ * done one at a time; any number of threads may use the compiler, though.
+ */
+
+public class JMinusMinusCompiler {
+
+    /** The diagnostics being collected by the current thread, if any. */
+    private static ThreadLocal<ArrayList<Diagnostic>> diagnostics =
+        new ThreadLocal<ArrayList<Diagnostic>>();
+
+    /** Whether to run the peephole optimizer over the code generated. */
+    private boolean optimize;
+
+    /** Major version of the class files generated. */
+    private int majorVersion = CLConstants.MAJOR_VERSION;
+
+    /**
+     * Sets whether to run the peephole optimizer over the code generated (as
+     * the -O option does); by default, the code is not optimized.
+     *
+     * @param optimize
+     *            whether to optimize.
+     */
+
+    public void optimize(boolean optimize) {
+        this.optimize = optimize;
+    }
+
+    /**
+     * Sets the Java release to generate class files for (as the -target
+     * option does); by default, the class files are for Java 8.
+     *
+     * @param release
+     *            the release: "8", say, or "1.8".
+     * @exception IllegalArgumentException
+     *                if class files cannot be generated for the release.
+     */
+
+    public void target(String release) {
+        int majorVersion = CLEmitter.majorVersion(release);
+        if (majorVersion < 0) {
+            throw new IllegalArgumentException("Invalid release: " + release);
+        }
+        this.majorVersion = majorVersion;
+    }
+
+    /**
+     * Compiles the specified source.
+     *
+     * @param fileName
+     *            the name of the source (for diagnostics).
+     * @param source
+     *            the source.
+     * @return the result of the compilation.
+     */
+
+    public Result compile(String fileName, CharSequence source) {
+        Map<String, CharSequence> sources =
+            new LinkedHashMap<String, CharSequence>();
+        sources.put(fileName, source);
+        return compile(sources);
+    }
+
+    /**
+     * Compiles the specified source file.
+     *
+     * @param path
+     *            the source file.
+     * @return the result of the compilation.
+     * @exception IOException
+     *                if the source file cannot be read.
+     */
+
+    public Result compile(Path path) throws IOException {
+        return compile(path.toString(), new String(Files.readAllBytes(path),
+                StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Compiles the specified sources together, as one batch.
+     *
+     * @param sources
+     *            maps the names of the sources (for diagnostics) to the
+     *            sources.
+     * @return the result of the compilation.
+     */
+
+    public Result compile(Map<String, ? extends CharSequence> sources) {
+        synchronized (JMinusMinusCompiler.class) {
+            ArrayList<Diagnostic> found = new ArrayList<Diagnostic>();
+            diagnostics.set(found);
+            try {
+                Map<String, byte[]> classes = compile(sources, found);
+                return new Result(classes, found);
+            } finally {
+                diagnostics.remove();
+            }
+        }
+    }
+
+    /**
+     * Compiles the specified sources, and returns the compiled classes; the
+     * returned map is empty if an error was found.
+     *
+     * @param sources
+     *            the sources, by name.
+     * @param found
+     *            the diagnostics found.
+     * @return the compiled classes.
+     */
+
+    private Map<String, byte[]> compile(
+            Map<String, ? extends CharSequence> sources,
+            ArrayList<Diagnostic> found) {
+        Map<String, byte[]> classes = new LinkedHashMap<String, byte[]>();
+
+        // Forget the types compiled by the previous compilation
+        Type.removeCompiledTypes();
+
+        // Parse
+        ArrayList<JCompilationUnit> units = new ArrayList<JCompilationUnit>();
+        for (String fileName : sources.keySet()) {
+            LookaheadScanner scanner = new LookaheadScanner(fileName,
+                    new StringReader(sources.get(fileName).toString()));
+            Parser parser = new Parser(scanner);
+            units.add(parser.compilationUnit());
+        }
+        if (!found.isEmpty()) {
+            return classes;
+        }
+
+        // Pre-analyze, analyze, and generate code, in memory
+        JCompilationUnit.preAnalyze(units);
+        if (JCompilationUnit.errorHasOccurred(units) || !found.isEmpty()) {
+            return classes;
+        }
+        JCompilationUnit.analyze(units, 1);
+        if (JCompilationUnit.errorHasOccurred(units) || !found.isEmpty()) {
+            return classes;
+        }
+        if (JCompilationUnit.codegen(units, 1, optimize, majorVersion)
+                || !found.isEmpty()) {
+            return classes;
+        }
+        for (JCompilationUnit unit : units) {
+            for (CLFile clFile : unit.clFiles()) {
+                try {
+                    classes.put(clFile.className(), clFile.toBytes());
+                } catch (IOException e) {
+                    report(null, 0, "Cannot write class %s to byte stream",
+                            clFile.className());
+                    classes.clear();
+                    return classes;
+                }
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Reports an error found in the specified source: to the diagnostics of
+     * the compilation if this thread is compiling through a
+     * {@code JMinusMinusCompiler}, and to STDERR otherwise. This is how all
+     * the phases of the compiler report errors.
+     *
+     * @param fileName
+     *            name of the source, or {@code null} if the error is not
+     *            specific to a source.
+     * @param line
+     *            line in which the error occurred in the source.
+     * @param message
+     *            message identifying the error.
+     * @param args
+     *            related values.
+     */
+
+    static void report(String fileName, int line, String message,
+            Object... args) {
+        Diagnostic diagnostic = new Diagnostic(fileName, line, String.format(
+                message, args));
+        ArrayList<Diagnostic> found = diagnostics.get();
+        if (found != null) {
+            found.add(diagnostic);
+        } else {
+            System.err.println(diagnostic);
+        }
+    }
+
+    /**
+     * Runs the specified task in this thread, discarding the errors it 
+     * reports.
+     *
+     * @param task
+     *            the task.
+     */
+
+    static void discardingErrors(Runnable task) {
+        ArrayList<Diagnostic> found = diagnostics.get();
+        diagnostics.set(new ArrayList<Diagnostic>());
+        try {
+            task.run();
+        } finally {
+            diagnostics.set(found);
+        }
+    }
+
+    /**
+     * An error found in compiling.
+     */
+
+    public static class Diagnostic {
+
+        /** Name of the source, or {@code null}. */
+        private String fileName;
+
+        /** Line in the source. */
+        private int line;
+
+        /** The message. */
+        private String message;
+
+        /**
+         * Constructs a diagnostic.
+         *
+         * @param fileName
+         *            name of the source, or {@code null}.
+         * @param line
+         *            line in the source.
+         * @param message
+         *            the message.
+         */
+
+        private Diagnostic(String fileName, int line, String message) {
+            this.fileName = fileName;
+            this.line = line;
+            this.message = message;
+        }
+
+        /**
+         * Returns the name of the source in which the error was found, or
+         * {@code null} if the error is not specific to a source.
+         *
+         * @return the source name.
+         */
+
+        public String fileName() {
+            return fileName;
+        }
+
+        /**
+         * Returns the line (starting at 1) in which the error was found, or 0
+         * if the error is not specific to a source.
+         *
+         * @return the line.
+         */
+
+        public int line() {
+            return line;
+        }
+
+        /**
+         * Returns the message identifying the error.
+         *
+         * @return the message.
+         */
+
+        public String message() {
+            return message;
+        }
+
+        /**
+         * Returns the diagnostic in the compiler's usual format,
+         * {@code file:line: message}.
+         *
+         * @return the diagnostic as a string.
+         */
+
+        public String toString() {
+            return fileName == null ? message : fileName + ":" + line + ": "
+                    + message;
+        }
+
+    }
+
+    /**
+     * The result of a compilation.
+     */
+
+    public static class Result {
+
+        /** The compiled classes, by internal name. */
+        private Map<String, byte[]> classes;
+
+        /** The errors found. */
+        private List<Diagnostic> diagnostics;
+
+        /**
+         * Constructs the result of a compilation.
+         *
+         * @param classes
+         *            the compiled classes.
+         * @param diagnostics
+         *            the errors found.
+         */
+
+        private Result(Map<String, byte[]> classes,
+                List<Diagnostic> diagnostics) {
+            this.classes = Collections.unmodifiableMap(classes);
+            this.diagnostics = Collections.unmodifiableList(diagnostics);
+        }
+
+        /**
+         * Did the compilation succeed (find no errors)?
+         *
+         * @return {@code true} if it did; {@code false} otherwise.
+         */
+
+        public boolean succeeded() {
+            return diagnostics.isEmpty();
+        }
+
+        /**
+         * Returns the compiled classes, mapping their internal names (for
+         * example, {@code pass/Factorial}) to their class file bytes. The map
+         * is empty if the compilation failed.
+         *
+         * @return the compiled classes.
+         */
+
+        public Map<String, byte[]> classes() {
+            return classes;
+        }
+
+        /**
+         * Returns the errors found, in the order found.
+         *
+         * @return the errors.
+         */
+
+        public List<Diagnostic> diagnostics() {
+            return diagnostics;
+        }
+
+    }
+
+}
@@ -53,12 +53,12 @@ class JReturnStatement extends JStatement {
         // method, we don't check for methodContext being null
 
         if (context.blockContext() != null) {
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
             "Attempting to return in an initialization block");
         } else if (methodContext.methodReturnType() == Type.CONSTRUCTOR) {
             if (expr != null) {
                 // Can't return a value from a constructor
-                JAST.compilationUnit.reportSemanticError(line(),
+                JAST.compilationUnit().reportSemanticError(line(),
                     "cannot return a value from a constructor");
             }
         } else {
@@ -68,7 +68,7 @@ class JReturnStatement extends JStatement {
             if (expr != null) {
                 if (returnType == Type.VOID) {
                     // Can't return a value from void method
-                    JAST.compilationUnit.reportSemanticError(line(),
+                    JAST.compilationUnit().reportSemanticError(line(),
                         "cannot return a value from a void method");
                 } else {
                     // There's a (non-void) return expression.
@@ -79,7 +79,7 @@ class JReturnStatement extends JStatement {
             } else {
                 // The method better have void as return type
                 if (returnType != Type.VOID) {
-                    JAST.compilationUnit.reportSemanticError(line(),
+                    JAST.compilationUnit().reportSemanticError(line(),
                         "missing return value");
                 }
             }
@@ -157,7 +157,7 @@ class JSingleVariableDeclaration extends JStatement {
         IDefn previousDefn = context.lookup(name);
         if (previousDefn != null
                 && previousDefn instanceof LocalVariableDefn) {
-            JAST.compilationUnit.reportSemanticError(line,
+            JAST.compilationUnit().reportSemanticError(line,
                     "The name " + name + " overshadows another local variable.");
         }
 
@@ -42,7 +42,22 @@ class JStringConcatenationOp extends JBinaryExpression {
 
     public JExpression analyze(Context context) {
         type = Type.STRING;
-        return this;
+        return fold();
+    }
+
+    /**
+     * Concatenates constant operands, converting a non-string operand to a
+     * string as {@code StringBuilder.append} does at run time.
+     * 
+     * @param lhs
+     *            value of the lhs operand.
+     * @param rhs
+     *            value of the rhs operand.
+     * @return the concatenation.
+     */
+
+    protected Object fold(Object lhs, Object rhs) {
+        return String.valueOf(lhs) + String.valueOf(rhs);
     }
 
     /**
@@ -33,7 +33,7 @@ class JSuper extends JExpression {
 
     public JExpression analyze(Context context) {
         if (context.blockContext() != null && context.blockContext().isStatic()) {
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
             "Cannot use super in a static context");
         }
 
@@ -42,7 +42,7 @@ class JSuper extends JExpression {
         if (type.isReference() && type.superClass() != null) {
             type = type.superClass();
         } else {
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                     "No super class for type " + type.toString());
         }
         return this;
@@ -33,7 +33,7 @@ class JThis extends JExpression {
 
     public JExpression analyze(Context context) {
         if (context.blockContext() != null && context.blockContext().isStatic()) {
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
             "Cannot use this in a static context");
         }
 
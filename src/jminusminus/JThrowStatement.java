@@ -49,19 +49,19 @@ class JThrowStatement extends JStatement {
         
         // Check if the expr is the type throwable
         if (!(expr.type().isSubType(Type.typeFor(Throwable.class))))  {
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                 "Attempting to throw a non-throwable type");
         }
 
         // Check if we are in an initialization blocks
         // If so, report a semantic error
         if (context.blockContext() != null) {
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
             "Attempting to throw in an initialization block");
 
         // Check if it exists in the local context, if it does, don't add it.
         } else if (context.getExceptions().contains(expr.type())) {
-            JAST.compilationUnit.reportSemanticError(line, "Exception already exists: "
+            JAST.compilationUnit().reportSemanticError(line, "Exception already exists: "
             + expr.type().toString());
         
         // Check if it exists in the methodcontext, but doesn't exist in the local context
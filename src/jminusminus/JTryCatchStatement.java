@@ -88,7 +88,7 @@ class JTryCatchStatement extends JStatement {
                     this.context.addException(catchParams.get(i).line(), catchParams.get(i).type());
                     this.context.methodContext().addException(catchParams.get(i).line(), catchParams.get(i).type());          
                 } else {
-                    JAST.compilationUnit.reportSemanticError(catchParams.get(i).line(),
+                    JAST.compilationUnit().reportSemanticError(catchParams.get(i).line(),
                     "Attempting to catch a non-throwable type");
                 }          
             }
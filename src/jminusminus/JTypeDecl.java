@@ -2,6 +2,8 @@
 
 package jminusminus;
 
+import java.util.List;
+
 /**
  * An interface supported by class (or later, interface) declarations.
  */
@@ -45,6 +47,14 @@ interface JTypeDecl {
 
     public Type superType();
 
+    /**
+     * Returns the types of the super interfaces.
+     * 
+     * @return the super interfaces' types.
+     */
+
+    public List<Type> interfaceSuperTypes();
+
     /**
      * Returns the type that this type declaration defines.
      * 
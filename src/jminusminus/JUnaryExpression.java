@@ -35,6 +35,40 @@ abstract class JUnaryExpression extends JExpression {
         this.arg = arg;
     }
 
+    /**
+     * Folds this (analyzed) expression into a literal, if its operand is a
+     * constant and the operator's result for it is known at compile time.
+     * Analysis of an operator returns what this returns.
+     * 
+     * @return a literal for the value of this expression, or this expression
+     *         if it does not fold.
+     */
+
+    protected JExpression fold() {
+        Object argValue = arg.constantValue();
+        if (type == null || type == Type.ANY || argValue == null) {
+            return this;
+        }
+        Object value = fold(argValue);
+        return value == null ? this : JExpression.literalFor(line, value);
+    }
+
+    /**
+     * Returns the result of the operator for the specified constant operand,
+     * as Java defines it. Subclasses override this for the operators that
+     * fold; an operator does not fold an operand of the wrong type (which
+     * analysis has reported).
+     * 
+     * @param arg
+     *            value of the operand.
+     * @return the result, or {@code null} if the operator does not fold for
+     *         this operand.
+     */
+
+    protected Object fold(Object arg) {
+        return null;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -89,7 +123,15 @@ class JBitwiseNotOp extends JUnaryExpression {
         arg = arg.analyze(context);
         arg.type().mustMatchExpected(line(), Type.INT);
         type = Type.INT;
-        return this;
+        return fold();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    protected Object fold(Object arg) {
+        return arg instanceof Integer ? ~(Integer) arg : null;
     }
 
     /**
@@ -143,14 +185,14 @@ class JUnaryPlusOp extends JUnaryExpression {
     public JExpression analyze(Context context) {
         arg = arg.analyze(context);
         if(arg.type() != Type.INT && arg.type() != Type.DOUBLE) {
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
             "Invalid operand type for - (Unary)");
         } else if(arg.type() == Type.INT){
             type = Type.INT;
         } else if(arg.type() == Type.DOUBLE) {
             type = Type.DOUBLE;
         }
-        return this;
+        return fold();
 
         /*
         if (arg.type() == Type.INT) {
@@ -160,13 +202,21 @@ class JUnaryPlusOp extends JUnaryExpression {
         }
         else {
             type = Type.ANY;
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                     "Invalid operand types for +");
         }
         return this;
         */
     }
 
+    /**
+     * {@inheritDoc}
+     */
+
+    protected Object fold(Object arg) {
+        return arg instanceof Integer || arg instanceof Double ? arg : null;
+    }
+
     /**
      * Generating code for the negation operation involves generating code for
      * the operand, and then the negation instruction.
@@ -221,13 +271,26 @@ class JNegateOp extends JUnaryExpression {
             type = Type.DOUBLE;   
         } else {
             type = Type.ANY;
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                     "Invalid operand types for -");
         }
-        return this;
+        return fold();
     
     }
 
+    /**
+     * {@inheritDoc}
+     */
+
+    protected Object fold(Object arg) {
+        if (arg instanceof Integer) {
+            return -(Integer) arg;
+        } else if (arg instanceof Double) {
+            return -(Double) arg;
+        }
+        return null;
+    }
+
     /**
      * Generating code for the negation operation involves generating code for
      * the operand, and then the negation instruction.
@@ -277,7 +340,15 @@ class JLogicalNotOp extends JUnaryExpression {
         arg = (JExpression) arg.analyze(context);
         arg.type().mustMatchExpected(line(), Type.BOOLEAN);
         type = Type.BOOLEAN;
-        return this;
+        return fold();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+
+    protected Object fold(Object arg) {
+        return arg instanceof Boolean ? !(Boolean) arg : null;
     }
 
     /**
@@ -347,7 +418,7 @@ class JPostDecrementOp extends JUnaryExpression {
 
     public JExpression analyze(Context context) {
         if (!(arg instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line,
+            JAST.compilationUnit().reportSemanticError(line,
                     "Operand to expr-- must have an LValue.");
             type = Type.ANY;
             return this;
@@ -360,7 +431,7 @@ class JPostDecrementOp extends JUnaryExpression {
             type = Type.DOUBLE;   
         } else {
             type = Type.ANY;
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                     "Invalid operand types for post--");
         }
         return this;
@@ -448,7 +519,7 @@ class JPostIncrementOp extends JUnaryExpression {
 
     public JExpression analyze(Context context) {
         if (!(arg instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line,
+            JAST.compilationUnit().reportSemanticError(line,
                     "Operand to expr++ must have an LValue.");
             type = Type.ANY;
             return this;
@@ -461,7 +532,7 @@ class JPostIncrementOp extends JUnaryExpression {
             type = Type.DOUBLE;   
         } else {
             type = Type.ANY;
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                     "Invalid operand types for post++");
         }
         return this;
@@ -552,7 +623,7 @@ class JPreIncrementOp extends JUnaryExpression {
 
     public JExpression analyze(Context context) {
         if (!(arg instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line,
+            JAST.compilationUnit().reportSemanticError(line,
                     "Operand to ++expr must have an LValue.");
             type = Type.ANY;
         }
@@ -563,7 +634,7 @@ class JPreIncrementOp extends JUnaryExpression {
             type = Type.DOUBLE;   
         } else {
             type = Type.ANY;
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                     "Invalid operand types for post++");
         }
         return this;
@@ -639,7 +710,7 @@ class JPreDecrementOp extends JUnaryExpression {
 
     public JExpression analyze(Context context) {
         if (!(arg instanceof JLhs)) {
-            JAST.compilationUnit.reportSemanticError(line,
+            JAST.compilationUnit().reportSemanticError(line,
                     "Operand to ++expr must have an LValue.");
             type = Type.ANY;
         }
@@ -650,7 +721,7 @@ class JPreDecrementOp extends JUnaryExpression {
             type = Type.DOUBLE;   
         } else {
             type = Type.ANY;
-            JAST.compilationUnit.reportSemanticError(line(),
+            JAST.compilationUnit().reportSemanticError(line(),
                     "Invalid operand types for post++");
         }
         return this;
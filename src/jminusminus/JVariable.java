@@ -71,9 +71,18 @@ class JVariable extends JExpression implements JLhs {
             Field field = definingType.fieldFor(name);
             if (field == null) {
                 type = Type.ANY;
-                JAST.compilationUnit.reportSemanticError(line,
+                JAST.compilationUnit().reportSemanticError(line,
                         "Cannot find name: " + name);
             } else {
+                // A static final field initialized with a constant
+                // is replaced by the constant
+                Object value = field.isStatic() && field.isFinal()
+                        && !analyzeLhs ? context.classContext().constantValue(
+                        name) : null;
+                if (value != null) {
+                    return JExpression.literalFor(line, value);
+                }
+
                 // Rewrite a variable denoting a field as an
                 // explicit field selection
                 type = field.type();
@@ -85,7 +94,7 @@ class JVariable extends JExpression implements JLhs {
         } else {
             if (!analyzeLhs && iDefn instanceof LocalVariableDefn
                     && !((LocalVariableDefn) iDefn).isInitialized()) {
-                JAST.compilationUnit.reportSemanticError(line, "Variable "
+                JAST.compilationUnit().reportSemanticError(line, "Variable "
                         + name + " might not have been initialized");
             }
             type = iDefn.type();
@@ -109,14 +118,14 @@ class JVariable extends JExpression implements JLhs {
             // Could (now) be a JFieldSelection, but if it's
             // (still) a JVariable
             if (iDefn != null && !(iDefn instanceof LocalVariableDefn)) {
-                JAST.compilationUnit.reportSemanticError(line(), name
+                JAST.compilationUnit().reportSemanticError(line(), name
                         + " is a bad lhs to a =");
             }
 
             // We are trying to assign a value to a local final variable
             if (iDefn != null && ((LocalVariableDefn) iDefn).isFinal()) {
                 if (((LocalVariableDefn) iDefn).isInitialized()) { //The variable has already been initialized
-                    JAST.compilationUnit.reportSemanticError(line, "Cannot assign a value to final variable "
+                    JAST.compilationUnit().reportSemanticError(line, "Cannot assign a value to final variable "
                     + name);
                 } else { //It has now been initialized
                     ((LocalVariableDefn) iDefn).initialize();
@@ -130,11 +139,11 @@ class JVariable extends JExpression implements JLhs {
             if(field.isFinal()) {
                 //Attempting to assign a value to a final field in a method context.
                 if(context.methodContext() != null){
-                    JAST.compilationUnit.reportSemanticError(line, "Cannot assign a value to final variable " + name);
+                    JAST.compilationUnit().reportSemanticError(line, "Cannot assign a value to final variable " + name);
                 } else {
                     //Attempting to assign a value to a final field that already has a value.
                     if (context.classContext().isConstantInitialized(name)) {
-                        JAST.compilationUnit.reportSemanticError(line, "Cannot assign a value to final variable " + name + " that may already have been assigned");
+                        JAST.compilationUnit().reportSemanticError(line, "Cannot assign a value to final variable " + name + " that may already have been assigned");
                     }
                     context.classContext().initializeConstantField(name);
                 }
@@ -4,12 +4,18 @@ package jminusminus;
 
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+
+import java.util.ArrayList;
 
 /**
  * Driver class for j-- compiler using JavaCC front-end. This is the main entry
  * point for the compiler. The compiler proceeds as follows:
  * <ol>
- *   <li>It reads arguments that affects its behavior.</li>
+ *   <li>It reads arguments that affects its behavior. Any number of source 
+ *       files may be given, directly or listed in {@code @argfile}s; with 
+ *       {@code -j}, the files are parsed, analyzed and compiled on several
+ *       threads.</li>
  * 
  *   <li>It builds a scanner.</li>
  * 
@@ -35,8 +41,11 @@ import java.io.FileNotFoundException;
 
 public class JavaCCMain {
 
-    /** Whether an error occurred during compilation. */
-    private static boolean errorHasOccurred;
+    /**
+     * Whether an error occurred during compilation. Volatile, and only ever set
+     * to {@code true} while compiling, as units may be compiled in parallel.
+     */
+    private static volatile boolean errorHasOccurred;
 
     /**
      * Entry point.
@@ -47,20 +56,31 @@ public class JavaCCMain {
 
     public static void main(String args[]) {
         String caller = "java jminusminus.JavaCCMain";
-        String sourceFile = "";
+        ArrayList<String> sourceFiles = new ArrayList<String>();
         String debugOption = "";
         String outputDir = ".";
         boolean spimOutput = false;
         String registerAllocation = "";
+        int threads = 1;
+        boolean incremental = false;
         errorHasOccurred = false;
+        try {
+            args = Util.expandArgumentFiles(args);
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            errorHasOccurred = true;
+            return;
+        }
         for (int i = 0; i < args.length; i++) {
             if (args[i].equals("javaccj--")) {
                 caller = "javaccj--";
             } else if (args[i].endsWith(".java")) {
-                sourceFile = args[i];
+                sourceFiles.add(args[i]);
             } else if (args[i].equals("-t") || args[i].equals("-p")
                     || args[i].equals("-pa") || args[i].equals("-a")) {
                 debugOption = args[i];
+            } else if (args[i].equals("-i")) {
+                incremental = true;
             } else if (args[i].endsWith("-d") && (i + 1) < args.length) {
                 outputDir = args[++i];
             } else if (args[i].endsWith("-s") && (i + 1) < args.length) {
@@ -78,101 +98,189 @@ public class JavaCCMain {
                         .parseInt(args[++i]));
                 NPhysicalRegister.MAX_COUNT = Math.max(1,
                         NPhysicalRegister.MAX_COUNT);
+            } else if (args[i].endsWith("-j") && (i + 1) < args.length) {
+                try {
+                    threads = Integer.parseInt(args[++i]);
+                } catch (NumberFormatException e) {
+                    threads = -1;
+                }
+                if (threads < 0) {
+                    printUsage(caller);
+                    return;
+                }
             } else {
                 printUsage(caller);
                 return;
             }
         }
-        if (sourceFile.equals("")) {
+        if (sourceFiles.isEmpty()) {
             printUsage(caller);
             return;
         }
 
-        JavaCCParserTokenManager javaCCScanner = null;
-        try {
-            javaCCScanner = new JavaCCParserTokenManager(new SimpleCharStream(
-                    new FileInputStream(sourceFile), 1, 1));
-        } catch (FileNotFoundException e) {
-            System.err.println("Error: file " + sourceFile + " not found.");
-        }
-
+        // Just tokenize input and print the tokens to STDOUT
         if (debugOption.equals("-t")) {
-            // Just tokenize input and print the tokens to STDOUT
-            Token token;
-            do {
-                token = javaCCScanner.getNextToken();
-                if (token.kind == JavaCCParserConstants.ERROR) {
-                    System.err.printf(
-                            "%s:%d: Unidentified input token: '%s'\n",
-                            sourceFile, token.beginLine, token.image);
-                    errorHasOccurred |= true;
-                } else {
-                    System.out.printf("%d\t : %s = %s\n", token.beginLine,
-                            JavaCCParserConstants.tokenImage[token.kind],
-                            token.image);
+            for (String sourceFile : sourceFiles) {
+                JavaCCParserTokenManager javaCCScanner = null;
+                try {
+                    javaCCScanner = new JavaCCParserTokenManager(
+                            new SimpleCharStream(new FileInputStream(
+                                    sourceFile), 1, 1));
+                } catch (FileNotFoundException e) {
+                    System.err.println("Error: file " + sourceFile
+                            + " not found.");
+                    errorHasOccurred = true;
+                    continue;
                 }
-            } while (token.kind != JavaCCParserConstants.EOF);
+                Token token;
+                do {
+                    token = javaCCScanner.getNextToken();
+                    if (token.kind == JavaCCParserConstants.ERROR) {
+                        System.err.printf(
+                                "%s:%d: Unidentified input token: '%s'\n",
+                                sourceFile, token.beginLine, token.image);
+                        errorHasOccurred = true;
+                    } else {
+                        System.out.printf("%d\t : %s = %s\n",
+                                token.beginLine,
+                                JavaCCParserConstants.tokenImage[token.kind],
+                                token.image);
+                    }
+                } while (token.kind != JavaCCParserConstants.EOF);
+            }
             return;
         }
 
-        // Parse input
-        JCompilationUnit ast = null;
-        JavaCCParser javaCCParser = new JavaCCParser(javaCCScanner);
-        javaCCParser.fileName(sourceFile);
-        try {
-            ast = javaCCParser.compilationUnit();
-            errorHasOccurred |= javaCCParser.errorHasOccurred();
-        } catch (ParseException e) {
-            System.err.println(e.getMessage());
+        // Parse input, one compilation unit per source file
+        ArrayList<JCompilationUnit> units = new ArrayList<JCompilationUnit>();
+        for (JCompilationUnit ast : Util.map(sourceFiles, threads,
+                sourceFile -> parse(sourceFile))) {
+            if (ast != null) {
+                units.add(ast);
+            }
         }
         if (debugOption.equals("-p")) {
-            ast.writeToStdOut(new PrettyPrinter());
+            writeToStdOut(units);
             return;
         }
         if (errorHasOccurred) {
             return;
         }
 
-        // Do pre-analysis
-        ast.preAnalyze();
-        errorHasOccurred |= JAST.compilationUnit.errorHasOccurred();
+        // Do pre-analysis, declaring the types of all the units together
+        JCompilationUnit.preAnalyze(units);
+        errorHasOccurred |= JCompilationUnit.errorHasOccurred(units);
         if (debugOption.equals("-pa")) {
-            ast.writeToStdOut(new PrettyPrinter());
+            writeToStdOut(units);
             return;
         }
         if (errorHasOccurred) {
             return;
         }
 
+        // When compiling incrementally, only the units whose sources or
+        // dependencies changed since the last compilation need be analyzed
+        // and compiled again
+        DependencyIndex index = null;
+        if (incremental && !spimOutput && debugOption.equals("")) {
+            index = new DependencyIndex(outputDir,
+                    CLConstants.MAJOR_VERSION, false);
+            units = index.staleUnits(units);
+        }
+
         // Do analysis
-        ast.analyze(null);
-        errorHasOccurred |= JAST.compilationUnit.errorHasOccurred();
+        JCompilationUnit.analyze(units, threads);
+        errorHasOccurred |= JCompilationUnit.errorHasOccurred(units);
         if (debugOption.equals("-a")) {
-            ast.writeToStdOut(new PrettyPrinter());
+            writeToStdOut(units);
             return;
         }
         if (errorHasOccurred) {
             return;
         }
 
-        // Generate JVM code
-        CLEmitter clEmitter = new CLEmitter(!spimOutput);
-        clEmitter.destinationDir(outputDir);
-        ast.codegen(clEmitter);
-        errorHasOccurred |= clEmitter.errorHasOccurred();
+        // Generate JVM code, and write it out to .class files
+        errorHasOccurred |= JCompilationUnit.codegen(units, threads, false,
+                CLConstants.MAJOR_VERSION);
         if (errorHasOccurred) {
             return;
         }
+        if (!spimOutput) {
+            errorHasOccurred |= JCompilationUnit.write(units, outputDir,
+                    threads);
+            if (errorHasOccurred) {
+                return;
+            }
+        }
+        if (index != null) {
+            index.update(units);
+            try {
+                index.write();
+            } catch (IOException e) {
+                System.err.println("Error: " + e.getMessage());
+                errorHasOccurred = true;
+            }
+        }
 
         // If SPIM output was asked for, convert the in-memory
         // JVM instructions to SPIM using the specified register
         // allocation scheme.
         if (spimOutput) {
-            NEmitter nEmitter = new NEmitter(sourceFile, ast.clFiles(),
-                    registerAllocation);
-            nEmitter.destinationDir(outputDir);
-            nEmitter.write();
-            errorHasOccurred |= nEmitter.errorHasOccurred();
+            for (JCompilationUnit ast : units) {
+                NEmitter nEmitter = new NEmitter(ast.fileName(),
+                        ast.clFiles(), registerAllocation);
+                nEmitter.destinationDir(outputDir);
+                nEmitter.write();
+                errorHasOccurred |= nEmitter.errorHasOccurred();
+            }
+        }
+    }
+
+    /**
+     * Parses the specified source file and returns its AST, or {@code null} if
+     * the file cannot be read or parsed.
+     * 
+     * @param sourceFile
+     *            the source file.
+     * @return the compilation unit, or {@code null}.
+     */
+
+    private static JCompilationUnit parse(String sourceFile) {
+        JavaCCParserTokenManager javaCCScanner = null;
+        try {
+            javaCCScanner = new JavaCCParserTokenManager(
+                    new SimpleCharStream(new FileInputStream(sourceFile),
+                            1, 1));
+        } catch (FileNotFoundException e) {
+            System.err.println("Error: file " + sourceFile + " not found.");
+            errorHasOccurred = true;
+            return null;
+        }
+        JavaCCParser javaCCParser = new JavaCCParser(javaCCScanner);
+        javaCCParser.fileName(sourceFile);
+        try {
+            JCompilationUnit ast = javaCCParser.compilationUnit();
+            if (javaCCParser.errorHasOccurred()) {
+                errorHasOccurred = true;
+            }
+            return ast;
+        } catch (ParseException e) {
+            System.err.println(e.getMessage());
+            errorHasOccurred = true;
+            return null;
+        }
+    }
+
+    /**
+     * Writes the ASTs of the specified compilation units to STDOUT.
+     * 
+     * @param units
+     *            the compilation units.
+     */
+
+    private static void writeToStdOut(ArrayList<JCompilationUnit> units) {
+        for (JCompilationUnit ast : units) {
+            ast.writeToStdOut(new PrettyPrinter());
         }
     }
 
@@ -196,7 +304,7 @@ public class JavaCCMain {
     private static void printUsage(String caller) {
         String usage = "Usage: "
                 + caller
-                + " <options> <source file>\n"
+                + " <options> <source files | @argfiles>\n"
                 + "Where possible options include:\n"
                 + "  -t  Only tokenize input and print tokens to STDOUT\n"
                 + "  -p  Only parse input and print AST to STDOUT\n"
@@ -206,7 +314,11 @@ public class JavaCCMain {
                 + "and print AST to STDOUT\n"
                 + "  -s  <naive|linear|graph> Generate SPIM code\n"
                 + "  -r  <num> Max. physical registers (1-18) available for allocation; default = 8\n"
-                + "  -d  <dir> Specify where to place output files; default = .";
+                + "  -d  <dir> Specify where to place output files; default = .\n"
+                + "  -j  <num> Number of threads to compile with (0 = one per "
+                + "processor); default = 1\n"
+                + "  -i  Compile incrementally, only the units whose sources "
+                + "or dependencies changed";
         System.out.println(usage);
     }
 
@@ -0,0 +1,237 @@
+/* Generated By:JavaCC: Do not edit this line. JavaCCParserConstants.java */
+package jminusminus;
+
+public interface JavaCCParserConstants {
+
+  int EOF = 0;
+  int SINGLE_LINE_COMMENT = 6;
+  int MULTI_LINE_COMMENT = 7;
+  int ABSTRACT = 8;
+  int BOOLEAN = 9;
+  int BREAK = 10;
+  int BYTE = 11;
+  int CASE = 12;
+  int CATCH = 13;
+  int CHAR = 14;
+  int CLASS = 15;
+  int CONST = 16;
+  int CONTINUE = 17;
+  int DEFAULT_ = 18;
+  int DO = 19;
+  int DOUBLE = 20;
+  int ELSE = 21;
+  int EXTENDS = 22;
+  int FALSE = 23;
+  int FINAL = 24;
+  int FINALLY = 25;
+  int FLOAT = 26;
+  int FOR = 27;
+  int GOTO = 28;
+  int IF = 29;
+  int IMPLEMENTS = 30;
+  int IMPORT = 31;
+  int INSTANCEOF = 32;
+  int INT = 33;
+  int INTERFACE = 34;
+  int LONG = 35;
+  int NATIVE = 36;
+  int NEW = 37;
+  int NULL = 38;
+  int PACKAGE = 39;
+  int PRIVATE = 40;
+  int PROTECTED = 41;
+  int PUBLIC = 42;
+  int RETURN = 43;
+  int SHORT = 44;
+  int STATIC = 45;
+  int STRICTFP = 46;
+  int SUPER = 47;
+  int SWITCH = 48;
+  int SYNCHRONIZED = 49;
+  int THIS = 50;
+  int THROW = 51;
+  int THROWS = 52;
+  int TRANSIENT = 53;
+  int TRUE = 54;
+  int TRY = 55;
+  int VOID = 56;
+  int VOLATILE = 57;
+  int WHILE = 58;
+  int PLUS = 59;
+  int ASSIGN = 60;
+  int DEC = 61;
+  int EQUAL = 62;
+  int NOT_EQUAL = 63;
+  int GT = 64;
+  int LT = 65;
+  int INC = 66;
+  int LAND = 67;
+  int BAND = 68;
+  int LE = 69;
+  int GE = 70;
+  int LNOT = 71;
+  int MINUS = 72;
+  int STAR = 73;
+  int COND = 74;
+  int BNOT = 75;
+  int DIV = 76;
+  int REM = 77;
+  int SHR = 78;
+  int SHL = 79;
+  int USHR = 80;
+  int BOR = 81;
+  int LOR = 82;
+  int BXOR = 83;
+  int PLUS_ASSIGN = 84;
+  int MINUS_ASSIGN = 85;
+  int MULT_ASSIGN = 86;
+  int DIV_ASSIGN = 87;
+  int REM_ASSIGN = 88;
+  int AND_ASSIGN = 89;
+  int OR_ASSIGN = 90;
+  int XOR_ASSIGN = 91;
+  int SHR_ASSIGN = 92;
+  int USHR_ASSIGN = 93;
+  int SHL_ASSIGN = 94;
+  int LPAREN = 95;
+  int RPAREN = 96;
+  int LCURLY = 97;
+  int RCURLY = 98;
+  int LBRACK = 99;
+  int RBRACK = 100;
+  int COLON = 101;
+  int SEMI = 102;
+  int COMMA = 103;
+  int DOT = 104;
+  int IDENTIFIER = 105;
+  int LETTER = 106;
+  int DIGIT = 107;
+  int NON_ZERO_DIGIT = 108;
+  int INT_LITERAL = 109;
+  int DOUBLE_LITERAL = 110;
+  int CHAR_LITERAL = 111;
+  int STRING_LITERAL = 112;
+  int ESC = 113;
+  int ERROR = 114;
+
+  int DEFAULT = 0;
+
+  String[] tokenImage = {
+    "<EOF>",
+    "\" \"",
+    "\"\\t\"",
+    "\"\\n\"",
+    "\"\\r\"",
+    "\"\\f\"",
+    "<SINGLE_LINE_COMMENT>",
+    "<MULTI_LINE_COMMENT>",
+    "\"abstract\"",
+    "\"boolean\"",
+    "\"break\"",
+    "\"byte\"",
+    "\"case\"",
+    "\"catch\"",
+    "\"char\"",
+    "\"class\"",
+    "\"const\"",
+    "\"continue\"",
+    "\"default\"",
+    "\"do\"",
+    "\"double\"",
+    "\"else\"",
+    "\"extends\"",
+    "\"false\"",
+    "\"final\"",
+    "\"finally\"",
+    "\"float\"",
+    "\"for\"",
+    "\"goto\"",
+    "\"if\"",
+    "\"implements\"",
+    "\"import\"",
+    "\"instanceof\"",
+    "\"int\"",
+    "\"interface\"",
+    "\"long\"",
+    "\"native\"",
+    "\"new\"",
+    "\"null\"",
+    "\"package\"",
+    "\"private\"",
+    "\"protected\"",
+    "\"public\"",
+    "\"return\"",
+    "\"short\"",
+    "\"static\"",
+    "\"strictfp\"",
+    "\"super\"",
+    "\"switch\"",
+    "\"synchronized\"",
+    "\"this\"",
+    "\"throw\"",
+    "\"throws\"",
+    "\"transient\"",
+    "\"true\"",
+    "\"try\"",
+    "\"void\"",
+    "\"volatile\"",
+    "\"while\"",
+    "\"+\"",
+    "\"=\"",
+    "\"--\"",
+    "\"==\"",
+    "\"!=\"",
+    "\">\"",
+    "\"<\"",
+    "\"++\"",
+    "\"&&\"",
+    "\"&\"",
+    "\"<=\"",
+    "\">=\"",
+    "\"!\"",
+    "\"-\"",
+    "\"*\"",
+    "\"?\"",
+    "\"~\"",
+    "\"/\"",
+    "\"%\"",
+    "\">>\"",
+    "\"<<\"",
+    "\">>>\"",
+    "\"|\"",
+    "\"||\"",
+    "\"^\"",
+    "\"+=\"",
+    "\"-=\"",
+    "\"*=\"",
+    "\"/=\"",
+    "\"%=\"",
+    "\"&=\"",
+    "\"|=\"",
+    "\"^=\"",
+    "\">>=\"",
+    "\">>>=\"",
+    "\"<<=\"",
+    "\"(\"",
+    "\")\"",
+    "\"{\"",
+    "\"}\"",
+    "\"[\"",
+    "\"]\"",
+    "\":\"",
+    "\";\"",
+    "\",\"",
+    "\".\"",
+    "<IDENTIFIER>",
+    "<LETTER>",
+    "<DIGIT>",
+    "<NON_ZERO_DIGIT>",
+    "<INT_LITERAL>",
+    "<DOUBLE_LITERAL>",
+    "<CHAR_LITERAL>",
+    "<STRING_LITERAL>",
+    "<ESC>",
+    "<ERROR>",
+  };
+
+}
@@ -3,13 +3,20 @@
 package jminusminus;
 
 import java.io.FileNotFoundException;
-import java.util.Stack;
-import java.util.Vector;
+import java.io.Reader;
+import java.util.Arrays;
 
 /**
  * A lexical analyzer for j-- that interfaces with the hand-written parser
  * ({@link Parser}). It provides a backtracking mechanism, and makes use of the
  * underlying hand-written {@link Scanner}.
+ * <p>
+ * The scanned tokens are kept in a {@link TokenBuffer}, and the parser reads
+ * them by their position in it; so looking ahead is scanning further into the
+ * buffer, and recording a position and backtracking to it are constant time
+ * operations on a stack of positions. When the parser is not looking ahead,
+ * the tokens before the previous one are no longer needed, and are discarded
+ * from time to time.
  */
 
 class LookaheadScanner {
@@ -17,23 +24,26 @@ class LookaheadScanner {
     /** The underlying hand-written scanner. */
     private Scanner scanner;
 
-    /** Backtracking queue. */
-    private Vector<TokenInfo> backtrackingQueue;
+    /** The tokens scanned so far. */
+    private TokenBuffer tokens;
 
-    /** Token queue. */
-    private Vector<TokenInfo> nextQueue;
+    /** Position (index in tokens) of the current token; -1 before any. */
+    private int position;
 
-    /** Stack of token queues for nested lookahead. */
-    private Stack<Vector<TokenInfo>> queueStack;
+    /** Number of tokens discarded from the start of tokens. */
+    private int discarded;
 
-    /** Whether we are looking ahead. */
-    public boolean isLookingAhead;
+    /** Stack of recorded positions for nested lookahead. */
+    private int[] positions;
 
-    /** Previous token. */
-    private TokenInfo previousToken;
+    /** Number of recorded positions (depth of the lookahead). */
+    private int depth;
 
-    /** Current token. */
-    private TokenInfo token;
+    /** Position from which tokens are discarded when not looking ahead. */
+    private final static int DISCARD_THRESHOLD = 1024;
+
+    /** Whether we are looking ahead. */
+    public boolean isLookingAhead;
 
     /**
      * Constructs a LookaheadScanner from a file name.
@@ -45,10 +55,37 @@ class LookaheadScanner {
      */
 
     public LookaheadScanner(String fileName) throws FileNotFoundException {
-        scanner = new Scanner(fileName);
-        backtrackingQueue = new Vector<TokenInfo>();
-        nextQueue = new Vector<TokenInfo>();
-        queueStack = new Stack<Vector<TokenInfo>>();
+        this(new Scanner(fileName));
+    }
+
+    /**
+     * Constructs a LookaheadScanner reading the source from the specified
+     * reader.
+     * 
+     * @param fileName
+     *            the name of the source (for error messages).
+     * @param reader
+     *            the source.
+     */
+
+    public LookaheadScanner(String fileName, Reader reader) {
+        this(new Scanner(fileName, reader));
+    }
+
+    /**
+     * Constructs a LookaheadScanner over the specified scanner.
+     * 
+     * @param scanner
+     *            the underlying scanner.
+     */
+
+    private LookaheadScanner(Scanner scanner) {
+        this.scanner = scanner;
+        tokens = new TokenBuffer();
+        position = -1;
+        discarded = 0;
+        positions = new int[16];
+        depth = 0;
         isLookingAhead = false;
     }
 
@@ -57,48 +94,51 @@ class LookaheadScanner {
      */
 
     public void next() {
-        previousToken = token;
-        if (backtrackingQueue.size() == 0) {
-            token = scanner.getNextToken();
-        } else {
-            token = backtrackingQueue.remove(0);
-        }
-        if (isLookingAhead) {
-            nextQueue.add(token);
+        position++;
+        if (position == tokens.size()) {
+            if (depth == 0 && position >= DISCARD_THRESHOLD) {
+                // Keep only the previous token
+                tokens.discard(position - 1);
+                discarded += position - 1;
+                position = 1;
+            }
+            scanner.scan(tokens);
         }
     }
 
     /**
      * Records the current position in the input, so that we can start looking
-     * ahead in the input (and later return to this position). We'll queue up
-     * the current and subsequent tokens until {@code returnToPosition} is 
-     * invoked. These recordPosition's can be nested.
+     * ahead in the input (and later return to this position). These
+     * recordPosition's can be nested.
      */
 
     public void recordPosition() {
         isLookingAhead = true;
-        queueStack.push(nextQueue);
-        nextQueue = new Vector<TokenInfo>();
-        nextQueue.add(previousToken);
-        nextQueue.add(token);
+        if (depth == positions.length) {
+            positions = Arrays.copyOf(positions, 2 * depth);
+        }
+        positions[depth++] = position;
     }
 
     /**
      * Returns to the previously recorded position in the input stream of tokens.
-     * If this is a nested lookahead, then return to the previous token queue.
+     * If this is a nested lookahead, then return to the enclosing lookahead.
      */
 
     public void returnToPosition() {
-        while (backtrackingQueue.size() > 0) {
-            nextQueue.add(backtrackingQueue.remove(0));
-        }
-        backtrackingQueue = nextQueue;
-        nextQueue = queueStack.pop();
-        isLookingAhead = !(queueStack.empty());
+        position = positions[--depth];
+        isLookingAhead = depth > 0;
+    }
+
+    /**
+     * Returns the position of the current token in the input: the number of
+     * tokens before it.
+     * 
+     * @return the position of the current token.
+     */
 
-        // Restore previous and current tokens
-        previousToken = backtrackingQueue.remove(0);
-        token = backtrackingQueue.remove(0);
+    public int position() {
+        return discarded + position;
     }
 
     /**
@@ -108,7 +148,7 @@ class LookaheadScanner {
      */
 
     public TokenInfo token() {
-        return token;
+        return position < 0 ? null : tokens.token(position);
     }
 
     /**
@@ -120,7 +160,49 @@ class LookaheadScanner {
      */
 
     public TokenInfo previousToken() {
-        return previousToken;
+        return position < 1 ? null : tokens.token(position - 1);
+    }
+
+    /**
+     * Returns the kind of the currently scanned token. Unlike
+     * {@code token().kind()}, this makes no object for the token.
+     * 
+     * @return the current token's kind.
+     */
+
+    public TokenKind kind() {
+        return tokens.kind(position);
+    }
+
+    /**
+     * Returns the semantic text of the currently scanned token.
+     * 
+     * @return the current token's semantic text.
+     */
+
+    public String image() {
+        return tokens.image(position);
+    }
+
+    /**
+     * Returns the line of the currently scanned token.
+     * 
+     * @return the current token's line.
+     */
+
+    public int line() {
+        return tokens.line(position);
+    }
+
+    /**
+     * Returns the semantic text of the previously scanned token (for example
+     * an identifier's name).
+     * 
+     * @return the previous token's semantic text.
+     */
+
+    public String previousImage() {
+        return tokens.image(position - 1);
     }
 
     /**
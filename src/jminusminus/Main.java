@@ -4,6 +4,12 @@ package jminusminus;
 
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.StringReader;
+
+import java.nio.charset.Charset;
+
+import java.util.ArrayList;
 
 import static jminusminus.TokenKind.EOF;
 
@@ -11,7 +17,12 @@ import static jminusminus.TokenKind.EOF;
  * Driver class for j-- compiler using hand-written front-end. This is the main
  * entry point for the compiler. The compiler proceeds as follows:
  * <ol>
- *   <li>It reads arguments that affects its behavior.</li>
+ *   <li>It reads arguments that affects its behavior. Any number of source 
+ *       files may be given, directly or listed in {@code @argfile}s; with 
+ *       {@code -j}, the files are parsed, analyzed and compiled on several
+ *       threads. A source file named {@code -} is read from STDIN, and with
+ *       {@code -o} the classes are written to STDOUT rather than to files,
+ *       so that the compiler can sit in a pipe.</li>
  * 
  *   <li>It builds a scanner.</li>
  * 
@@ -37,32 +48,124 @@ import static jminusminus.TokenKind.EOF;
 
 public class Main {
 
-    /** Whether an error occurred during compilation. */
-    private static boolean errorHasOccurred;
+    /** Name of the source file standing for STDIN. */
+    private static final String STDIN = "-";
+
+    /** Name of the source read from STDIN, in error messages. */
+    private static final String STDIN_NAME = "<stdin>";
+
+    /**
+     * The source read from STDIN, if it is one of the source files; read once,
+     * up front, as the source may be scanned more than once.
+     */
+    private static String standardInput;
+
+    /**
+     * Whether an error occurred during compilation. Volatile, and only ever set
+     * to {@code true} while compiling, as units may be compiled in parallel.
+     */
+    private static volatile boolean errorHasOccurred;
 
     /**
-     * Entry point.
+     * Whether the last compilation was a standalone run from the command line
+     * (through the {@code j--} script, or reading STDIN or writing STDOUT),
+     * whose failure should show in the exit status.
+     */
+    private static boolean standalone;
+
+    /**
+     * Entry point. A standalone run that fails exits with status 1, so that a
+     * shell (or a pipe) can tell; other callers check
+     * {@code errorHasOccurred()}.
      *
      * @param args
      *            the command-line arguments.
      */
 
     public static void main(String args[]) {
+        run(args);
+        if (standalone && errorHasOccurred) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Compiles as asked for by the specified command-line arguments, and
+     * reports the statistics, if any; unlike {@code main}, never exits.
+     *
+     * @param args
+     *            the command-line arguments.
+     */
+
+    static void run(String args[]) {
+        try {
+            compile(args);
+        } finally {
+            Stats.report();
+        }
+    }
+
+    /**
+     * Compiles as asked for by the specified command-line arguments.
+     *
+     * @param args
+     *            the command-line arguments.
+     */
+
+    private static void compile(String args[]) {
         String caller = "java jminusminus.Main";
-        String sourceFile = "";
+        ArrayList<String> sourceFiles = new ArrayList<String>();
         String debugOption = "";
         String outputDir = ".";
         boolean spimOutput = false;
         String registerAllocation = "";
+        int threads = 1;
+        boolean incremental = false;
+        boolean optimize = false;
+        int majorVersion = CLConstants.MAJOR_VERSION;
+        String outputFormat = null;
         errorHasOccurred = false;
+        int first = args.length > 0 && args[0].equals("j--") ? 1 : 0;
+        standalone = first == 1;
+        if (args.length > first && (args[first].equals("--server") 
+                || args[first].equals("--client"))) {
+            serverOrClient(args, first);
+            return;
+        }
+        try {
+            args = Util.expandArgumentFiles(args);
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            errorHasOccurred = true;
+            return;
+        }
         for (int i = 0; i < args.length; i++) {
             if (args[i].equals("j--")) {
                 caller = "j--";
-            } else if (args[i].endsWith(".java")) {
-                sourceFile = args[i];
+            } else if (args[i].endsWith(".java") || args[i].equals(STDIN)) {
+                sourceFiles.add(args[i]);
             } else if (args[i].equals("-t") || args[i].equals("-p")
                     || args[i].equals("-pa") || args[i].equals("-a")) {
                 debugOption = args[i];
+            } else if (args[i].equals("-i")) {
+                incremental = true;
+            } else if (args[i].equals("-O")) {
+                optimize = true;
+            } else if (args[i].equals("-stats")) {
+                Stats.enable();
+            } else if (args[i].equals("-target") && (i + 1) < args.length) {
+                majorVersion = CLEmitter.majorVersion(args[++i]);
+                if (majorVersion < 0) {
+                    printUsage(caller);
+                    return;
+                }
+            } else if (args[i].equals("-o") && (i + 1) < args.length) {
+                outputFormat = args[++i];
+                if (!outputFormat.equals("jar")
+                        && !outputFormat.equals("stream")) {
+                    printUsage(caller);
+                    return;
+                }
             } else if (args[i].endsWith("-d") && (i + 1) < args.length) {
                 outputDir = args[++i];
             } else if (args[i].endsWith("-s") && (i + 1) < args.length) {
@@ -80,89 +183,319 @@ public class Main {
                         .parseInt(args[++i]));
                 NPhysicalRegister.MAX_COUNT = Math.max(1,
                         NPhysicalRegister.MAX_COUNT);
+            } else if (args[i].endsWith("-j") && (i + 1) < args.length) {
+                try {
+                    threads = Integer.parseInt(args[++i]);
+                } catch (NumberFormatException e) {
+                    threads = -1;
+                }
+                if (threads < 0) {
+                    printUsage(caller);
+                    return;
+                }
             } else {
                 printUsage(caller);
                 return;
             }
         }
-        if (sourceFile.equals("")) {
+        if (sourceFiles.isEmpty()
+                || spimOutput && (outputFormat != null 
+                        || sourceFiles.contains(STDIN))) {
             printUsage(caller);
             return;
         }
-
-        LookaheadScanner scanner = null;
-        try {
-            scanner = new LookaheadScanner(sourceFile);
-        } catch (FileNotFoundException e) {
-            System.err.println("Error: file " + sourceFile + " not found.");
-            return;
+        if (outputFormat != null || sourceFiles.contains(STDIN)) {
+            standalone = true;
+        }
+        if (sourceFiles.contains(STDIN)) {
+            try {
+                standardInput = new String(System.in.readAllBytes(),
+                        Charset.defaultCharset());
+            } catch (IOException e) {
+                System.err.println("Error: " + e.getMessage());
+                errorHasOccurred = true;
+                return;
+            }
         }
 
+        // Just tokenize input and print the tokens to STDOUT
         if (debugOption.equals("-t")) {
-            // Just tokenize input and print the tokens to STDOUT
-            TokenInfo token;
-            do {
-                scanner.next();
-                token = scanner.token();
-                System.out.printf("%d\t : %s = %s\n", token.line(), token
-                        .tokenRep(), token.image());
-            } while (token.kind() != EOF);
-            errorHasOccurred |= scanner.errorHasOccured();
+            for (String sourceFile : sourceFiles) {
+                LookaheadScanner scanner = null;
+                try {
+                    scanner = lookaheadScanner(sourceFile);
+                } catch (FileNotFoundException e) {
+                    System.err.println("Error: file " + sourceFile
+                            + " not found.");
+                    errorHasOccurred = true;
+                    continue;
+                }
+                TokenInfo token;
+                do {
+                    scanner.next();
+                    token = scanner.token();
+                    System.out.printf("%d\t : %s = %s\n", token.line(), token
+                            .tokenRep(), token.image());
+                } while (token.kind() != EOF);
+                if (scanner.errorHasOccured()) {
+                    errorHasOccurred = true;
+                }
+            }
             return;
         }
 
-        // Parse input
-        Parser parser = new Parser(scanner);
-        JCompilationUnit ast = parser.compilationUnit();
-        errorHasOccurred |= parser.errorHasOccurred();
+        // When gathering statistics, time scanning on its own; the parser
+        // scans the input again as it parses
+        if (Stats.enabled()) {
+            Stats stats = Stats.phase("scan");
+            stats.start();
+            Util.map(sourceFiles, threads, sourceFile -> scan(sourceFile));
+            stats.stop();
+        }
+
+        // Parse input, one compilation unit per source file
+        Stats stats = Stats.phase("parse");
+        stats.start();
+        ArrayList<JCompilationUnit> units = new ArrayList<JCompilationUnit>();
+        for (JCompilationUnit ast : Util.map(sourceFiles, threads,
+                sourceFile -> parse(sourceFile))) {
+            if (ast != null) {
+                units.add(ast);
+            }
+        }
+        stats.stop();
         if (debugOption.equals("-p")) {
-            ast.writeToStdOut(new PrettyPrinter());
+            writeToStdOut(units);
             return;
         }
         if (errorHasOccurred) {
             return;
         }
 
-        // Do pre-analysis
-        ast.preAnalyze();
-        errorHasOccurred |= JAST.compilationUnit.errorHasOccurred();
+        // Do pre-analysis, declaring the types of all the units together
+        stats = Stats.phase("preAnalyze");
+        stats.start();
+        JCompilationUnit.preAnalyze(units);
+        stats.stop();
+        errorHasOccurred |= JCompilationUnit.errorHasOccurred(units);
         if (debugOption.equals("-pa")) {
-            ast.writeToStdOut(new PrettyPrinter());
+            writeToStdOut(units);
             return;
         }
         if (errorHasOccurred) {
             return;
         }
 
+        // When compiling incrementally, only the units whose sources or
+        // dependencies changed since the last compilation need be analyzed
+        // and compiled again; but all the classes are written to STDOUT, and
+        // STDIN has no file to check for changes
+        DependencyIndex index = null;
+        if (incremental && !spimOutput && debugOption.equals("")
+                && outputFormat == null && !sourceFiles.contains(STDIN)) {
+            index = new DependencyIndex(outputDir, majorVersion, optimize);
+            units = index.staleUnits(units);
+        }
+
         // Do analysis
-        ast.analyze(null);
-        errorHasOccurred |= JAST.compilationUnit.errorHasOccurred();
+        stats = Stats.phase("analyze");
+        stats.start();
+        JCompilationUnit.analyze(units, threads);
+        stats.stop();
+        errorHasOccurred |= JCompilationUnit.errorHasOccurred(units);
         if (debugOption.equals("-a")) {
-            ast.writeToStdOut(new PrettyPrinter());
+            writeToStdOut(units);
             return;
         }
         if (errorHasOccurred) {
             return;
         }
 
-        // Generate JVM code
-        CLEmitter clEmitter = new CLEmitter(!spimOutput);
-        clEmitter.destinationDir(outputDir);
-        ast.codegen(clEmitter);
-        errorHasOccurred |= clEmitter.errorHasOccurred();
+        // Generate JVM code, and write it out to .class files, or to STDOUT
+        stats = Stats.phase("codegen");
+        stats.start();
+        errorHasOccurred |= JCompilationUnit.codegen(units, threads, optimize,
+                majorVersion);
+        stats.stop();
         if (errorHasOccurred) {
             return;
         }
+        if (!spimOutput) {
+            stats = Stats.phase("write");
+            stats.start();
+            if (outputFormat != null) {
+                errorHasOccurred |= JCompilationUnit.write(units, System.out,
+                        outputFormat.equals("jar"));
+            } else {
+                errorHasOccurred |= JCompilationUnit.write(units, outputDir,
+                        threads);
+            }
+            stats.stop();
+            if (errorHasOccurred) {
+                return;
+            }
+        }
+        if (index != null) {
+            index.update(units);
+            try {
+                index.write();
+            } catch (IOException e) {
+                System.err.println("Error: " + e.getMessage());
+                errorHasOccurred = true;
+            }
+        }
 
         // If SPIM output was asked for, convert the in-memory
         // JVM instructions to SPIM using the specified register
         // allocation scheme.
         if (spimOutput) {
-            NEmitter nEmitter = new NEmitter(sourceFile, ast.clFiles(),
-                    registerAllocation);
-            nEmitter.destinationDir(outputDir);
-            nEmitter.write();
-            errorHasOccurred |= nEmitter.errorHasOccurred();
+            for (JCompilationUnit ast : units) {
+                NEmitter nEmitter = new NEmitter(ast.fileName(), 
+                        ast.clFiles(), registerAllocation);
+                nEmitter.destinationDir(outputDir);
+                nEmitter.write();
+                errorHasOccurred |= nEmitter.errorHasOccurred();
+            }
+        }
+    }
+
+    /**
+     * Runs a compile server, or a client sending the remaining arguments to
+     * one, as asked for by the {@code --server} or {@code --client} argument
+     * at the specified index. The client exits with the status of the
+     * compilation.
+     * 
+     * @param args
+     *            the command-line arguments.
+     * @param mode
+     *            index of the {@code --server} or {@code --client} argument.
+     */
+
+    private static void serverOrClient(String[] args, int mode) {
+        int port = CompileServer.DEFAULT_PORT;
+        int i = mode + 1;
+        if (i + 1 < args.length && args[i].equals("--port")) {
+            try {
+                port = Integer.parseInt(args[i + 1]);
+                i += 2;
+            } catch (NumberFormatException e) {
+                printUsage(mode == 0 ? "java jminusminus.Main" : "j--");
+                return;
+            }
+        }
+        try {
+            if (args[mode].equals("--server")) {
+                new CompileServer(port).serve();
+                return;
+            }
+            CompileClient client = new CompileClient(port);
+            if (i + 1 == args.length 
+                    && args[i].equals(CompileServer.SHUTDOWN)) {
+                client.shutdown();
+                return;
+            }
+            String[] request = new String[args.length - i + mode];
+            System.arraycopy(args, 0, request, 0, mode);
+            System.arraycopy(args, i, request, mode, args.length - i);
+            System.exit(client.compile(request));
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            errorHasOccurred = true;
+        }
+    }
+
+    /**
+     * Scans the specified source file to its end, discarding the tokens and 
+     * any errors (which are found, and reported, again in parsing).
+     * 
+     * @param sourceFile
+     *            the source file.
+     * @return {@code null}.
+     */
+
+    private static Void scan(String sourceFile) {
+        JMinusMinusCompiler.discardingErrors(() -> {
+            try {
+                Scanner scanner = scanner(sourceFile);
+                while (scanner.getNextToken().kind() != EOF) {
+                }
+            } catch (FileNotFoundException e) {
+                // Reported in parsing
+            }
+        });
+        return null;
+    }
+
+    /**
+     * Parses the specified source file and returns its AST, or {@code null} if
+     * the file cannot be read.
+     * 
+     * @param sourceFile
+     *            the source file.
+     * @return the compilation unit, or {@code null}.
+     */
+
+    private static JCompilationUnit parse(String sourceFile) {
+        LookaheadScanner scanner = null;
+        try {
+            scanner = lookaheadScanner(sourceFile);
+        } catch (FileNotFoundException e) {
+            System.err.println("Error: file " + sourceFile + " not found.");
+            errorHasOccurred = true;
+            return null;
+        }
+        Parser parser = new Parser(scanner);
+        JCompilationUnit ast = parser.compilationUnit();
+        if (parser.errorHasOccurred()) {
+            errorHasOccurred = true;
+        }
+        return ast;
+    }
+
+    /**
+     * Returns a scanner for the specified source file, which may be STDIN.
+     * 
+     * @param sourceFile
+     *            the source file.
+     * @return the scanner.
+     * @exception FileNotFoundException
+     *                if the source file cannot be found.
+     */
+
+    private static Scanner scanner(String sourceFile)
+            throws FileNotFoundException {
+        return sourceFile.equals(STDIN) ? new Scanner(STDIN_NAME,
+                new StringReader(standardInput)) : new Scanner(sourceFile);
+    }
+
+    /**
+     * Returns a lookahead scanner for the specified source file, which may be
+     * STDIN.
+     * 
+     * @param sourceFile
+     *            the source file.
+     * @return the lookahead scanner.
+     * @exception FileNotFoundException
+     *                if the source file cannot be found.
+     */
+
+    private static LookaheadScanner lookaheadScanner(String sourceFile)
+            throws FileNotFoundException {
+        return sourceFile.equals(STDIN) ? new LookaheadScanner(STDIN_NAME,
+                new StringReader(standardInput)) : new LookaheadScanner(
+                sourceFile);
+    }
+
+    /**
+     * Writes the ASTs of the specified compilation units to STDOUT.
+     * 
+     * @param units
+     *            the compilation units.
+     */
+
+    private static void writeToStdOut(ArrayList<JCompilationUnit> units) {
+        for (JCompilationUnit ast : units) {
+            ast.writeToStdOut(new PrettyPrinter());
         }
     }
 
@@ -186,7 +519,7 @@ public class Main {
     private static void printUsage(String caller) {
         String usage = "Usage: "
                 + caller
-                + " <options> <source file>\n"
+                + " <options> <source files | - | @argfiles>\n"
                 + "Where possible options include:\n"
                 + "  -t  Only tokenize input and print tokens to STDOUT\n"
                 + "  -p  Only parse input and print AST to STDOUT\n"
@@ -196,7 +529,26 @@ public class Main {
                 + "and print AST to STDOUT\n"
                 + "  -s  <naive|linear|graph> Generate SPIM code\n"
                 + "  -r  <num> Max. physical registers (1-18) available for allocation; default = 8\n"
-                + "  -d  <dir> Specify where to place output files; default = .";
+                + "  -d  <dir> Specify where to place output files; default = .\n"
+                + "  -o  <jar|stream> Write the classes to STDOUT, as a jar or "
+                + "as length-prefixed class files\n"
+                + "  -j  <num> Number of threads to compile with (0 = one per "
+                + "processor); default = 1\n"
+                + "  -i  Compile incrementally, only the units whose sources "
+                + "or dependencies changed\n"
+                + "  -O  Optimize the generated bytecode with a peephole "
+                + "pass\n"
+                + "  -target <release> Generate class files for the Java "
+                + "release (5 on); default = 8\n"
+                + "  -stats Report the time and memory spent in each phase to "
+                + "STDERR, as JSON lines\n"
+                + "Or, to keep the compiler resident between compilations:\n"
+                + "  " + caller + " --server [--port <num>]\n"
+                + "  " + caller + " --client [--port <num>] <options> "
+                + "<source files | @argfiles>\n"
+                + "  " + caller + " --client [--port <num>] --shutdown\n"
+                + "The server listens on the loopback interface; default "
+                + "port = " + CompileServer.DEFAULT_PORT;
         System.out.println(usage);
     }
 
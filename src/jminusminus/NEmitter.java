@@ -134,6 +134,10 @@ public class NEmitter {
         this.sourceFile = sourceFile.substring(sourceFile
                 .lastIndexOf(File.separator) + 1);
         classes = new HashMap<CLFile, HashMap<CLMethodInfo, NControlFlowGraph>>();
+        Stats cfgStats = Stats.phase("spim.cfg");
+        Stats hirStats = Stats.phase("spim.hir");
+        Stats lirStats = Stats.phase("spim.lir");
+        Stats raStats = Stats.phase("spim.registerAllocation");
         for (CLFile clFile : clFiles) {
             CLConstantPool cp = clFile.constantPool;
             HashMap<CLMethodInfo, NControlFlowGraph> methods = 
@@ -146,7 +150,9 @@ public class NEmitter {
                 // Each block in the cfg, at the end of this step,
                 // has the JVM bytecode translated into tuple
                 // representation.
+                cfgStats.start();
                 NControlFlowGraph cfg = new NControlFlowGraph(cp, m);
+                cfgStats.stop();
 
                 // Write the tuples in cfg to STDOUT.
                 PrettyPrinter p = new PrettyPrinter();
@@ -156,6 +162,7 @@ public class NEmitter {
                 // Identify blocks in cfg that are loop heads and
                 // loop tails. Also, compute number of backward
                 // branches to blocks.
+                cfgStats.start();
                 cfg.detectLoops(cfg.basicBlocks.get(0), null);
 
                 // Remove unreachable blocks from cfg.
@@ -163,9 +170,11 @@ public class NEmitter {
 
                 // Compute the dominator of each block in the cfg.
                 cfg.computeDominators(cfg.basicBlocks.get(0), null);
+                cfgStats.stop();
 
                 // Convert the tuples in each block in the cfg to
                 // high-level (HIR) instructions.
+                hirStats.start();
                 cfg.tuplesToHir();
 
                 // Eliminate redundant phi functions, i.e., replace
@@ -176,12 +185,14 @@ public class NEmitter {
                 // Perform optimizations on the high-level
                 // instructions.
                 cfg.optimize();
+                hirStats.stop();
 
                 // Write the HIR instructions in cfg to STDOUT.
                 cfg.writeHirToStdOut(p);
 
                 // Convert the HIR instructions in each block in the
                 // cfg to low-level (LIR) instructions.
+                lirStats.start();
                 cfg.hirToLir();
 
                 // Resolve phi functions;
@@ -192,6 +203,7 @@ public class NEmitter {
 
                 // Assign new ids to LIR instructions.
                 cfg.renumberLirInstructions();
+                lirStats.stop();
 
                 // Write the LIR instructions in cfg to STDOUT.
                 cfg.writeLirToStdOut(p);
@@ -201,6 +213,7 @@ public class NEmitter {
                 methods.put(m, cfg);
 
                 // Perform register allocation.
+                raStats.start();
                 NRegisterAllocator regAllocator;
                 if (ra.equals("naive")) {
                     regAllocator = new NNaiveRegisterAllocator(cfg);
@@ -210,13 +223,16 @@ public class NEmitter {
                     regAllocator = new NGraphRegisterAllocator(cfg);
                 }
                 regAllocator.allocation();
+                raStats.stop();
 
                 // Write the intervals in cfg to STDOUT.
                 cfg.writeIntervalsToStdOut(p);
 
                 // Replace references to virtual registers in LIR
                 // instructions with references to physical registers.
+                raStats.start();
                 cfg.allocatePhysicalRegisters();
+                raStats.stop();
 
                 // Write the LIR instructions in cfg to STDOUT.
                 cfg.writeLirToStdOut(p);
@@ -262,6 +278,8 @@ public class NEmitter {
      */
 
     public void write() {
+        Stats stats = Stats.phase("spim.write");
+        stats.start();
         String file = "";
         try {
             file = destDir + File.separator + sourceFile.replace(".java", ".s");
@@ -345,6 +363,8 @@ public class NEmitter {
             reportEmitterError("File %s not found", file);
         } catch (IOException e) {
             reportEmitterError("Cannot write to file %s", file);
+        } finally {
+            stats.stop();
         }
     }
 
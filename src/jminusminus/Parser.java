@@ -28,6 +28,19 @@ public class Parser {
     /** Whether we have recovered from a parser error. */
     private boolean isRecovered;
 
+    /** Memoized lookahead predicates (bits in the memo). */
+    private static final int CAST = 1, LOCAL_VARIABLE_DECLARATION = 2,
+            IDENT_LPAREN = 4, FOR_EACH_VARIABLE = 8;
+
+    /** Token position for which lookahead outcomes are memoized. */
+    private int memoPosition;
+
+    /** Predicates whose outcomes at memoPosition are known. */
+    private int memoKnown;
+
+    /** Outcomes of the known predicates (set bits are true). */
+    private int memoOutcomes;
+
     /**
      * Constructs a parser from the given lexical analyzer.
      * 
@@ -38,6 +51,7 @@ public class Parser {
         this.scanner = scanner;
         isInError = false;
         isRecovered = true;
+        memoPosition = -1;
         scanner.next(); // Prime the pump
     }
 
@@ -63,7 +77,7 @@ public class Parser {
      */
 
     private boolean see(TokenKind sought) {
-        return (sought == scanner.token().kind());
+        return (sought == scanner.kind());
     }
 
     /**
@@ -98,12 +112,12 @@ public class Parser {
      */
 
     private void mustBe(TokenKind sought) {
-        if (scanner.token().kind() == sought) {
+        if (scanner.kind() == sought) {
             scanner.next();
             isRecovered = true;
         } else if (isRecovered) {
             isRecovered = false;
-            reportParserError("%s found where %s sought", scanner.token().image(), sought.image());
+            reportParserError("%s found where %s sought", scanner.image(), sought.image());
         } else {
             // Do not report the (possibly spurious) error,
             // but rather attempt to recover by forcing a match.
@@ -142,15 +156,57 @@ public class Parser {
     private void reportParserError(String message, Object... args) {
         isInError = true;
         isRecovered = false;
-        System.err.printf("%s:%d: ", scanner.fileName(), scanner.token().line());
-        System.err.printf(message, args);
-        System.err.println();
+        JMinusMinusCompiler.report(scanner.fileName(), scanner.line(),
+                message, args);
     }
 
     // ////////////////////////////////////////////////
     // Lookahead /////////////////////////////////////
     // ////////////////////////////////////////////////
 
+    /**
+     * Returns the memoized outcome of the specified lookahead predicate at the
+     * current token position, if it is known. A predicate's outcome depends
+     * only on the tokens from the position, and the parser tries predicates
+     * in sequence at a position before moving past it, so only the outcomes
+     * at one position are kept.
+     * 
+     * @param predicate the predicate.
+     * @return 1 if the predicate is known to hold, 0 if it is known not to,
+     *         and -1 if its outcome is not known.
+     */
+
+    private int memoized(int predicate) {
+        if (scanner.position() != memoPosition) {
+            memoPosition = scanner.position();
+            memoKnown = 0;
+            memoOutcomes = 0;
+        }
+        if ((memoKnown & predicate) == 0) {
+            return -1;
+        }
+        return (memoOutcomes & predicate) != 0 ? 1 : 0;
+    }
+
+    /**
+     * Memoizes the outcome of the specified lookahead predicate at the current
+     * token position.
+     * 
+     * @param predicate the predicate.
+     * @param outcome its outcome.
+     * @return the outcome.
+     */
+
+    private boolean memoize(int predicate, boolean outcome) {
+        // Start afresh if another position was memoized meanwhile
+        memoized(predicate);
+        memoKnown |= predicate;
+        if (outcome) {
+            memoOutcomes |= predicate;
+        }
+        return outcome;
+    }
+
     /**
      * Are we looking at an BLOCK started by a LCURLY? Look ahead to find out.
      * 
@@ -195,6 +251,18 @@ public class Parser {
      */
 
     private boolean seeIdentLParen() {
+        int outcome = memoized(IDENT_LPAREN);
+        return outcome >= 0 ? outcome == 1 : memoize(IDENT_LPAREN,
+                lookForIdentLParen());
+    }
+
+    /**
+     * Looks ahead to see if we're looking at IDENTIFIER LPAREN.
+     * 
+     * @return true iff we're looking at IDENTIFIER LPAREN; false otherwise.
+     */
+
+    private boolean lookForIdentLParen() {
         scanner.recordPosition();
         boolean result = have(IDENTIFIER) && see(LPAREN);
         scanner.returnToPosition();
@@ -214,6 +282,17 @@ public class Parser {
      */
 
     private boolean seeCast() {
+        int outcome = memoized(CAST);
+        return outcome >= 0 ? outcome == 1 : memoize(CAST, lookForCast());
+    }
+
+    /**
+     * Looks ahead to see if we're looking at a cast.
+     * 
+     * @return true iff we're looking at a cast; false otherwise.
+     */
+
+    private boolean lookForCast() {
         scanner.recordPosition();
         if (!have(LPAREN)) {
             scanner.returnToPosition();
@@ -264,6 +343,18 @@ public class Parser {
      */
 
     private boolean seeLocalVariableDeclaration() {
+        int outcome = memoized(LOCAL_VARIABLE_DECLARATION);
+        return outcome >= 0 ? outcome == 1 : memoize(
+                LOCAL_VARIABLE_DECLARATION, lookForLocalVariableDeclaration());
+    }
+
+    /**
+     * Looks ahead to see if we're looking at a local variable declaration.
+     * 
+     * @return true iff we're looking at a local variable declaration; false otherwise.
+     */
+
+    private boolean lookForLocalVariableDeclaration() {
         scanner.recordPosition();
         have(FINAL);
         if (have(IDENTIFIER)) {
@@ -314,6 +405,18 @@ public class Parser {
      */
 
     private boolean seeForEachVariable() {
+        int outcome = memoized(FOR_EACH_VARIABLE);
+        return outcome >= 0 ? outcome == 1 : memoize(FOR_EACH_VARIABLE,
+                lookForForEachVariable());
+    }
+
+    /**
+     * Looks ahead to see if we're looking at a for-each statement variable declaration.
+     * 
+     * @return true iff we're looking at a for-each statement variable declaration; false otherwise.
+     */
+
+    private boolean lookForForEachVariable() {
         scanner.recordPosition();
         have(FINAL);
 
@@ -407,6 +510,7 @@ public class Parser {
             scanner.returnToPosition();
             return true;
         }
+        scanner.returnToPosition();
         return false;
     }
 
@@ -442,7 +546,7 @@ public class Parser {
      */
 
     public JCompilationUnit compilationUnit() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         TypeName packageName = null; // Default
         if (have(PACKAGE)) {
             packageName = qualifiedIdentifier();
@@ -477,12 +581,12 @@ public class Parser {
      */
 
     private TypeName qualifiedIdentifier() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         mustBe(IDENTIFIER);
-        String qualifiedIdentifier = scanner.previousToken().image();
+        String qualifiedIdentifier = scanner.previousImage();
         while (have(DOT)) {
             mustBe(IDENTIFIER);
-            qualifiedIdentifier += "." + scanner.previousToken().image();
+            qualifiedIdentifier += "." + scanner.previousImage();
         }
         return new TypeName(line, qualifiedIdentifier);
     }
@@ -606,10 +710,10 @@ public class Parser {
         ArrayList<Type> implement = new ArrayList<>();
         Type superClass;
 
-        int line = scanner.token().line();
+        int line = scanner.line();
         mustBe(CLASS);
         mustBe(IDENTIFIER);
-        String name = scanner.previousToken().image();
+        String name = scanner.previousImage();
 
         if (have(EXTENDS)) {
             TypeName ext = qualifiedIdentifier();
@@ -651,10 +755,10 @@ public class Parser {
     private JInterfaceDeclaration interfaceDeclaration(ArrayList<String> mods) {
         Type superClass;
 
-        int line = scanner.token().line();
+        int line = scanner.line();
         mustBe(INTERFACE);
         mustBe(IDENTIFIER);
-        String name = scanner.previousToken().image();
+        String name = scanner.previousImage();
         ArrayList<Type> interfaces = new ArrayList<>();
 
         if (have(EXTENDS)) {
@@ -696,7 +800,7 @@ public class Parser {
             }
         }
         if (error) {
-            reportParserError("classBody sought where %s found", scanner.token().image());
+            reportParserError("classBody sought where %s found", scanner.image());
         }
     }
 
@@ -741,12 +845,12 @@ public class Parser {
      */
 
     private JMember memberDecl(ArrayList<String> mods) {
-        int line = scanner.token().line();
+        int line = scanner.line();
         JMember memberDecl = null;
         if (seeIdentLParen()) {
             // A constructor
             mustBe(IDENTIFIER);
-            String name = scanner.previousToken().image();
+            String name = scanner.previousImage();
             ArrayList<JFormalParameter> params = formalParameters();
             ArrayList<TypeName> exceptions = new ArrayList<TypeName>();
             if (have(THROWS)) {
@@ -767,7 +871,7 @@ public class Parser {
             } else if (have(VOID)) {// void method
                 type = Type.VOID;
                 mustBe(IDENTIFIER);
-                String name = scanner.previousToken().image();
+                String name = scanner.previousImage();
                 ArrayList<JFormalParameter> params = formalParameters();
                 ArrayList<TypeName> exceptions = new ArrayList<TypeName>();
                 if (have(THROWS)) {
@@ -781,7 +885,7 @@ public class Parser {
                 type = type();
                 if (seeIdentLParen()) {
                     mustBe(IDENTIFIER);
-                    String name = scanner.previousToken().image();
+                    String name = scanner.previousImage();
                     ArrayList<JFormalParameter> params = formalParameters();
                     ArrayList<TypeName> exceptions = new ArrayList<TypeName>();
                     if (have(THROWS)) {
@@ -823,7 +927,7 @@ public class Parser {
             mods.add("public");
         }
 
-        int line = scanner.token().line();
+        int line = scanner.line();
         JMember interfaceMemberDecl = null;
         Type type = null;
 
@@ -835,7 +939,7 @@ public class Parser {
             // void method
             type = Type.VOID;
             mustBe(IDENTIFIER);
-            String name = scanner.previousToken().image();
+            String name = scanner.previousImage();
             ArrayList<JFormalParameter> params = formalParameters();
             ArrayList<TypeName> exceptions = new ArrayList<TypeName>();
             if (see(THROWS)) {
@@ -852,7 +956,7 @@ public class Parser {
                 }
                 // Non void method
                 mustBe(IDENTIFIER);
-                String name = scanner.previousToken().image();
+                String name = scanner.previousImage();
                 ArrayList<JFormalParameter> params = formalParameters();
                 ArrayList<TypeName> exceptions = new ArrayList<TypeName>();
                 if (see(THROWS)) {
@@ -887,7 +991,7 @@ public class Parser {
      */
 
     private JBlock block() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         ArrayList<JStatement> statements = new ArrayList<JStatement>();
         mustBe(LCURLY);
         while (!see(RCURLY) && !see(EOF)) {
@@ -908,7 +1012,7 @@ public class Parser {
      */
 
     private JBlock block(ArrayList<String> mods) {
-        int line = scanner.token().line();
+        int line = scanner.line();
         ArrayList<JStatement> statements = new ArrayList<JStatement>();
         mustBe(LCURLY);
         while (!see(RCURLY) && !see(EOF)) {
@@ -958,7 +1062,7 @@ public class Parser {
      */
 
     private JStatement statement() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         if (see(LCURLY)) {
             return block();
         } else if (have(IF)) {
@@ -1037,7 +1141,7 @@ public class Parser {
         JExpression loopExpression = null;
         JStatement body = null;
 
-        int line = scanner.token().line();
+        int line = scanner.line();
         mustBe(LPAREN);
 
         if (seeForEachVariable()) {
@@ -1047,7 +1151,7 @@ public class Parser {
 
             varType = type();
             mustBe(IDENTIFIER);
-            String name = scanner.previousToken().image();
+            String name = scanner.previousImage();
             identifier = new JSingleVariableDeclaration(line, name, varType, mods);
             mustBe(COL);
             loopExpression = expression();
@@ -1134,10 +1238,10 @@ public class Parser {
      */
 
     private JFormalParameter formalParameter() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         Type type = type();
         mustBe(IDENTIFIER);
-        String name = scanner.previousToken().image();
+        String name = scanner.previousImage();
         return new JFormalParameter(line, name, type);
     }
 
@@ -1171,7 +1275,7 @@ public class Parser {
      */
 
     private JVariableDeclaration localVariableDeclarationStatement() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         ArrayList<String> mods = new ArrayList<String>();
         if (have(FINAL)) {
             mods.add("final");
@@ -1212,9 +1316,9 @@ public class Parser {
      */
 
     private JVariableDeclarator variableDeclarator(Type type) {
-        int line = scanner.token().line();
+        int line = scanner.line();
         mustBe(IDENTIFIER);
-        String name = scanner.previousToken().image();
+        String name = scanner.previousImage();
         JExpression initial = have(ASSIGN) ? variableInitializer(type) : null;
         return new JVariableDeclarator(line, name, type, initial);
     }
@@ -1252,7 +1356,7 @@ public class Parser {
      * @return an AST for an arrayInitializer.
      */
     private JArrayInitializer arrayInitializer(Type type) {
-        int line = scanner.token().line();
+        int line = scanner.line();
         ArrayList<JExpression> initials = new ArrayList<JExpression>();
         mustBe(LCURLY);
         if (have(RCURLY)) {
@@ -1327,7 +1431,7 @@ public class Parser {
         } else if (have(DOUBLE)) {
             return Type.DOUBLE;
         } else {
-            reportParserError("Type sought where %s found", scanner.token().image());
+            reportParserError("Type sought where %s found", scanner.image());
             return Type.ANY;
         }
     }
@@ -1373,7 +1477,7 @@ public class Parser {
      */
 
     private JStatement statementExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         JExpression expr = expression();
         if (expr instanceof JAssignment || expr instanceof JPreIncrementOp || expr instanceof JPostIncrementOp
                 || expr instanceof JPreDecrementOp || expr instanceof JPostDecrementOp
@@ -1416,7 +1520,7 @@ public class Parser {
      */
 
     private JExpression assignmentExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         JExpression lhs = ternaryExpression();
         if (have(ASSIGN)) {
             return new JAssignOp(line, lhs, assignmentExpression());
@@ -1452,7 +1556,7 @@ public class Parser {
      *                      [COND ternaryExpression COL ternaryExpression]
      */
     private JExpression ternaryExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         JExpression condition = conditionalOrExpression();
         if (have(COND)) {
             JExpression trueExpr = ternaryExpression();
@@ -1460,7 +1564,7 @@ public class Parser {
                 JExpression falseExpr = ternaryExpression();
                 return new JTernaryExpression(line, condition, trueExpr, falseExpr);
             } else {
-                reportParserError("COLON sought where %s found", scanner.token().image());
+                reportParserError("COLON sought where %s found", scanner.image());
             }
         }
         return condition;
@@ -1478,7 +1582,7 @@ public class Parser {
      */
 
     private JExpression conditionalOrExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         boolean more = true;
         JExpression lhs = conditionalAndExpression();
         while (more) {
@@ -1503,7 +1607,7 @@ public class Parser {
      */
 
     private JExpression conditionalAndExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         boolean more = true;
         JExpression lhs = bitwiseOrExpression();
         while (more) {
@@ -1528,7 +1632,7 @@ public class Parser {
      */
 
     private JExpression bitwiseOrExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         JExpression lhs = bitwiseXorExpression();
         if (have(BOR)) {
             return new JBitwiseOrOp(line, lhs, bitwiseXorExpression());
@@ -1549,7 +1653,7 @@ public class Parser {
      */
 
     private JExpression bitwiseXorExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         JExpression lhs = bitwiseAndExpression();
         if (have(BXOR)) {
             return new JBitwiseXorOp(line, lhs, bitwiseAndExpression());
@@ -1570,7 +1674,7 @@ public class Parser {
      */
 
     private JExpression bitwiseAndExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         JExpression lhs = equalityExpression();
         if (have(BAND)) {
             return new JBitwiseAndOp(line, lhs, equalityExpression());
@@ -1591,7 +1695,7 @@ public class Parser {
      */
 
     private JExpression equalityExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         boolean more = true;
         JExpression lhs = relationalExpression();
         while (more) {
@@ -1619,7 +1723,7 @@ public class Parser {
      */
 
     private JExpression relationalExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         JExpression lhs = shiftExpression();
         if (have(GT)) {
             return new JGreaterThanOp(line, lhs, shiftExpression());
@@ -1649,7 +1753,7 @@ public class Parser {
      */
 
     private JExpression shiftExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         JExpression lhs = additiveExpression();
         if (have(USHR)) {
             return new JUnsignedShiftRight(line, lhs, additiveExpression());
@@ -1674,7 +1778,7 @@ public class Parser {
      */
 
     private JExpression additiveExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         boolean more = true;
         JExpression lhs = multiplicativeExpression();
         while (more) {
@@ -1701,7 +1805,7 @@ public class Parser {
      */
 
     private JExpression multiplicativeExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         boolean more = true;
         JExpression lhs = unaryExpression();
         while (more) {
@@ -1732,7 +1836,7 @@ public class Parser {
      */
 
     private JExpression unaryExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         if (have(INC)) {
             return new JPreIncrementOp(line, unaryExpression());
         } else if (have(DEC)) {
@@ -1763,7 +1867,7 @@ public class Parser {
      */
 
     private JExpression simpleUnaryExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         if (have(LNOT)) {
             return new JLogicalNotOp(line, unaryExpression());
         } else if (have(BNOT)) {
@@ -1791,7 +1895,7 @@ public class Parser {
      */
 
     private JExpression postfixExpression() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         JExpression primaryExpr = primary();
         while (see(DOT) || see(LBRACK)) {
             primaryExpr = selector(primaryExpr);
@@ -1818,11 +1922,11 @@ public class Parser {
      */
 
     private JExpression selector(JExpression target) {
-        int line = scanner.token().line();
+        int line = scanner.line();
         if (have(DOT)) {
             // Target . selector
             mustBe(IDENTIFIER);
-            String name = scanner.previousToken().image();
+            String name = scanner.previousImage();
             if (see(LPAREN)) {
                 ArrayList<JExpression> args = arguments();
                 return new JMessageExpression(line, target, name, args);
@@ -1855,7 +1959,7 @@ public class Parser {
      */
 
     private JExpression primary() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         if (see(LPAREN)) {
             return parExpression();
         } else if (have(THIS)) {
@@ -1869,7 +1973,7 @@ public class Parser {
                 return new JSuperConstruction(line, arguments());
             } else {
                 mustBe(IDENTIFIER);
-                String name = scanner.previousToken().image();
+                String name = scanner.previousImage();
                 JExpression newTarget = new JSuper(line);
                 if (see(LPAREN)) {
                     return new JMessageExpression(line, newTarget, null, name, arguments());
@@ -1911,7 +2015,7 @@ public class Parser {
      */
 
     private JExpression creator() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         Type type = seeBasicType() ? basicType() : qualifiedIdentifier();
         if (see(LPAREN)) {
             ArrayList<JExpression> args = arguments();
@@ -1927,7 +2031,7 @@ public class Parser {
             } else
                 return newArrayDeclarator(line, type);
         } else {
-            reportParserError("( or [ sought where %s found", scanner.token().image());
+            reportParserError("( or [ sought where %s found", scanner.image());
             return new JWildExpression(line);
         }
     }
@@ -1982,15 +2086,15 @@ public class Parser {
      */
 
     private JExpression literal() {
-        int line = scanner.token().line();
+        int line = scanner.line();
         if (have(INT_LITERAL)) {
-            return new JLiteralInt(line, scanner.previousToken().image());
+            return new JLiteralInt(line, scanner.previousImage());
         } else if (have(DOUBLE_LITERAL)) {
-            return new JLiteralDouble(line, scanner.previousToken().image());
+            return new JLiteralDouble(line, scanner.previousImage());
         } else if (have(CHAR_LITERAL)) {
-            return new JLiteralChar(line, scanner.previousToken().image());
+            return new JLiteralChar(line, scanner.previousImage());
         } else if (have(STRING_LITERAL)) {
-            return new JLiteralString(line, scanner.previousToken().image());
+            return new JLiteralString(line, scanner.previousImage());
         } else if (have(TRUE)) {
             return new JLiteralTrue(line);
         } else if (have(FALSE)) {
@@ -1998,7 +2102,7 @@ public class Parser {
         } else if (have(NULL)) {
             return new JLiteralNull(line);
         } else {
-            reportParserError("Literal sought where %s found", scanner.token().image());
+            reportParserError("Literal sought where %s found", scanner.image());
             return new JWildExpression(line);
         }
     }
@@ -2,12 +2,17 @@
 
 package jminusminus;
 
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
-import java.io.LineNumberReader;
+import java.io.Reader;
 
-import java.util.Hashtable;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+
+import java.util.Arrays;
 
 import static jminusminus.TokenKind.*;
 
@@ -29,7 +34,22 @@ class Scanner {
     public final static char EOFCH = CharReader.EOFCH;
 
     /** Keywords in j--. */
-    private Hashtable<String, TokenKind> reserved;
+    private final static TokenKind[] KEYWORDS = {
+        ABSTRACT, BOOLEAN, BREAK, BYTE, CASE, CATCH, CHAR, CLASS, CONST,
+        CONTINUE, DEFAULT, DO, DOUBLE, ELSE, EXTENDS, FALSE, FINAL, FINALLY,
+        FLOAT, FOR, GOTO, IF, IMPLEMENTS, IMPORT, INSTANCEOF, INT, INTERFACE,
+        LONG, NATIVE, NEW, NULL, PACKAGE, PRIVATE, PROTECTED, PUBLIC, RETURN,
+        SHORT, STATIC, STRICTFP, SUPER, SWITCH, SYNCHRONIZED, THIS, THROW,
+        THROWS, TRANSIENT, TRUE, TRY, VOID, VOLATILE, WHILE };
+
+    /**
+     * The keywords, by length and first letter: {@code KEYWORD_TABLE[n][c -
+     * 'a']} lists the keywords of length n starting with c, or is null.
+     */
+    private final static TokenKind[][][] KEYWORD_TABLE = keywordTable();
+
+    /** The identifiers scanned so far. */
+    private IdentifierTable identifiers;
 
     /** Source characters. */
     private CharReader input;
@@ -46,6 +66,12 @@ class Scanner {
     /** Line number of current token. */
     private int line;
 
+    /**
+     * Semantic text of the token last scanned (for example, an identifier's
+     * name), or null if it is simply the token kind's image.
+     */
+    private String image;
+
     /**
      * Constructs a Scanner object.
      * 
@@ -56,63 +82,37 @@ class Scanner {
      */
 
     public Scanner(String fileName) throws FileNotFoundException {
-        this.input = new CharReader(fileName);
-        this.fileName = fileName;
+        this(new CharReader(fileName));
+    }
+
+    /**
+     * Constructs a Scanner object reading the source from the specified 
+     * reader.
+     * 
+     * @param fileName
+     *            the name of the source (for error messages).
+     * @param reader
+     *            the source.
+     */
+
+    public Scanner(String fileName, Reader reader) {
+        this(new CharReader(fileName, reader));
+    }
+
+    /**
+     * Constructs a Scanner object reading the source from the specified 
+     * character reader.
+     * 
+     * @param input
+     *            the source.
+     */
+
+    private Scanner(CharReader input) {
+        this.input = input;
+        this.fileName = input.fileName();
         isInError = false;
 
-        // Keywords in j--
-        reserved = new Hashtable<String, TokenKind>();
-        reserved.put(ABSTRACT.image(), ABSTRACT);
-        reserved.put(BOOLEAN.image(), BOOLEAN);
-        reserved.put(BREAK.image(), BREAK);
-        reserved.put(BYTE.image(), BYTE);
-        reserved.put(CASE.image(), CASE);
-        reserved.put(CATCH.image(), CATCH);
-        reserved.put(CHAR.image(), CHAR);
-        reserved.put(CLASS.image(), CLASS);
-        reserved.put(CONST.image(), CONST);
-        reserved.put(CONTINUE.image(), CONTINUE);
-        reserved.put(DEFAULT.image(), DEFAULT);
-        reserved.put(DO.image(), DO);
-        reserved.put(DOUBLE.image(), DOUBLE);
-        reserved.put(ELSE.image(), ELSE);
-        reserved.put(EXTENDS.image(), EXTENDS);
-        reserved.put(FALSE.image(), FALSE);
-        reserved.put(FINAL.image(), FINAL);
-        reserved.put(FINALLY.image(), FINALLY);
-        reserved.put(FLOAT.image(), FLOAT);
-        reserved.put(FOR.image(), FOR);
-        reserved.put(GOTO.image(), GOTO);
-        reserved.put(IF.image(), IF);
-        reserved.put(IMPLEMENTS.image(), IMPLEMENTS);
-        reserved.put(IMPORT.image(), IMPORT);
-        reserved.put(INSTANCEOF.image(), INSTANCEOF);
-        reserved.put(INT.image(), INT);
-        reserved.put(INTERFACE.image(), INTERFACE);
-        reserved.put(LONG.image(), LONG);
-        reserved.put(NATIVE.image(), NATIVE);
-        reserved.put(NEW.image(), NEW);
-        reserved.put(NULL.image(), NULL);
-        reserved.put(PACKAGE.image(), PACKAGE);
-        reserved.put(PRIVATE.image(), PRIVATE);
-        reserved.put(PROTECTED.image(), PROTECTED);
-        reserved.put(PUBLIC.image(), PUBLIC);
-        reserved.put(RETURN.image(), RETURN);
-        reserved.put(SHORT.image(), SHORT);
-        reserved.put(STATIC.image(), STATIC);
-        reserved.put(STRICTFP.image(), STRICTFP);
-        reserved.put(SUPER.image(), SUPER);
-        reserved.put(SWITCH.image(), SWITCH);
-        reserved.put(SYNCHRONIZED.image(), SYNCHRONIZED);
-        reserved.put(THIS.image(), THIS);
-        reserved.put(THROW.image(), THROW);
-        reserved.put(THROWS.image(), THROWS);
-        reserved.put(TRANSIENT.image(), TRANSIENT);
-        reserved.put(TRUE.image(), TRUE);
-        reserved.put(TRY.image(), TRY);
-        reserved.put(VOID.image(), VOID);
-        reserved.put(VOLATILE.image(), VOLATILE);
-        reserved.put(WHILE.image(), WHILE);
+        identifiers = new IdentifierTable();
 
         // Prime the pump.
         nextCh();
@@ -125,8 +125,36 @@ class Scanner {
      */
 
     public TokenInfo getNextToken() {
-        StringBuffer buffer;
+        TokenKind kind = scanToken();
+        return new TokenInfo(kind, image == null ? kind.toString() : image,
+                line);
+    }
+
+    /**
+     * Scans the next token from input, and adds it to the specified buffer.
+     * Unlike {@code getNextToken}, this makes no object for the token.
+     * 
+     * @param tokens
+     *            the buffer.
+     */
+
+    public void scan(TokenBuffer tokens) {
+        TokenKind kind = scanToken();
+        tokens.add(kind, image, line);
+    }
+
+    /**
+     * Scans the next token from input, leaving its semantic text (if any) in
+     * {@code image} and its line in {@code line}.
+     * 
+     * @return the kind of the token scanned.
+     */
+
+    private TokenKind scanToken() {
+        StringBuilder buffer;
+        int length;
         boolean moreWhiteSpace = true;
+        image = null;
         while (moreWhiteSpace) {
             while (isWhitespace(ch)) {
                 nextCh();
@@ -151,132 +179,133 @@ class Scanner {
                     }
                 } else if (ch == '=') {
                     nextCh();
-                    return new TokenInfo(DIV_ASSIGN, line);
+                    return DIV_ASSIGN;
                 } else {
-                    return new TokenInfo(DIV, line);
+                    return DIV;
                 }
             }  else {
                 moreWhiteSpace = false;
             }
         }
         line = input.line();
+        int start = input.offset();
         switch (ch) {
         case '(':
             nextCh();
-            return new TokenInfo(LPAREN, line);
+            return LPAREN;
         case ')':
             nextCh();
-            return new TokenInfo(RPAREN, line);
+            return RPAREN;
         case '{':
             nextCh();
-            return new TokenInfo(LCURLY, line);
+            return LCURLY;
         case '}':
             nextCh();
-            return new TokenInfo(RCURLY, line);
+            return RCURLY;
         case '[':
             nextCh();
-            return new TokenInfo(LBRACK, line);
+            return LBRACK;
         case ']':
             nextCh();
-            return new TokenInfo(RBRACK, line);
+            return RBRACK;
         case ';':
             nextCh();
-            return new TokenInfo(SEMI, line);
+            return SEMI;
         case ':':
             nextCh();
-            return new TokenInfo(COL, line);
+            return COL;
         case ',':
             nextCh();
-            return new TokenInfo(COMMA, line);
+            return COMMA;
         case '?':
             nextCh();
-            return new TokenInfo(COND, line);            
+            return COND;            
         case '=':
             nextCh();
             if (ch == '=') {
                 nextCh();
-                return new TokenInfo(EQUAL, line);
+                return EQUAL;
             } else {
-                return new TokenInfo(ASSIGN, line);
+                return ASSIGN;
             }
         case '!':
             nextCh();
             if(ch == '=') {
                 nextCh();
-                return new TokenInfo(NOT_EQUALS,line);
+                return NOT_EQUALS;
             }else {
-                return new TokenInfo(LNOT, line);
+                return LNOT;
             }
         case '*':
             nextCh();
             if(ch == '=') {
                 nextCh();
-                return new TokenInfo(STAR_ASSIGN, line);
+                return STAR_ASSIGN;
             }else{
-                return new TokenInfo(STAR, line);
+                return STAR;
             }
         case '+':
             nextCh();
             if (ch == '=') {
                 nextCh();
-                return new TokenInfo(PLUS_ASSIGN, line);
+                return PLUS_ASSIGN;
             } else if (ch == '+') {
                 nextCh();
-                return new TokenInfo(INC, line);
+                return INC;
             } else {
-                return new TokenInfo(PLUS, line);
+                return PLUS;
             }
         case '-':
             nextCh();
             if (ch == '-') {
                 nextCh();
-                return new TokenInfo(DEC, line);
+                return DEC;
             } else if (ch == '='){
                 nextCh();
-                return new TokenInfo(MINUS_ASSIGN, line);
+                return MINUS_ASSIGN;
             }else{
-                return new TokenInfo(MINUS, line);
+                return MINUS;
             }
         case '&':
             nextCh();
             if (ch == '&') {
                 nextCh();
-                return new TokenInfo(LAND, line);
+                return LAND;
             } else if (ch == '=') {
                 nextCh();
-                return new TokenInfo(AND_ASSIGN,line);
+                return AND_ASSIGN;
             } else {
-                return new TokenInfo(BAND, line);
+                return BAND;
             }
         case '^':
             nextCh();
             if(ch == '=') {
                 nextCh();
-                return new TokenInfo(XOR_ASSIGN, line);
+                return XOR_ASSIGN;
             } else {
-                return new TokenInfo(BXOR, line);
+                return BXOR;
             }
         case '~':
             nextCh();
-            return new TokenInfo(BNOT, line);
+            return BNOT;
         case '|':
             nextCh();
             if(ch == '|') {
                 nextCh();
-                return new TokenInfo(LOR,line);
+                return LOR;
             } else if (ch == '=') {
                 nextCh();
-                return new TokenInfo(OR_ASSIGN,line);
+                return OR_ASSIGN;
             } else {
-                return new TokenInfo(BOR, line);
+                return BOR;
             }
         case '%':
             nextCh();
             if(ch == '='){
                 nextCh();
-                return new TokenInfo(REM_ASSIGN, line);
+                return REM_ASSIGN;
             }else{
-                return new TokenInfo(REM, line);
+                return REM;
             }
         case '>':
             nextCh();
@@ -286,39 +315,39 @@ class Scanner {
                     nextCh();
                     if(ch == '=') {
                         nextCh();
-                        return new TokenInfo(USHR_ASSIGN, line);
+                        return USHR_ASSIGN;
                     }else{
                         nextCh();
-                        return new TokenInfo(USHR, line);
+                        return USHR;
                     }
                 }
                 if(ch == '='){
                     nextCh();
-                    return new TokenInfo(SHR_ASSIGN, line);
+                    return SHR_ASSIGN;
                 }
-                return new TokenInfo(SHR, line);
+                return SHR;
             } else if (ch == '=') {
                 nextCh();
-                return new TokenInfo(GE, line);
+                return GE;
             }
-            return new TokenInfo(GT, line);
+            return GT;
         case '<':
             nextCh();
             if(ch == '='){
                 nextCh();
-                return new TokenInfo(LE, line);
+                return LE;
             } else if(ch == '<') {
                 nextCh();
                 if(ch == '='){
                     nextCh();
-                    return new TokenInfo(SHL_ASSIGN, line);
+                    return SHL_ASSIGN;
                 }
-                return new TokenInfo(SHL, line);
+                return SHL;
             } else {
-                return new TokenInfo(LT, line);
+                return LT;
             }
         case '\'':
-            buffer = new StringBuffer();
+            buffer = new StringBuilder();
             buffer.append('\'');
             nextCh();
             if (ch == '\\') {
@@ -331,7 +360,8 @@ class Scanner {
             if (ch == '\'') {
                 buffer.append('\'');
                 nextCh();
-                return new TokenInfo(CHAR_LITERAL, buffer.toString(), line);
+                image = buffer.toString();
+                return CHAR_LITERAL;
             } else {
                 // Expected a ' ; report error and try to
                 // recover.
@@ -340,10 +370,11 @@ class Scanner {
                 while (ch != '\'' && ch != ';' && ch != '\n') {
                     nextCh();
                 }
-                return new TokenInfo(CHAR_LITERAL, buffer.toString(), line);
+                image = buffer.toString();
+                return CHAR_LITERAL;
             }
         case '"':
-            buffer = new StringBuffer();
+            buffer = new StringBuilder();
             buffer.append("\"");
             nextCh();
             while (ch != '"' && ch != '\n' && ch != EOFCH) {
@@ -364,25 +395,27 @@ class Scanner {
                 nextCh();
                 buffer.append("\"");
             }
-            return new TokenInfo(STRING_LITERAL, buffer.toString(), line);
+            image = buffer.toString();
+            return STRING_LITERAL;
         case '.':
             nextCh();
-            return new TokenInfo(DOT, line);
+            return DOT;
         case EOFCH:
-            return new TokenInfo(EOF, line);
+            return EOF;
         case '0':
             nextCh();
             if(ch == '.') {
-                buffer = new StringBuffer();
-                buffer.append('0');
+                length = 1;
                 do {
-                    buffer.append(ch);
+                    length++;
                     nextCh();
                 }
                 while (isDigit(ch));
-                return new TokenInfo(DOUBLE_LITERAL, buffer.toString(), line);
+                image = new String(input.text(), start, length);
+                return DOUBLE_LITERAL;
             }
-            return new TokenInfo(INT_LITERAL, "0", line);
+            image = "0";
+            return INT_LITERAL;
         case '1':
         case '2':
         case '3':
@@ -392,39 +425,106 @@ class Scanner {
         case '7':
         case '8':
         case '9':
-            buffer = new StringBuffer();
+            length = 0;
             while (isDigit(ch)) {
-                buffer.append(ch);
+                length++;
                 nextCh();
             }
             if(ch == '.') {
                 do {
-                    buffer.append(ch);
+                    length++;
                     nextCh();
                 }
                 while (isDigit(ch));
-                return new TokenInfo(DOUBLE_LITERAL, buffer.toString(), line);
+                image = new String(input.text(), start, length);
+                return DOUBLE_LITERAL;
             }
-            return new TokenInfo(INT_LITERAL, buffer.toString(), line);
+            image = new String(input.text(), start, length);
+            return INT_LITERAL;
         default:
             if (isIdentifierStart(ch)) {
-                buffer = new StringBuffer();
+                // Match the identifier in the input, and only make a string
+                // of it if it is not a keyword and is new
+                length = 0;
                 while (isIdentifierPart(ch)) {
-                    buffer.append(ch);
+                    length++;
                     nextCh();
                 }
-                String identifier = buffer.toString();
-                if (reserved.containsKey(identifier)) {
-                    return new TokenInfo(reserved.get(identifier), line);
+                TokenKind keyword = keyword(input.text(), start, length);
+                if (keyword != null) {
+                    return keyword;
                 } else {
-                    return new TokenInfo(IDENTIFIER, identifier, line);
+                    image = identifiers.intern(input.text(), start, length);
+                    return IDENTIFIER;
                 }
             } else {
                 reportScannerError("Unidentified input token: '%c'", ch);
                 nextCh();
-                return getNextToken();
+                return scanToken();
+            }
+        }
+    }
+
+    /**
+     * Returns the keyword the specified characters of the input spell, or
+     * null if they do not spell a keyword.
+     * 
+     * @param text
+     *            the input.
+     * @param start
+     *            index of the first character.
+     * @param length
+     *            number of characters.
+     * @return the keyword, or null.
+     */
+
+    private static TokenKind keyword(char[] text, int start, int length) {
+        char first = text[start];
+        if (length >= KEYWORD_TABLE.length || first < 'a' || first > 'z') {
+            return null;
+        }
+        TokenKind[] candidates = KEYWORD_TABLE[length][first - 'a'];
+        if (candidates == null) {
+            return null;
+        }
+        for (TokenKind candidate : candidates) {
+            String image = candidate.image();
+            int i = 1;
+            while (i < length && image.charAt(i) == text[start + i]) {
+                i++;
+            }
+            if (i == length) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Builds the keyword table.
+     * 
+     * @return the keyword table.
+     */
+
+    private static TokenKind[][][] keywordTable() {
+        int maxLength = 0;
+        for (TokenKind keyword : KEYWORDS) {
+            maxLength = Math.max(maxLength, keyword.image().length());
+        }
+        TokenKind[][][] table = new TokenKind[maxLength + 1][26][];
+        for (TokenKind keyword : KEYWORDS) {
+            String image = keyword.image();
+            TokenKind[] candidates = table[image.length()][image.charAt(0)
+                    - 'a'];
+            if (candidates == null) {
+                candidates = new TokenKind[] { keyword };
+            } else {
+                candidates = Arrays.copyOf(candidates, candidates.length + 1);
+                candidates[candidates.length - 1] = keyword;
             }
+            table[image.length()][image.charAt(0) - 'a'] = candidates;
         }
+        return table;
     }
 
     /**
@@ -493,9 +593,7 @@ class Scanner {
 
     private void reportScannerError(String message, Object... args) {
         isInError = true;
-        System.err.printf("%s:%d: ", fileName, line);
-        System.err.printf(message, args);
-        System.err.println();
+        JMinusMinusCompiler.report(fileName, line, message, args);
     }
 
     /**
@@ -574,6 +672,10 @@ class Scanner {
  * A buffered character reader. Abstracts out differences between platforms,
  * mapping all new lines to '\n'. Also, keeps track of line numbers where the
  * first line is numbered 1.
+ * <p>
+ * The whole input is decoded into a character array up front (a file is
+ * memory-mapped if it is large), so reading a character is an array access
+ * rather than a call through layers of synchronized readers.
  */
 
 class CharReader {
@@ -581,8 +683,23 @@ class CharReader {
     /** A representation of the end of file as a character. */
     public final static char EOFCH = (char) -1;
 
-    /** The underlying reader records line numbers. */
-    private LineNumberReader lineNumberReader;
+    /** Size (in bytes) from which files are memory-mapped, not read. */
+    private final static long MAP_THRESHOLD = 1 << 16;
+
+    /** The input characters. */
+    private char[] buffer;
+
+    /** Number of input characters in the buffer. */
+    private int length;
+
+    /** Index of the next character in the buffer. */
+    private int position;
+
+    /** The current line number. */
+    private int line;
+
+    /** Error found reading the input, thrown once the buffer is read. */
+    private IOException error;
 
     /** Name of the file that is being read. */
     private String fileName;
@@ -597,8 +714,67 @@ class CharReader {
      */
 
     public CharReader(String fileName) throws FileNotFoundException {
-        lineNumberReader = new LineNumberReader(new FileReader(fileName));
         this.fileName = fileName;
+        line = 1;
+        FileInputStream in = new FileInputStream(fileName);
+        try {
+            FileChannel channel = in.getChannel();
+            long size = channel.size();
+            ByteBuffer bytes;
+            if (size >= MAP_THRESHOLD) {
+                bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                bytes = ByteBuffer.allocate((int) size);
+                while (bytes.hasRemaining()) {
+                    if (channel.read(bytes) < 0) {
+                        break;
+                    }
+                }
+                bytes.flip();
+            }
+
+            // Decode as FileReader does, with the default charset
+            CharBuffer chars = Charset.defaultCharset().decode(bytes);
+            buffer = chars.array();
+            length = chars.limit();
+        } catch (IOException e) {
+            buffer = new char[0];
+            error = e;
+        } finally {
+            try {
+                in.close();
+            } catch (IOException e) {
+                // The input has been read
+            }
+        }
+    }
+
+    /**
+     * Constructs a CharReader reading from the specified reader.
+     * 
+     * @param fileName
+     *            the name of the input (for error messages).
+     * @param reader
+     *            the input.
+     */
+
+    public CharReader(String fileName, Reader reader) {
+        this.fileName = fileName;
+        line = 1;
+        buffer = new char[8192];
+        try {
+            int n;
+            while ((n = reader.read(buffer, length, buffer.length
+                    - length)) >= 0) {
+                length += n;
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, 2 * buffer.length);
+                }
+            }
+            reader.close();
+        } catch (IOException e) {
+            error = e;
+        }
     }
 
     /**
@@ -610,7 +786,33 @@ class CharReader {
      */
 
     public char nextChar() throws IOException {
-        return (char) lineNumberReader.read();
+        if (position < length) {
+            char c = buffer[position++];
+            if (c == '\r') {
+                // Map "\r\n" and "\r" to '\n'
+                if (position < length && buffer[position] == '\n') {
+                    position++;
+                }
+                c = '\n';
+            }
+            if (c == '\n') {
+                line++;
+            }
+            return c;
+        }
+        if (error != null) {
+            IOException e = error;
+            error = null;
+            throw e;
+        }
+        if (position == length && length > 0 && buffer[length - 1] != '\n'
+                && buffer[length - 1] != '\r') {
+            // As LineNumberReader does, end of file ends an unterminated
+            // last line
+            position++;
+            line++;
+        }
+        return EOFCH;
     }
 
     /**
@@ -620,8 +822,29 @@ class CharReader {
      */
 
     public int line() {
-        // LineNumberReader counts lines from 0.
-        return lineNumberReader.getLineNumber() + 1;
+        return line;
+    }
+
+    /**
+     * Returns the input characters. The characters the scanner sees (other
+     * than new lines) are in it as they were read, so tokens can be taken
+     * from it directly.
+     * 
+     * @return the input characters.
+     */
+
+    public char[] text() {
+        return buffer;
+    }
+
+    /**
+     * Returns the index (in {@code text()}) of the character last scanned.
+     * 
+     * @return the index of the character.
+     */
+
+    public int offset() {
+        return position - 1;
     }
 
     /**
@@ -635,14 +858,124 @@ class CharReader {
     }
 
     /**
-     * Closes the file.
+     * Closes the file, releasing the input characters.
      * 
      * @exception IOException
      *                if an I/O error occurs.
      */
 
     public void close() throws IOException {
-        lineNumberReader.close();
+        buffer = new char[0];
+        length = 0;
+        position = 0;
+    }
+
+}
+
+/**
+ * A table of the identifiers a scanner has scanned, so that each identifier is
+ * made a string once, and repeated identifiers share that string. Identifiers
+ * are looked up by the characters that spell them in the input.
+ */
+
+class IdentifierTable {
+
+    /** The identifiers (an open addressing hash table). */
+    private String[] table;
+
+    /** Number of identifiers in the table. */
+    private int size;
+
+    /**
+     * Constructs an empty identifier table.
+     */
+
+    public IdentifierTable() {
+        table = new String[256];
+        size = 0;
+    }
+
+    /**
+     * Returns the identifier the specified characters spell, adding it to the
+     * table if it is new.
+     * 
+     * @param text
+     *            the input.
+     * @param start
+     *            index of the first character.
+     * @param length
+     *            number of characters.
+     * @return the identifier.
+     */
+
+    public String intern(char[] text, int start, int length) {
+        // The same hash as String.hashCode(), which strings cache
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + text[start + i];
+        }
+        int mask = table.length - 1;
+        for (int i = hash & mask;; i = (i + 1) & mask) {
+            String identifier = table[i];
+            if (identifier == null) {
+                identifier = new String(text, start, length);
+                table[i] = identifier;
+                if (2 * ++size > table.length) {
+                    grow();
+                }
+                return identifier;
+            }
+            if (identifier.hashCode() == hash
+                    && spells(identifier, text, start, length)) {
+                return identifier;
+            }
+        }
+    }
+
+    /**
+     * Do the specified characters spell the specified identifier?
+     * 
+     * @param identifier
+     *            the identifier.
+     * @param text
+     *            the input.
+     * @param start
+     *            index of the first character.
+     * @param length
+     *            number of characters.
+     * @return {@code true} if they do; {@code false} otherwise.
+     */
+
+    private static boolean spells(String identifier, char[] text, int start,
+            int length) {
+        if (identifier.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (identifier.charAt(i) != text[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Doubles the size of the table.
+     */
+
+    private void grow() {
+        String[] old = table;
+        table = new String[2 * old.length];
+        int mask = table.length - 1;
+        for (String identifier : old) {
+            if (identifier != null) {
+                int i = identifier.hashCode() & mask;
+                while (table[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = identifier;
+            }
+        }
     }
 
 }
@@ -0,0 +1,237 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Statistics (wall time, CPU time, and allocated bytes) for the phases of the
+ * compiler, gathered when the compiler is run with {@code -stats}. A phase is
+ * timed by bracketing its work with {@code start()} and {@code stop()}; a
+ * phase may be started and stopped any number of times (for example, once per
+ * method), the statistics adding up. Work that {@link Util#map} farms out to
+ * other threads is added to the phase running when it is done.
+ * <p>
+ * The statistics are reported to STDERR, one JSON object per phase and line,
+ * for example,
+ * <pre>
+ *   {"phase":"analyze","count":1,"wallTimeNanos":5290867,
+ *    "cpuTimeNanos":5037220,"allocatedBytes":2417640}
+ * </pre>
+ * CPU time or allocated bytes are -1 if the JVM cannot measure them.
+ */
+
+class Stats {
+
+    /** Whether statistics are being gathered. */
+    private static volatile boolean enabled = false;
+
+    /** The phases, by name, in the order in which they were first started. */
+    private static LinkedHashMap<String, Stats> phases =
+        new LinkedHashMap<String, Stats>();
+
+    /** For measuring the CPU time and allocation of threads. */
+    private static ThreadMXBean threadBean = ManagementFactory
+            .getThreadMXBean();
+
+    /** CPU time used by other threads on behalf of the running phase. */
+    private static AtomicLong workerCpuTime = new AtomicLong();
+
+    /** Bytes allocated by other threads on behalf of the running phase. */
+    private static AtomicLong workerAllocatedBytes = new AtomicLong();
+
+    /** Name of the phase. */
+    private String phase;
+
+    /** Number of times the phase was run. */
+    private int count;
+
+    /** Total wall time of the phase, in nanoseconds. */
+    private long wallTime;
+
+    /** Total CPU time of the phase, in nanoseconds. */
+    private long cpuTime;
+
+    /** Total bytes allocated by the phase. */
+    private long allocatedBytes;
+
+    /** Wall time when the phase was last started. */
+    private long startWallTime;
+
+    /** CPU time when the phase was last started. */
+    private long startCpuTime;
+
+    /** Allocated bytes when the phase was last started. */
+    private long startAllocatedBytes;
+
+    /**
+     * Constructs the statistics for a phase.
+     *
+     * @param phase
+     *            name of the phase.
+     */
+
+    private Stats(String phase) {
+        this.phase = phase;
+    }
+
+    /**
+     * Starts (or resumes) gathering statistics; forgets any statistics
+     * gathered earlier.
+     */
+
+    public static synchronized void enable() {
+        phases.clear();
+        enabled = true;
+    }
+
+    /**
+     * Are statistics being gathered?
+     *
+     * @return {@code true} if they are; {@code false} otherwise.
+     */
+
+    public static boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the statistics for the phase with the specified name.
+     *
+     * @param phase
+     *            name of the phase.
+     * @return the statistics for the phase.
+     */
+
+    public static synchronized Stats phase(String phase) {
+        Stats stats = phases.get(phase);
+        if (stats == null) {
+            stats = new Stats(phase);
+            if (enabled) {
+                phases.put(phase, stats);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Reports the statistics gathered for all the phases to STDERR, and stops
+     * gathering statistics. Does nothing if statistics are not being
+     * gathered.
+     */
+
+    public static synchronized void report() {
+        if (!enabled) {
+            return;
+        }
+        for (Stats stats : phases.values()) {
+            System.err.printf("{\"phase\":\"%s\",\"count\":%d,"
+                    + "\"wallTimeNanos\":%d,\"cpuTimeNanos\":%d,"
+                    + "\"allocatedBytes\":%d}\n", stats.phase, stats.count,
+                    stats.wallTime, 
+                    threadBean.isCurrentThreadCpuTimeSupported() ? 
+                    stats.cpuTime : -1,
+                    allocatedBytesSupported() ? stats.allocatedBytes : -1);
+        }
+        phases.clear();
+        enabled = false;
+    }
+
+    /**
+     * Starts the phase (in this thread).
+     */
+
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        startWallTime = System.nanoTime();
+        startCpuTime = cpuTime() + workerCpuTime.get();
+        startAllocatedBytes = allocatedBytes() + workerAllocatedBytes.get();
+    }
+
+    /**
+     * Stops the phase (in the thread that started it), adding the time and
+     * allocation since it was started to its statistics.
+     */
+
+    public void stop() {
+        if (!enabled) {
+            return;
+        }
+        count++;
+        wallTime += System.nanoTime() - startWallTime;
+        cpuTime += cpuTime() + workerCpuTime.get() - startCpuTime;
+        allocatedBytes += allocatedBytes() + workerAllocatedBytes.get()
+                - startAllocatedBytes;
+    }
+
+    /**
+     * Applies the specified function to the specified item in this (worker)
+     * thread on behalf of the running phase, adding the function's CPU time
+     * and allocation to that phase.
+     *
+     * @param function
+     *            the function.
+     * @param item
+     *            the item.
+     * @return the result of the function.
+     */
+
+    public static <T, R> R applyForPhase(Function<T, R> function, T item) {
+        if (!enabled) {
+            return function.apply(item);
+        }
+        long cpuTime = cpuTime();
+        long allocatedBytes = allocatedBytes();
+        try {
+            return function.apply(item);
+        } finally {
+            workerCpuTime.addAndGet(cpuTime() - cpuTime);
+            workerAllocatedBytes.addAndGet(allocatedBytes() - allocatedBytes);
+        }
+    }
+
+    /**
+     * Returns the CPU time of this thread, in nanoseconds, or 0 if it cannot
+     * be measured.
+     *
+     * @return the CPU time.
+     */
+
+    private static long cpuTime() {
+        return threadBean.isCurrentThreadCpuTimeSupported() ? threadBean
+                .getCurrentThreadCpuTime() : 0;
+    }
+
+    /**
+     * Can the bytes allocated by a thread be measured?
+     *
+     * @return {@code true} if they can; {@code false} otherwise.
+     */
+
+    private static boolean allocatedBytesSupported() {
+        return threadBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadBean)
+                        .isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Returns the bytes allocated by this thread, or 0 if they cannot be
+     * measured.
+     *
+     * @return the allocated bytes.
+     */
+
+    private static long allocatedBytes() {
+        return allocatedBytesSupported() ? 
+            ((com.sun.management.ThreadMXBean) threadBean)
+                .getThreadAllocatedBytes(Thread.currentThread().getId()) : 0;
+    }
+
+}
@@ -0,0 +1,142 @@
+// Copyright 2013 Bill Campbell, Swami Iyer and Bahar Akbal-Delibas
+
+package jminusminus;
+
+import java.util.Arrays;
+
+/**
+ * A compact, growable buffer of scanned tokens, which are referred to by their
+ * index in the buffer. Tokens are not objects: their kinds, semantic texts,
+ * and lines are kept in parallel arrays. The semantic text of a token is only
+ * kept for tokens (identifiers and literals) that have one, and is shared with
+ * the scanner (identifiers are interned), so the buffer costs a few words per
+ * token. Tokens no longer needed can be discarded, so that the buffer holds a
+ * window of the token stream rather than all of it.
+ */
+
+class TokenBuffer {
+
+    /** Kinds of the tokens. */
+    private TokenKind[] kinds;
+
+    /** Semantic texts of the tokens (null for a kind's own image). */
+    private String[] images;
+
+    /** Lines of the tokens. */
+    private int[] lines;
+
+    /** Number of tokens in the buffer. */
+    private int size;
+
+    /**
+     * Constructs an empty token buffer.
+     */
+
+    public TokenBuffer() {
+        kinds = new TokenKind[256];
+        images = new String[256];
+        lines = new int[256];
+        size = 0;
+    }
+
+    /**
+     * Adds a token to the end of the buffer.
+     *
+     * @param kind
+     *            the token's kind.
+     * @param image
+     *            the token's semantic text, or null if it is simply its
+     *            kind's image.
+     * @param line
+     *            the line in which the token occurs.
+     */
+
+    public void add(TokenKind kind, String image, int line) {
+        if (size == kinds.length) {
+            kinds = Arrays.copyOf(kinds, 2 * size);
+            images = Arrays.copyOf(images, 2 * size);
+            lines = Arrays.copyOf(lines, 2 * size);
+        }
+        kinds[size] = kind;
+        images[size] = image;
+        lines[size] = line;
+        size++;
+    }
+
+    /**
+     * Discards the specified number of tokens from the start of the buffer;
+     * the remaining tokens move down by as many positions.
+     *
+     * @param n
+     *            number of tokens to discard.
+     */
+
+    public void discard(int n) {
+        int remaining = size - n;
+        System.arraycopy(kinds, n, kinds, 0, remaining);
+        System.arraycopy(images, n, images, 0, remaining);
+        System.arraycopy(lines, n, lines, 0, remaining);
+        Arrays.fill(images, remaining, size, null);
+        size = remaining;
+    }
+
+    /**
+     * Returns the number of tokens in the buffer.
+     *
+     * @return the number of tokens.
+     */
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the kind of the specified token.
+     *
+     * @param i
+     *            index of the token.
+     * @return the token's kind.
+     */
+
+    public TokenKind kind(int i) {
+        return kinds[i];
+    }
+
+    /**
+     * Returns the semantic text of the specified token; for tokens without a
+     * semantic text, this is simply the kind's image.
+     *
+     * @param i
+     *            index of the token.
+     * @return the token's semantic text.
+     */
+
+    public String image(int i) {
+        return images[i] == null ? kinds[i].toString() : images[i];
+    }
+
+    /**
+     * Returns the line of the specified token.
+     *
+     * @param i
+     *            index of the token.
+     * @return the token's line.
+     */
+
+    public int line(int i) {
+        return lines[i];
+    }
+
+    /**
+     * Returns the specified token as a {@code TokenInfo}.
+     *
+     * @param i
+     *            index of the token.
+     * @return the token.
+     */
+
+    public TokenInfo token(int i) {
+        return new TokenInfo(kind(i), image(i), line(i));
+    }
+
+}
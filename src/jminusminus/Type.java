@@ -8,7 +8,9 @@ import java.lang.reflect.Modifier;
 
 import java.util.Arrays;
 import java.util.ArrayList;
-import java.util.Hashtable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -32,8 +34,31 @@ class Type {
     /** The Type's internal (Java) representation. * */
     private Class<?> classRep;
 
-    /** Maps type names to their Type representations. */
-    private static Hashtable<String, Type> types = new Hashtable<String, Type>();
+    /**
+     * Index of the members of classRep, built on first use, and again if
+     * classRep is replaced.
+     */
+    private volatile MemberIndex members;
+
+    /**
+     * The supertypes of classRep, computed on first use, and again if
+     * classRep is replaced.
+     */
+    private volatile Supertypes supertypes;
+
+    /**
+     * Maps type names (descriptors) to their Type representations; all the
+     * classes with a name, partial or not, are represented by one Type.
+     */
+    private static ConcurrentHashMap<String, Type> types =
+        new ConcurrentHashMap<String, Type>();
+
+    /**
+     * Maps classes to their Type representations, so that a class is mapped
+     * without building its descriptor once it has been seen.
+     */
+    private static ConcurrentHashMap<Class<?>, Type> classTypes =
+        new ConcurrentHashMap<Class<?>, Type>();
 
     /** The primitive type, int. */
     public final static Type INT = typeFor(int.class);
@@ -105,10 +130,70 @@ class Type {
      */
 
     public static Type typeFor(Class<?> classRep) {
-        if (types.get(descriptorFor(classRep)) == null) {
-            types.put(descriptorFor(classRep), new Type(classRep));
+        Type type = classTypes.get(classRep);
+        if (type == null) {
+            // Atomic, so that threads analyzing units in parallel agree on
+            // the one Type
+            type = types.computeIfAbsent(descriptorFor(classRep),
+                    descriptor -> new Type(classRep));
+            classTypes.putIfAbsent(classRep, type);
+        }
+        return type;
+    }
+
+    /**
+     * Returns the Type for the class with the specified (fully qualified)
+     * name, as found on the class path. The class is loaded, but not
+     * initialized: compiling against a library class must not run its static
+     * initializers in the compiler.
+     * 
+     * @param name
+     *            the class name, for example, java.util.ArrayList.
+     * @return the Type, or {@code null} if there is no such class.
+     */
+
+    public static Type typeForName(String name) {
+        try {
+            return typeFor(Class.forName(name, false, Type.class
+                    .getClassLoader()));
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (LinkageError e) {
+            // For example, a name differing from the class's only in case,
+            // on a case-insensitive file system
+            return null;
+        }
+    }
+
+    /**
+     * Removes from the table of types those types whose class representations
+     * were loaded from compiled (partial) classes, keeping the library types
+     * resolved through the class path. This lets a long-running compiler (see
+     * {@code CompileServer}) reuse the library types from one compilation to
+     * the next, without holding on to stale user types.
+     */
+
+    public static void removeCompiledTypes() {
+        types.values().removeIf(type -> isCompiled(type.classRep));
+        classTypes.entrySet().removeIf(entry -> isCompiled(entry.getKey())
+                || isCompiled(entry.getValue().classRep));
+    }
+
+    /**
+     * Was the specified class (or, for an array class, its base class)
+     * loaded from a compiled (partial) class?
+     * 
+     * @param classRep
+     *            the class.
+     * @return {@code true} iff the class was compiled; {@code false}
+     *         otherwise.
+     */
+
+    private static boolean isCompiled(Class<?> classRep) {
+        while (classRep.isArray()) {
+            classRep = classRep.getComponentType();
         }
-        return types.get(descriptorFor(classRep));
+        return classRep.getClassLoader() instanceof ByteClassLoader;
     }
 
     /**
@@ -168,40 +253,35 @@ class Type {
      */
 
     public boolean isSubType(Type superClass) {
+        recordUse();
         if (classRep == null) {
             System.out.println("Error: no class rep");
         }
-        if (this == Type.ANY || this.equals(superClass) || classRep.getSuperclass() == superClass.classRep){
+        if (this == Type.ANY || this == superClass || classRep.getSuperclass() == superClass.classRep){
             return true;
         }
-        return computeClassHierarchy(superClass.classRep, this.classRep, new ArrayList<Class<?>>());
+        // Types are equal by name, so compare names only when the
+        // class representations are not related
+        return supertypes().contains(superClass.classRep) || this.equals(superClass);
     }
 
-    private static boolean computeClassHierarchy(Class<?> target, Class<?> currentLevel, ArrayList<Class<?>> explored) {
-        boolean isTarget = false;
-        for (Class current = currentLevel; current != null; current = current.getSuperclass()) {
-            if(explored.contains(current)) {
-                return false;
-            }
-
-            if(current.equals(target)){
-                return true;
-            }
-
-            for (Class currentInterface : current.getInterfaces()) {
-                if (computeClassHierarchy(target, currentInterface, explored)) {
-                    isTarget = true;
-                    break;
-                }
-                explored.add(currentInterface);
-            }
+    /**
+     * Returns the supertypes of this type, computing them if they have not
+     * been yet, or if its class representation was replaced (by
+     * {@code setClassRep}) since they were.
+     * 
+     * @return the supertypes.
+     */
 
-            if (isTarget) {
-                return true;
-            }
+    private Supertypes supertypes() {
+        Class<?> classRep = this.classRep;
+        Supertypes supertypes = this.supertypes;
+        if (supertypes == null || supertypes.classRep() != classRep) {
+            // Threads racing here compute equal sets; either will do
+            supertypes = new Supertypes(classRep);
+            this.supertypes = supertypes;
         }
-
-        return false;
+        return supertypes;
     }
 
 
@@ -298,6 +378,8 @@ class Type {
      */
 
     public boolean isJavaAssignableFrom(Type that) {
+        recordUse();
+        that.recordUse();
         return this.classRep.isAssignableFrom(that.classRep);
     }
 
@@ -314,6 +396,7 @@ class Type {
      */
 
     public ArrayList<Method> abstractMethods() {
+        recordUse();
         ArrayList<Method> inheritedAbstractMethods = new ArrayList<>();
         if(superClass() != null) {
             inheritedAbstractMethods.addAll(superClass().abstractMethods());
@@ -386,7 +469,7 @@ class Type {
                 return;
             }
         }
-        JAST.compilationUnit.reportSemanticError(line,
+        JAST.compilationUnit().reportSemanticError(line,
                 "Type %s doesn't match any of the expected types %s", this,
                 Arrays.toString(expectedTypes));
     }
@@ -403,7 +486,7 @@ class Type {
 
     public void mustMatchExpected(int line, Type expectedType) {
         if (!matchesExpected(expectedType)) {
-            JAST.compilationUnit.reportSemanticError(line,
+            JAST.compilationUnit().reportSemanticError(line,
                     "Type %s doesn't match type %s", this, expectedType);
         }
     }
@@ -441,7 +524,8 @@ class Type {
             return false;
         }
         for (int i = 0; i < argTypes1.length; i++) {
-            if (!Type.descriptorFor(argTypes1[i]).equals(
+            if (argTypes1[i] != argTypes2[i]
+                    && !Type.descriptorFor(argTypes1[i]).equals(
                     Type.descriptorFor(argTypes2[i]))) {
                 return false;
             }
@@ -471,7 +555,8 @@ class Type {
             if(argTypes1[i] == Type.ANY) {
                 continue;
             }
-            if (!Type.descriptorFor(argTypes1[i].classRep).equals(
+            if (argTypes1[i].classRep != argTypes2[i]
+                    && !Type.descriptorFor(argTypes1[i].classRep).equals(
                     Type.descriptorFor(argTypes2[i]))) {
                 return false;
             }
@@ -526,7 +611,7 @@ class Type {
      * @return the JVM descriptor.
      */
 
-    private static String descriptorFor(Class<?> cls) {
+    static String descriptorFor(Class<?> cls) {
         return cls == null ? "V" : cls == void.class ? "V"
                 : cls.isArray() ? "[" + descriptorFor(cls.getComponentType())
                         : cls.isPrimitive() ? (cls == int.class ? "I"
@@ -603,25 +688,9 @@ class Type {
      */
 
     public Method methodFor(String name, Type[] argTypes) {
-        /*
-        Class[] classes = new Class[argTypes.length];
-        for (int i = 0; i < argTypes.length; i++) {
-            classes[i] = argTypes[i].classRep;
-        }*/
-        Class cls = classRep;
-        // Search this class and all superclasses
-        while (cls != null) {
-            java.lang.reflect.Method[] methods = cls.getDeclaredMethods();
-            for (java.lang.reflect.Method method : methods) {
-                if (method.getName().equals(name)
-                        && Type.argTypesMatch(argTypes, method
-                                .getParameterTypes())) {
-                    return new Method(method);
-                }
-            }
-            cls = cls.getSuperclass();
-        }
-        return null;
+        recordUse();
+        MemberIndex members = members();
+        return members == null ? null : members.methodFor(name, argTypes);
     }
 
     /**
@@ -636,20 +705,9 @@ class Type {
      */
 
     public Constructor constructorFor(Type[] argTypes) {
-        Class[] classes = new Class[argTypes.length];
-        for (int i = 0; i < argTypes.length; i++) {
-            classes[i] = argTypes[i].classRep;
-        }
-
-        // Search only this class (we don't inherit constructors)
-        java.lang.reflect.Constructor[] constructors = classRep
-                .getDeclaredConstructors();
-        for (java.lang.reflect.Constructor constructor : constructors) {
-            if (argTypesMatch(classes, constructor.getParameterTypes())) {
-                return new Constructor(constructor);
-            }
-        }
-        return null;
+        recordUse();
+        MemberIndex members = members();
+        return members == null ? null : members.constructorFor(argTypes);
     }
 
     /**
@@ -661,17 +719,51 @@ class Type {
      */
 
     public Field fieldFor(String name) {
-        Class<?> cls = classRep;
-        while (cls != null) {
-            java.lang.reflect.Field[] fields = cls.getDeclaredFields();
-            for (java.lang.reflect.Field field : fields) {
-                if (field.getName().equals(name)) {
-                    return new Field(field);
-                }
-            }
-            cls = cls.getSuperclass();
+        recordUse();
+        MemberIndex members = members();
+        return members == null ? null : members.fieldFor(name);
+    }
+
+    /**
+     * Returns the index of the members of this type, building it if this type
+     * has none yet, or if its class representation was replaced (by
+     * {@code setClassRep}) since it was built.
+     * 
+     * @return the index, or {@code null} if this type has no class
+     *         representation.
+     */
+
+    private MemberIndex members() {
+        Class<?> classRep = this.classRep;
+        MemberIndex members = this.members;
+        if (classRep != null
+                && (members == null || members.classRep() != classRep)) {
+            // Threads racing here build equal indices; either will do
+            members = new MemberIndex(classRep);
+            this.members = members;
+        }
+        return classRep == null ? null : members;
+    }
+
+    /**
+     * Records, in the current compilation unit, that the unit uses the member
+     * signatures of this type, if this type is compiled rather than loaded
+     * from the class path. This is how the units' dependencies are found for
+     * incremental compilation.
+     */
+
+    protected void recordUse() {
+        JCompilationUnit unit = JAST.compilationUnit();
+        if (unit == null || classRep == null) {
+            return;
+        }
+        Class<?> baseRep = classRep;
+        while (baseRep.isArray()) {
+            baseRep = baseRep.getComponentType();
+        }
+        if (baseRep.getClassLoader() instanceof ByteClassLoader) {
+            unit.addDependency(typeFor(baseRep));
         }
-        return null;
     }
 
     /**
@@ -730,7 +822,7 @@ class Type {
                             .isJavaAssignableFrom(this)) {
                 return true;
             } else {
-                JAST.compilationUnit.reportSemanticError(line,
+                JAST.compilationUnit().reportSemanticError(line,
                         "The protected member, " + member.name()
                                 + ", is not accessible.");
                 return false;
@@ -741,7 +833,7 @@ class Type {
                     descriptorFor(member.member().getDeclaringClass()))) {
                 return true;
             } else {
-                JAST.compilationUnit.reportSemanticError(line,
+                JAST.compilationUnit().reportSemanticError(line,
                         "The private member, " + member.name()
                                 + ", is not accessible.");
                 return false;
@@ -752,7 +844,7 @@ class Type {
         if (packageName().equals(member.declaringType().packageName())) {
             return true;
         } else {
-            JAST.compilationUnit.reportSemanticError(line, "The member, "
+            JAST.compilationUnit().reportSemanticError(line, "The member, "
                     + member.name()
                     + ", is not accessible because it's in a different "
                     + "package.");
@@ -801,7 +893,7 @@ class Type {
                         : p2.getName()))) {
             return true;
         } else {
-            JAST.compilationUnit.reportSemanticError(line, "The type, "
+            JAST.compilationUnit().reportSemanticError(line, "The type, "
                     + type.getCanonicalName() + ", is not accessible from "
                     + referencingType.getCanonicalName());
             return false;
@@ -942,19 +1034,20 @@ class TypeName extends Type {
         Type resolvedType = context.lookupType(name);
         if (resolvedType == null) {
             // Try loading a type with the give fullname
-            try {
-                resolvedType = typeFor(Class.forName(name));
+            resolvedType = typeForName(name);
+            if (resolvedType != null) {
                 context.addType(line, resolvedType);
                 // context.compilationUnitContext().addEntry(line,
                 // resolvedType.toString(),
                 // new TypeNameDefn(resolvedType));
-            } catch (Exception e) {
-                JAST.compilationUnit.reportSemanticError(line,
+            } else {
+                JAST.compilationUnit().reportSemanticError(line,
                         "Unable to locate a type named %s", name);
                 resolvedType = Type.ANY;
             }
         }
         if (resolvedType != Type.ANY) {
+            resolvedType.recordUse();
             Type referencingType = ((JTypeDecl) (context.classContext
                     .definition())).thisType();
             Type.checkAccess(line, referencingType.classRep(), resolvedType
@@ -1036,3 +1129,233 @@ class ArrayTypeName extends Type {
     }
 
 }
+
+/**
+ * The supertypes of a class: the class itself, and the classes and interfaces
+ * it extends or implements, directly or not. The set is computed once per
+ * class, so that a subtype test is one lookup in it rather than a search of
+ * the class hierarchy through reflection. Since it is the set of a class
+ * representation, it is computed anew when a type's (partial) class
+ * representation is replaced.
+ */
+
+class Supertypes {
+
+    /** The class. */
+    private Class<?> classRep;
+
+    /** The supertypes of the class. */
+    private HashSet<Class<?>> supertypes;
+
+    /**
+     * Computes the supertypes of the specified class.
+     * 
+     * @param classRep
+     *            the class.
+     */
+
+    public Supertypes(Class<?> classRep) {
+        this.classRep = classRep;
+        supertypes = new HashSet<Class<?>>();
+        add(classRep);
+    }
+
+    /**
+     * Returns the class whose supertypes these are.
+     * 
+     * @return the class.
+     */
+
+    public Class<?> classRep() {
+        return classRep;
+    }
+
+    /**
+     * Is the specified class one of the supertypes?
+     * 
+     * @param cls
+     *            the class.
+     * @return {@code true} iff the class is a supertype; {@code false}
+     *         otherwise.
+     */
+
+    public boolean contains(Class<?> cls) {
+        return supertypes.contains(cls);
+    }
+
+    /**
+     * Adds the specified class and its supertypes to the set, unless it is
+     * there already.
+     * 
+     * @param cls
+     *            the class.
+     */
+
+    private void add(Class<?> cls) {
+        for (; cls != null && supertypes.add(cls); cls = cls.getSuperclass()) {
+            for (Class<?> superInterface : cls.getInterfaces()) {
+                add(superInterface);
+            }
+        }
+    }
+
+}
+
+/**
+ * An index of the members of a class, including those it inherits, so that
+ * member references are resolved without searching the class hierarchy
+ * through reflection each time. Methods are indexed by name, each name mapping
+ * to its overloads in the order they are searched: the class's own first, then
+ * its superclass's, and so on. The resolutions of method and constructor
+ * references are cached by name and argument types.
+ */
+
+class MemberIndex {
+
+    /** The class indexed. */
+    private Class<?> classRep;
+
+    /** The methods of the class, by name, in search order. */
+    private HashMap<String, ArrayList<java.lang.reflect.Method>> methods;
+
+    /** The fields of the class, by name (those hidden are left out). */
+    private HashMap<String, Field> fields;
+
+    /** The constructors of the class. */
+    private java.lang.reflect.Constructor<?>[] constructors;
+
+    /** Methods found, by name and argument types. */
+    private ConcurrentHashMap<String, Method> resolvedMethods;
+
+    /** Constructors found, by argument types. */
+    private ConcurrentHashMap<String, Constructor> resolvedConstructors;
+
+    /**
+     * Constructs an index of the members of the specified class.
+     * 
+     * @param classRep
+     *            the class.
+     */
+
+    public MemberIndex(Class<?> classRep) {
+        this.classRep = classRep;
+        methods = new HashMap<String, ArrayList<java.lang.reflect.Method>>();
+        fields = new HashMap<String, Field>();
+        for (Class<?> cls = classRep; cls != null; cls = cls.getSuperclass()) {
+            for (java.lang.reflect.Method method : cls.getDeclaredMethods()) {
+                methods.computeIfAbsent(method.getName(),
+                        name -> new ArrayList<java.lang.reflect.Method>())
+                        .add(method);
+            }
+            for (java.lang.reflect.Field field : cls.getDeclaredFields()) {
+                fields.putIfAbsent(field.getName(), new Field(field));
+            }
+        }
+        constructors = classRep.getDeclaredConstructors();
+        resolvedMethods = new ConcurrentHashMap<String, Method>();
+        resolvedConstructors = new ConcurrentHashMap<String, Constructor>();
+    }
+
+    /**
+     * Returns the class indexed.
+     * 
+     * @return the class.
+     */
+
+    public Class<?> classRep() {
+        return classRep;
+    }
+
+    /**
+     * Finds the method with the specified name, whose parameter types match
+     * the specified argument types (see {@code Type.argTypesMatch}).
+     * 
+     * @param name
+     *            the method name.
+     * @param argTypes
+     *            the argument types.
+     * @return the method, or {@code null}.
+     */
+
+    public Method methodFor(String name, Type[] argTypes) {
+        String key = name + key(argTypes, true);
+        Method found = resolvedMethods.get(key);
+        if (found == null) {
+            ArrayList<java.lang.reflect.Method> overloads = methods.get(name);
+            if (overloads == null) {
+                return null;
+            }
+            for (java.lang.reflect.Method method : overloads) {
+                if (Type.argTypesMatch(argTypes, method.getParameterTypes())) {
+                    found = new Method(method);
+                    resolvedMethods.putIfAbsent(key, found);
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Finds the constructor whose parameter types match the specified
+     * argument types exactly.
+     * 
+     * @param argTypes
+     *            the argument types.
+     * @return the constructor, or {@code null}.
+     */
+
+    public Constructor constructorFor(Type[] argTypes) {
+        String key = key(argTypes, false);
+        Constructor found = resolvedConstructors.get(key);
+        if (found == null) {
+            Class<?>[] classes = new Class<?>[argTypes.length];
+            for (int i = 0; i < argTypes.length; i++) {
+                classes[i] = argTypes[i].classRep();
+            }
+            for (java.lang.reflect.Constructor<?> constructor : constructors) {
+                if (Type.argTypesMatch(classes, constructor
+                        .getParameterTypes())) {
+                    found = new Constructor(constructor);
+                    resolvedConstructors.putIfAbsent(key, found);
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Finds the field with the specified name.
+     * 
+     * @param name
+     *            the field name.
+     * @return the field, or {@code null}.
+     */
+
+    public Field fieldFor(String name) {
+        return fields.get(name);
+    }
+
+    /**
+     * Returns the cache key for the specified argument types: their
+     * parenthesized descriptors.
+     * 
+     * @param argTypes
+     *            the argument types.
+     * @param wildcard
+     *            whether {@code Type.ANY} matches any parameter type, and so
+     *            needs a key of its own.
+     * @return the key.
+     */
+
+    private static String key(Type[] argTypes, boolean wildcard) {
+        StringBuilder key = new StringBuilder("(");
+        for (Type argType : argTypes) {
+            key.append(wildcard && argType == Type.ANY ? "*" : Type
+                    .descriptorFor(argType.classRep()));
+        }
+        return key.append(")").toString();
+    }
+
+}
@@ -2,6 +2,23 @@
 
 package jminusminus;
 
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringTokenizer;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import java.util.function.Function;
+
 /**
  * This class defines helper functions.
  */
@@ -78,6 +95,136 @@ class Util {
         return b.toString();
     }
 
+    /**
+     * Escapes the characters in the specified string that {@code unescape}
+     * unescapes, and returns the escaped string.
+     * 
+     * @param s
+     *            string to escape.
+     * @return the escaped string.
+     */
+
+    public static String escape(String s) {
+        StringBuilder b = new StringBuilder();
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+            case '\b':
+                b.append("\\b");
+                break;
+            case '\t':
+                b.append("\\t");
+                break;
+            case '\n':
+                b.append("\\n");
+                break;
+            case '\f':
+                b.append("\\f");
+                break;
+            case '\r':
+                b.append("\\r");
+                break;
+            case '"':
+                b.append("\\\"");
+                break;
+            case '\'':
+                b.append("\\'");
+                break;
+            case '\\':
+                b.append("\\\\");
+                break;
+            default:
+                b.append(c);
+            }
+        }
+        return b.toString();
+    }
+
+    /**
+     * Expands the {@code @argfile} arguments among the specified command-line
+     * arguments into the (whitespace separated) arguments listed in those 
+     * files, and returns the expanded arguments.
+     * 
+     * @param args
+     *            the command-line arguments.
+     * @return the expanded arguments.
+     * @exception IOException
+     *                if an argument file cannot be read.
+     */
+
+    public static String[] expandArgumentFiles(String[] args)
+            throws IOException {
+        ArrayList<String> expanded = new ArrayList<String>();
+        for (String arg : args) {
+            if (arg.startsWith("@") && arg.length() > 1) {
+                String contents = new String(Files.readAllBytes(Paths
+                        .get(arg.substring(1))));
+                StringTokenizer tokens = new StringTokenizer(contents);
+                while (tokens.hasMoreTokens()) {
+                    expanded.add(tokens.nextToken());
+                }
+            } else {
+                expanded.add(arg);
+            }
+        }
+        return expanded.toArray(new String[expanded.size()]);
+    }
+
+    /**
+     * Applies the specified function to each of the specified items, using up
+     * to the given number of threads, and returns the results in the order of
+     * the items. A runtime exception (or error) thrown by the function is 
+     * rethrown in the calling thread.
+     * 
+     * @param items
+     *            the items.
+     * @param threads
+     *            maximum number of threads to use; 0 means one per available
+     *            processor.
+     * @param function
+     *            the function to apply.
+     * @return the results, in order.
+     */
+
+    public static <T, R> ArrayList<R> map(List<T> items, int threads,
+            Function<T, R> function) {
+        if (threads == 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        threads = Math.min(threads, items.size());
+        ArrayList<R> results = new ArrayList<R>(items.size());
+        if (threads <= 1) {
+            for (T item : items) {
+                results.add(function.apply(item));
+            }
+            return results;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            ArrayList<Callable<R>> tasks = new ArrayList<Callable<R>>();
+            for (T item : items) {
+                tasks.add(() -> Stats.applyForPhase(function, item));
+            }
+            for (Future<R> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        } finally {
+            executor.shutdown();
+        }
+        return results;
+    }
+
 }
 
 /**
@@ -0,0 +1,41 @@
+package junit;
+
+import junit.framework.TestCase;
+import pass.ConstantFolding;
+
+public class ConstantFoldingTest extends TestCase {
+    private ConstantFolding folding;
+
+    protected void setUp() throws Exception {
+        super.setUp();
+        folding = new ConstantFolding();
+    }
+
+    protected void tearDown() throws Exception {
+        super.tearDown();
+    }
+
+    public void testFolding() {
+        this.assertEquals(5, folding.arithmetic());
+        this.assertEquals(-2147483648, folding.overflow());
+        this.assertEquals(-4, folding.negativeDivision());
+        this.assertEquals(2 - 4 + 15 + 11 - 6, folding.bits());
+        this.assertEquals(4.5, folding.doubles());
+        this.assertEquals(Double.POSITIVE_INFINITY, folding.infinity());
+        this.assertEquals("a1ctrue2.5", folding.concatenation());
+        this.assertTrue(folding.comparisons());
+        this.assertFalse(folding.nan());
+        this.assertTrue(folding.strings());
+        this.assertEquals(43, folding.constants());
+        this.assertEquals("answer=42", ConstantFolding.GREETING);
+    }
+
+    public void testDivideByZero() {
+        try {
+            folding.divideByZero(1);
+            fail("Expected an ArithmeticException");
+        } catch (ArithmeticException e) {
+            // An int division by zero is not folded
+        }
+    }
+}
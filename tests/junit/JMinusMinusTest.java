@@ -3,7 +3,11 @@
 package junit;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import junit.framework.TestCase;
+import jminusminus.JMinusMinusCompiler;
 import jminusminus.Main;
 
 /**
@@ -52,6 +56,62 @@ public class JMinusMinusTest extends TestCase {
         assertFalse(errorHasOccurred);
     }
 
+    /**
+     * Run the j-- compiler against all the pass-test files under the folder
+     * specified by PASS_TESTS_DIR property in the build.xml file, compiling
+     * them together in a single invocation.
+     */
+
+    public void testPassBatch() {
+        File passTestsDir = new File(System.getProperty("PASS_TESTS_DIR"));
+        File genClassDir = new File(System.getProperty("GEN_CLASS_DIR"));
+        File[] files = passTestsDir.listFiles();
+        ArrayList<String> args = new ArrayList<String>();
+        args.add("-d");
+        args.add(genClassDir.getAbsolutePath());
+        for (int i = 0; files != null && i < files.length; i++) {
+            if (files[i].toString().endsWith(".java")) {
+                args.add(files[i].toString());
+            }
+        }
+        System.out.printf("Running j-- (with "
+                + "handwritten frontend) on %s ...\n\n", passTestsDir);
+        Main.main(args.toArray(new String[args.size()]));
+        System.out.printf("\n\n");
+
+        // We want all tests to pass
+        assertFalse(Main.errorHasOccurred());
+    }
+
+    /**
+     * Run the j-- compiler against all the pass-test files under the folder
+     * specified by PASS_TESTS_DIR property in the build.xml file, compiling
+     * them together on several threads.
+     */
+
+    public void testPassParallel() {
+        File passTestsDir = new File(System.getProperty("PASS_TESTS_DIR"));
+        File genClassDir = new File(System.getProperty("GEN_CLASS_DIR"));
+        File[] files = passTestsDir.listFiles();
+        ArrayList<String> args = new ArrayList<String>();
+        args.add("-j");
+        args.add("4");
+        args.add("-d");
+        args.add(genClassDir.getAbsolutePath());
+        for (int i = 0; files != null && i < files.length; i++) {
+            if (files[i].toString().endsWith(".java")) {
+                args.add(files[i].toString());
+            }
+        }
+        System.out.printf("Running j-- (with "
+                + "handwritten frontend, 4 threads) on %s ...\n\n", passTestsDir);
+        Main.main(args.toArray(new String[args.size()]));
+        System.out.printf("\n\n");
+
+        // We want all tests to pass
+        assertFalse(Main.errorHasOccurred());
+    }
+
     /**
      * Run the j-- compiler against each fail-test file under the folder
      * specified by FAIL_TESTS_DIR property in the build.xml file. FRONT_END
@@ -86,6 +146,91 @@ public class JMinusMinusTest extends TestCase {
         assertTrue(errorHasOccurred);
     }
 
+    /**
+     * Compile each pass-test file, and then each fail-test file, in memory
+     * using the JMinusMinusCompiler API.
+     */
+
+    public void testInMemory() throws IOException {
+        JMinusMinusCompiler compiler = new JMinusMinusCompiler();
+        File passTestsDir = new File(System.getProperty("PASS_TESTS_DIR"));
+        File[] files = passTestsDir.listFiles();
+        for (int i = 0; files != null && i < files.length; i++) {
+            if (files[i].toString().endsWith(".java")) {
+                JMinusMinusCompiler.Result result = 
+                    compiler.compile(files[i].toPath());
+                assertTrue(files[i] + ": " + result.diagnostics(), 
+                        result.succeeded());
+                assertFalse(result.classes().isEmpty());
+                for (byte[] bytes : result.classes().values()) {
+                    assertEquals((byte) 0xCA, bytes[0]);
+                    assertEquals((byte) 0xFE, bytes[1]);
+                }
+            }
+        }
+        JMinusMinusCompiler.Result result = compiler.compile(new File(
+                passTestsDir, "Factorial.java").toPath());
+        assertTrue(result.classes().containsKey("pass/Factorial"));
+
+        File failTestsDir = new File(System.getProperty("FAIL_TESTS_DIR"));
+        files = failTestsDir.listFiles();
+        for (int i = 0; files != null && i < files.length; i++) {
+            if (files[i].toString().endsWith(".java")) {
+                result = compiler.compile(files[i].toPath());
+                assertFalse(files[i].toString(), result.succeeded());
+                assertTrue(result.classes().isEmpty());
+                assertTrue(result.diagnostics().get(0).line() > 0);
+            }
+        }
+    }
+
+    /**
+     * Compile a pass-test file incrementally, again with the same options,
+     * and then with another target and with -O; the class files must be
+     * reused only while the options stay the same.
+     */
+
+    public void testIncrementalOptions() throws IOException {
+        File passTestsDir = new File(System.getProperty("PASS_TESTS_DIR"));
+        String sourceFile = new File(passTestsDir, "Factorial.java")
+                .toString();
+        File outputDir = Files.createTempDirectory("j--").toFile();
+        String dir = outputDir.getAbsolutePath();
+        File classFile = new File(outputDir, "pass/Factorial.class");
+
+        Main.main(new String[] { "-i", "-d", dir, sourceFile });
+        assertFalse(Main.errorHasOccurred());
+        assertEquals(52, majorVersion(classFile));
+
+        // Same options: the class file is reused
+        classFile.setLastModified(0);
+        Main.main(new String[] { "-i", "-d", dir, sourceFile });
+        assertFalse(Main.errorHasOccurred());
+        assertEquals(0, classFile.lastModified());
+
+        // Another target: the class file is generated again
+        Main.main(new String[] { "-i", "-target", "5", "-d", dir,
+                sourceFile });
+        assertFalse(Main.errorHasOccurred());
+        assertEquals(49, majorVersion(classFile));
+
+        // Optimized: the class file is generated again
+        classFile.setLastModified(0);
+        Main.main(new String[] { "-i", "-target", "5", "-O", "-d", dir,
+                sourceFile });
+        assertFalse(Main.errorHasOccurred());
+        assertTrue(classFile.lastModified() != 0);
+    }
+
+    /**
+     * Return the major version of the specified class file.
+     */
+
+    private static int majorVersion(File classFile) throws IOException {
+        byte[] bytes = Files.readAllBytes(classFile.toPath());
+        return ((bytes[6] & 0xff) << 8) | (bytes[7] & 0xff);
+    }
+
     /**
      * Entry point.
      * 
@@ -3,6 +3,7 @@
 package junit;
 
 import java.io.File;
+import java.util.ArrayList;
 import junit.framework.TestCase;
 import jminusminus.JavaCCMain;
 
@@ -52,6 +53,62 @@ public class JMinusMinusTestJavaCC extends TestCase {
         assertFalse(errorHasOccurred);
     }
 
+    /**
+     * Run the j-- compiler against all the pass-test files under the folder
+     * specified by PASS_TESTS_DIR property in the build.xml file, compiling
+     * them together in a single invocation.
+     */
+
+    public void testPassBatch() {
+        File passTestsDir = new File(System.getProperty("PASS_TESTS_DIR"));
+        File genClassDir = new File(System.getProperty("GEN_CLASS_DIR"));
+        File[] files = passTestsDir.listFiles();
+        ArrayList<String> args = new ArrayList<String>();
+        args.add("-d");
+        args.add(genClassDir.getAbsolutePath());
+        for (int i = 0; files != null && i < files.length; i++) {
+            if (files[i].toString().endsWith(".java")) {
+                args.add(files[i].toString());
+            }
+        }
+        System.out.printf("Running j-- (with "
+                + "javacc frontend) on %s ...\n\n", passTestsDir);
+        JavaCCMain.main(args.toArray(new String[args.size()]));
+        System.out.printf("\n\n");
+
+        // We want all tests to pass
+        assertFalse(JavaCCMain.errorHasOccurred());
+    }
+
+    /**
+     * Run the j-- compiler against all the pass-test files under the folder
+     * specified by PASS_TESTS_DIR property in the build.xml file, compiling
+     * them together on several threads.
+     */
+
+    public void testPassParallel() {
+        File passTestsDir = new File(System.getProperty("PASS_TESTS_DIR"));
+        File genClassDir = new File(System.getProperty("GEN_CLASS_DIR"));
+        File[] files = passTestsDir.listFiles();
+        ArrayList<String> args = new ArrayList<String>();
+        args.add("-j");
+        args.add("4");
+        args.add("-d");
+        args.add(genClassDir.getAbsolutePath());
+        for (int i = 0; files != null && i < files.length; i++) {
+            if (files[i].toString().endsWith(".java")) {
+                args.add(files[i].toString());
+            }
+        }
+        System.out.printf("Running j-- (with "
+                + "javacc frontend, 4 threads) on %s ...\n\n", passTestsDir);
+        JavaCCMain.main(args.toArray(new String[args.size()]));
+        System.out.printf("\n\n");
+
+        // We want all tests to pass
+        assertFalse(JavaCCMain.errorHasOccurred());
+    }
+
     /**
      * Run the j-- compiler against each fail-test file under the folder
      * specified by FAIL_TESTS_DIR property in the build.xml file.
@@ -52,6 +52,8 @@ public class JMinusMinusTestRunner {
 		suite.addTestSuite(PostIncrementTest.class);
 		suite.addTestSuite(XORassignTest.class);
 		suite.addTestSuite(ConstantsTest.class);
+		suite.addTestSuite(ConstantFoldingTest.class);
+		suite.addTestSuite(StackMapFramesTest.class);
 		suite.addTestSuite(DivisionAssignmentTest.class);
 		suite.addTestSuite(PreDecrementTest.class);
 		suite.addTestSuite(DivisionTest.class);
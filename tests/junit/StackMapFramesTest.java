@@ -0,0 +1,29 @@
+package junit;
+
+import junit.framework.TestCase;
+import pass.StackMapFrames;
+
+public class StackMapFramesTest extends TestCase {
+
+    protected void setUp() throws Exception {
+        super.setUp();
+    }
+
+    protected void tearDown() throws Exception {
+        super.tearDown();
+    }
+
+    public void testFrames() {
+        this.assertEquals(1, new StackMapFrames(true).value());
+        this.assertEquals(100, new StackMapFrames(false).value());
+        this.assertEquals(4, StackMapFrames.loop(1));
+        this.assertEquals(7, StackMapFrames.loop(7));
+        this.assertEquals("string", StackMapFrames.pick(true));
+        this.assertEquals(3, ((StackMapFrames) StackMapFrames.pick(false))
+                .value());
+        this.assertEquals(1024.0, StackMapFrames.powers(10));
+        this.assertEquals(1, StackMapFrames.caught(0));
+        this.assertEquals(2, StackMapFrames.caught(1));
+        this.assertEquals(7, StackMapFrames.rows(3));
+    }
+}
@@ -0,0 +1,54 @@
+package pass;
+
+public class ConstantFolding {
+    public static final int ANSWER = 6 * 7;
+    public static final String GREETING = "answer=" + ANSWER;
+
+    public int arithmetic() {
+        return 1 + 2 * 3 - 4 / 2 % 3;
+    }
+
+    public int overflow() {
+        return 2147483647 + 1;
+    }
+
+    public int negativeDivision() {
+        return -7 / 2 + -7 % 2;
+    }
+
+    public int bits() {
+        return (1 << 33) + (-16 >> 2) + (-16 >>> 28) + ((6 & 3) | (8 ^ 1)) + ~5;
+    }
+
+    public double doubles() {
+        return 1.5 * 2.0 + 7.5 % 2.0;
+    }
+
+    public double infinity() {
+        return 1.0 / 0.0;
+    }
+
+    public String concatenation() {
+        return "a" + 1 + 'c' + true + 2.5;
+    }
+
+    public boolean comparisons() {
+        return 3 < 4 && !(3.0 >= 4.0) && 1 == 1;
+    }
+
+    public boolean nan() {
+        return 0.0 / 0.0 == 0.0 / 0.0;
+    }
+
+    public boolean strings() {
+        return "ab" == "a" + "b";
+    }
+
+    public int constants() {
+        return ANSWER + 1;
+    }
+
+    public int divideByZero(int x) {
+        return x + 1 / 0;
+    }
+}
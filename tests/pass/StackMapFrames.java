@@ -0,0 +1,59 @@
+package pass;
+
+import java.lang.RuntimeException;
+
+public class StackMapFrames {
+    private int value;
+
+    public StackMapFrames(int value) {
+        this.value = value;
+    }
+
+    public StackMapFrames(boolean small) {
+        this(small ? 1 : 100);
+    }
+
+    public int value() {
+        return value;
+    }
+
+    public static int loop(int n) {
+        while (true) {
+            if (n > 3) {
+                return n;
+            }
+            n++;
+        }
+    }
+
+    public static Object pick(boolean b) {
+        Object o = b ? (Object) "string" : (Object) new StackMapFrames(3);
+        return o;
+    }
+
+    public static double powers(int n) {
+        int sum = 0;
+        double d = 1.0;
+        for (int i = 0; i < n; i++) {
+            sum = sum + i;
+            d = d * 2.0;
+        }
+        return d;
+    }
+
+    public static int caught(int n) {
+        try {
+            if (n > 0) {
+                throw new RuntimeException("positive");
+            }
+            return 1;
+        } catch (RuntimeException e) {
+            return 2;
+        }
+    }
+
+    public static int rows(int n) {
+        int[][] grid = new int[n][n + 1];
+        return grid.length + grid[0].length;
+    }
+}